@@ -23,6 +23,7 @@ final class ReverseSshChannelInitializer extends AbstractChannelInitializer<Netc
 
     private ReverseSshChannelInitializer(NetconfClientSessionNegotiatorFactory negotiatorFactory,
                                          NetconfClientSessionListener sessionListener) {
+        super(negotiatorFactory.getMaximumMessageSize());
         this.negotiatorFactory = negotiatorFactory;
         this.sessionListener = sessionListener;
     }
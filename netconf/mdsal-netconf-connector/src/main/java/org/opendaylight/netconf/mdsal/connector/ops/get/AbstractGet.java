@@ -9,12 +9,22 @@ package org.opendaylight.netconf.mdsal.connector.ops.get;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.FluentFuture;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.dom.DOMResult;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadOperations;
 import org.opendaylight.netconf.api.DocumentedException;
 import org.opendaylight.netconf.api.DocumentedException.ErrorSeverity;
 import org.opendaylight.netconf.api.DocumentedException.ErrorTag;
@@ -33,8 +43,12 @@ import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeConfiguration;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeModification;
 import org.opendaylight.yangtools.yang.data.codec.xml.XMLStreamNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.tree.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.w3c.dom.Document;
@@ -43,6 +57,7 @@ import org.w3c.dom.Node;
 
 public abstract class AbstractGet extends AbstractSingletonNetconfOperation {
     private static final XMLOutputFactory XML_OUTPUT_FACTORY;
+    private static final InMemoryDataTreeFactory DATA_TREE_FACTORY = new InMemoryDataTreeFactory();
     private static final YangInstanceIdentifier ROOT = YangInstanceIdentifier.empty();
     private static final String FILTER = "filter";
 
@@ -142,25 +157,87 @@ public abstract class AbstractGet extends AbstractSingletonNetconfOperation {
     }
 
     /**
-     * Obtain data root according to filter from operation element.
+     * Read data from specified paths. All reads are issued before waiting for any of them to complete.
+     *
+     * @param tx transaction to read from
+     * @param store datastore to read from
+     * @param dataRoots paths to read
+     * @return data present at the requested paths, in the order of requested paths
+     * @throws InterruptedException if interrupted while waiting for a read to complete
+     * @throws ExecutionException if any of the reads fails
+     */
+    protected static Map<YangInstanceIdentifier, NormalizedNode<?, ?>> readData(final DOMDataTreeReadOperations tx,
+            final LogicalDatastoreType store, final List<YangInstanceIdentifier> dataRoots)
+                throws InterruptedException, ExecutionException {
+        final Map<YangInstanceIdentifier, FluentFuture<Optional<NormalizedNode<?, ?>>>> futures =
+                new LinkedHashMap<>();
+        for (final YangInstanceIdentifier dataRoot : dataRoots) {
+            futures.put(dataRoot, tx.read(store, dataRoot));
+        }
+
+        final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> ret = new LinkedHashMap<>();
+        for (final Entry<YangInstanceIdentifier, FluentFuture<Optional<NormalizedNode<?, ?>>>> entry
+                : futures.entrySet()) {
+            final Optional<NormalizedNode<?, ?>> node = entry.getValue().get();
+            if (node.isPresent()) {
+                ret.put(entry.getKey(), node.get());
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Serialize data read from one or more paths into a single data element. Data read from multiple paths is merged,
+     * so that nodes common to more of them appear only once.
+     *
+     * @param document document to create the element in
+     * @param data data, as returned by {@link #readData(DOMDataTreeReadOperations, LogicalDatastoreType, List)}
+     * @return data element
+     */
+    protected Element serializeData(final Document document,
+                                    final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> data) {
+        if (data.isEmpty()) {
+            return document.createElement(XmlNetconfConstants.DATA_KEY);
+        }
+        if (data.size() == 1) {
+            final Entry<YangInstanceIdentifier, NormalizedNode<?, ?>> entry = data.entrySet().iterator().next();
+            return serializeNodeWithParentStructure(document, entry.getKey(), entry.getValue());
+        }
+        return (Element) transformNormalizedNode(document, mergeData(data), ROOT);
+    }
+
+    private NormalizedNode<?, ?> mergeData(final Map<YangInstanceIdentifier, NormalizedNode<?, ?>> data) {
+        final EffectiveModelContext context = schemaContext.getCurrentContext();
+        final DataTreeModification mod = DATA_TREE_FACTORY.create(DataTreeConfiguration.DEFAULT_OPERATIONAL, context)
+                .takeSnapshot().newModification();
+        for (final Entry<YangInstanceIdentifier, NormalizedNode<?, ?>> entry : data.entrySet()) {
+            final YangInstanceIdentifier path = entry.getKey();
+            mod.merge(YangInstanceIdentifier.create(path.getPathArguments().get(0)),
+                ImmutableNodes.fromInstanceId(context, path, entry.getValue()));
+        }
+        return mod.readNode(ROOT).get();
+    }
+
+    /**
+     * Obtain data roots according to filter from operation element.
      *
      * @param operationElement operation element
-     * @return if filter is present and not empty returns Optional of the InstanceIdentifier to the read location
-     *      in datastore. Empty filter returns Optional.absent() which should equal an empty &lt;data/&gt;
-     *      container in the response. If filter is not present we want to read the entire datastore - return ROOT.
-     * @throws DocumentedException if not possible to get identifier from filter
+     * @return if filter is present and not empty returns the InstanceIdentifiers of the read locations in datastore.
+     *      Empty filter returns an empty list, which should equal an empty &lt;data/&gt; container in the response.
+     *      If filter is not present we want to read the entire datastore - return ROOT.
+     * @throws DocumentedException if not possible to get identifiers from filter
      */
-    protected Optional<YangInstanceIdentifier> getDataRootFromFilter(final XmlElement operationElement)
+    protected List<YangInstanceIdentifier> getDataRootsFromFilter(final XmlElement operationElement)
             throws DocumentedException {
         final Optional<XmlElement> filterElement = operationElement.getOnlyChildElementOptionally(FILTER);
         if (filterElement.isPresent()) {
             if (filterElement.get().getChildElements().size() == 0) {
-                return Optional.empty();
+                return Collections.emptyList();
             }
-            return Optional.of(getInstanceIdentifierFromFilter(filterElement.get()));
+            return getInstanceIdentifiersFromFilter(filterElement.get());
         }
 
-        return Optional.of(ROOT);
+        return Collections.singletonList(ROOT);
     }
 
     @VisibleForTesting
@@ -176,6 +253,16 @@ public abstract class AbstractGet extends AbstractSingletonNetconfOperation {
         return validator.validate(element);
     }
 
+    @VisibleForTesting
+    protected List<YangInstanceIdentifier> getInstanceIdentifiersFromFilter(final XmlElement filterElement)
+            throws DocumentedException {
+        final List<YangInstanceIdentifier> ret = new ArrayList<>();
+        for (final XmlElement element : filterElement.getChildElements()) {
+            ret.addAll(validator.compile(element));
+        }
+        return FilterContentValidator.pruneNested(ret);
+    }
+
     protected static final class GetConfigExecution {
         private final Optional<Datastore> datastore;
 
@@ -17,9 +17,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.stream.XMLStreamWriter;
 import org.opendaylight.netconf.api.DocumentedException;
@@ -29,6 +33,7 @@ import org.opendaylight.netconf.mdsal.connector.CurrentSchemaContext;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.InstanceIdentifierBuilder;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.codec.xml.XmlCodecFactory;
 import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
 import org.opendaylight.yangtools.yang.data.util.codec.TypeAwareCodec;
@@ -83,6 +88,160 @@ public class FilterContentValidator {
         }
     }
 
+    /**
+     * Compiles filter content into a set of datastore reads. Unlike {@link #validate(XmlElement)}, which yields
+     * a single common root, this method branches at every node with multiple selection or content match children and
+     * turns list entries fully identified by their keys into direct entry lookups. A node whose filter children are
+     * all content match nodes is read as a whole, as RFC 6241 section 6.2.5 selects all of its children when the
+     * content matches. Paths nested within another returned path are not reported.
+     *
+     * @param filterContent filter content
+     * @return YangInstanceIdentifiers of the nodes to read, in filter order
+     * @throws DocumentedException if filter content validation failed
+     */
+    public List<YangInstanceIdentifier> compile(final XmlElement filterContent) throws DocumentedException {
+        final YangInstanceIdentifier root = validate(filterContent);
+        final DataSchemaNode schema = getRootDataSchemaNode(getModule(filterContent), getNamespace(filterContent),
+            filterContent.getName());
+        final Set<YangInstanceIdentifier> paths = new LinkedHashSet<>();
+        try {
+            compileNode(filterContent, schema, YangInstanceIdentifier.create(new NodeIdentifier(schema.getQName())),
+                paths);
+        } catch (final ValidationException e) {
+            // Should have been caught by validate()
+            LOG.debug("Filter content isn't valid", e);
+            return Collections.singletonList(root);
+        }
+        return pruneNested(paths);
+    }
+
+    /**
+     * Removes paths which are nested within another path from the collection.
+     *
+     * @param paths paths
+     * @return paths which do not have an ancestor in the input, in the input order
+     */
+    static List<YangInstanceIdentifier> pruneNested(final Collection<YangInstanceIdentifier> paths) {
+        final Set<YangInstanceIdentifier> unique = new LinkedHashSet<>(paths);
+        final List<YangInstanceIdentifier> ret = new ArrayList<>(unique.size());
+        for (final YangInstanceIdentifier path : unique) {
+            if (!hasAncestorIn(path, unique)) {
+                ret.add(path);
+            }
+        }
+        return ret;
+    }
+
+    private static boolean hasAncestorIn(final YangInstanceIdentifier path, final Set<YangInstanceIdentifier> paths) {
+        YangInstanceIdentifier current = path.getParent();
+        while (current != null) {
+            if (paths.contains(current)) {
+                return true;
+            }
+            current = current.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * Recursively compiles children of a filter element into read paths.
+     *
+     * @param element filter element
+     * @param schema  schema of the filter element
+     * @param path    path identifying the filter element
+     * @param paths   collected paths
+     * @throws ValidationException if filter content is not valid
+     */
+    private void compileNode(final XmlElement element, final DataSchemaNode schema, final YangInstanceIdentifier path,
+                             final Set<YangInstanceIdentifier> paths) throws ValidationException {
+        final List<XmlElement> childElements = element.getChildElements();
+        if (childElements.isEmpty() || childElements.stream().allMatch(FilterContentValidator::isContentMatchNode)) {
+            // Either a selection node, or a node whose children are all content match nodes. The subtree filter
+            // selects the entire node in the latter case, hence we need to read all of it.
+            paths.add(path);
+            return;
+        }
+
+        // Group sibling elements by their schema, so that multiple list entries are handled together
+        final Map<QName, List<XmlElement>> groups = new LinkedHashMap<>();
+        final Map<QName, Deque<DataSchemaNode>> schemas = new HashMap<>();
+        for (final XmlElement childElement : childElements) {
+            final Deque<DataSchemaNode> schemaPath = findChildSchema(element, schema, childElement);
+            final QName name = schemaPath.getLast().getQName();
+            groups.computeIfAbsent(name, key -> new ArrayList<>()).add(childElement);
+            schemas.putIfAbsent(name, schemaPath);
+        }
+
+        for (final Entry<QName, List<XmlElement>> group : groups.entrySet()) {
+            final Deque<DataSchemaNode> schemaPath = schemas.get(group.getKey());
+            final InstanceIdentifierBuilder builder = YangInstanceIdentifier.builder(path);
+            for (final DataSchemaNode dataSchemaNode : schemaPath) {
+                if (!(dataSchemaNode instanceof CaseSchemaNode)) {
+                    builder.node(dataSchemaNode.getQName());
+                }
+            }
+            final YangInstanceIdentifier childPath = builder.build();
+            final DataSchemaNode childSchema = schemaPath.getLast();
+            final List<XmlElement> elements = group.getValue();
+
+            if (childSchema instanceof ListSchemaNode) {
+                compileList(elements, (ListSchemaNode) childSchema, childPath, paths);
+            } else if (elements.size() == 1) {
+                compileNode(elements.get(0), childSchema, childPath, paths);
+            } else {
+                paths.add(childPath);
+            }
+        }
+    }
+
+    private static boolean isContentMatchNode(final XmlElement element) {
+        return element.getChildElements().isEmpty() && element.getOnlyTextContentOptionally().isPresent();
+    }
+
+    private void compileList(final List<XmlElement> elements, final ListSchemaNode listSchemaNode,
+                             final YangInstanceIdentifier listPath, final Set<YangInstanceIdentifier> paths) {
+        final int keyCount = listSchemaNode.getKeyDefinition().size();
+        final List<YangInstanceIdentifier> entryPaths = new ArrayList<>(elements.size());
+        for (final XmlElement element : elements) {
+            final Map<QName, Object> keys = getKeyValues(element, listSchemaNode);
+            if (keyCount == 0 || keys.size() != keyCount) {
+                // At least one entry is not fully identified, we need to read the whole list
+                paths.add(listPath);
+                return;
+            }
+            entryPaths.add(YangInstanceIdentifier.builder(listPath).nodeWithKey(listSchemaNode.getQName(), keys)
+                .build());
+        }
+        paths.addAll(entryPaths);
+    }
+
+    private static Deque<DataSchemaNode> findChildSchema(final XmlElement element, final DataSchemaNode schema,
+            final XmlElement childElement) throws ValidationException {
+        final Deque<DataSchemaNode> path;
+        try {
+            path = findSchemaNodeByNameAndNamespace(schema, childElement.getName(),
+                new URI(childElement.getNamespace()));
+        } catch (URISyntaxException | MissingNameSpaceException e) {
+            throw new RuntimeException("Wrong namespace in element + " + childElement.toString(), e);
+        }
+        if (path.isEmpty()) {
+            throw new ValidationException(element, childElement);
+        }
+        return path;
+    }
+
+    private Module getModule(final XmlElement filterContent) {
+        return schemaContext.getCurrentContext().findModules(getNamespace(filterContent)).iterator().next();
+    }
+
+    private static URI getNamespace(final XmlElement filterContent) {
+        try {
+            return new URI(filterContent.getNamespace());
+        } catch (final URISyntaxException | MissingNameSpaceException e) {
+            throw new RuntimeException("Wrong namespace in element + " + filterContent.toString(), e);
+        }
+    }
+
     /**
      * Returns module's child data node of given name space and name.
      *
@@ -193,6 +352,10 @@ public class FilterContentValidator {
             }
             current = childElements.get(0);
         }
+        return getKeyValues(current, listSchemaNode);
+    }
+
+    private Map<QName, Object> getKeyValues(final XmlElement current, final ListSchemaNode listSchemaNode) {
         final Map<QName, Object> keys = new HashMap<>();
         final List<QName> keyDefinition = listSchemaNode.getKeyDefinition();
         for (final QName qualifiedName : keyDefinition) {
@@ -209,7 +372,7 @@ public class FilterContentValidator {
                 } else {
                     final TypeDefinition<? extends TypeDefinition<?>> keyType = listKey.getType();
                     if (keyType instanceof IdentityrefTypeDefinition || keyType instanceof LeafrefTypeDefinition) {
-                        final Document document = filterContent.getDomElement().getOwnerDocument();
+                        final Document document = current.getDomElement().getOwnerDocument();
                         final NamespaceContext nsContext = new UniversalNamespaceContextImpl(document, false);
                         final XmlCodecFactory xmlCodecFactory =
                                 XmlCodecFactory.create(schemaContext.getCurrentContext());
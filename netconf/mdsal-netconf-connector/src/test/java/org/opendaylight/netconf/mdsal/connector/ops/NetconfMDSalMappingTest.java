@@ -13,6 +13,8 @@ import static org.junit.Assert.fail;
 
 import java.io.StringWriter;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
@@ -49,6 +51,7 @@ public class NetconfMDSalMappingTest extends AbstractNetconfOperationTest {
     private static final QName USERS = QName.create("urn:opendaylight:mdsal:mapping:test", "2015-02-26", "users");
     private static final QName USER = QName.create("urn:opendaylight:mdsal:mapping:test", "2015-02-26", "user");
     private static final QName MODULES = QName.create("urn:opendaylight:mdsal:mapping:test", "2015-02-26", "modules");
+    private static final QName USER_NAME = QName.create("urn:opendaylight:mdsal:mapping:test", "2015-02-26", "name");
     private static final QName AUGMENTED_CONTAINER = QName.create("urn:opendaylight:mdsal:mapping:test",
             "2015-02-26", "augmented-container");
     private static final QName AUGMENTED_STRING_IN_CONT = QName.create("urn:opendaylight:mdsal:mapping:test",
@@ -604,6 +607,35 @@ public class NetconfMDSalMappingTest extends AbstractNetconfOperationTest {
 //        verifyResponse(getConfigWithFilter("messages/mapping/filters/get-filter-augmented-case-inner-case.xml"),
 //                XmlFileLoader.xmlFileToDocument("messages/mapping/filters/response-augmented-case-inner-choice.xml"));
 
+        verifyFilterIdentifiers("messages/mapping/filters/get-filter-modules-and-admin.xml",
+                YangInstanceIdentifier.builder().node(TOP).node(USERS).node(USER)
+                        .nodeWithKey(USER, USER_NAME, "admin").build(),
+                YangInstanceIdentifier.builder().node(TOP).node(MODULES).build());
+        verifyFilterIdentifiers("messages/mapping/filters/get-filter-company-info.xml",
+                YangInstanceIdentifier.builder().node(TOP).node(USERS).node(USER)
+                        .nodeWithKey(USER, USER_NAME, "root").build(),
+                YangInstanceIdentifier.builder().node(TOP).node(USERS).node(USER)
+                        .nodeWithKey(USER, USER_NAME, "admin").build(),
+                YangInstanceIdentifier.builder().node(TOP).node(USERS).node(USER)
+                        .nodeWithKey(USER, USER_NAME, "regular").build());
+        verifyFilterIdentifiers("messages/mapping/filters/get-filter-only-names-types.xml",
+                YangInstanceIdentifier.builder().node(TOP).node(USERS).node(USER).build());
+        verifyFilterIdentifiers("messages/mapping/filters/get-filter-multiple-roots.xml",
+                YangInstanceIdentifier.builder().node(TOP).node(USERS).node(USER)
+                        .nodeWithKey(USER, USER_NAME, "admin").build(),
+                YangInstanceIdentifier.builder().node(TOP).node(USERS).node(USER)
+                        .nodeWithKey(USER, USER_NAME, "regular").build(),
+                YangInstanceIdentifier.builder().node(TOP).node(CHOICE_NODE).node(AUGMENTED_CASE).build());
+
+        verifyResponse(getConfigWithFilter("messages/mapping/filters/get-filter-multiple-roots.xml"),
+                XmlFileLoader.xmlFileToDocument("messages/mapping/filters/response-multiple-roots.xml"));
+
+        // Content match nodes only, the entire parent has to be read
+        verifyFilterIdentifiers("messages/mapping/filters/get-filter-content-match-only.xml",
+                YangInstanceIdentifier.builder().node(TOP).build());
+        verifyResponse(getConfigWithFilter("messages/mapping/filters/get-filter-content-match-only.xml"),
+                XmlFileLoader.xmlFileToDocument("messages/mapping/filters/response-content-match-only.xml"));
+
         verifyResponse(edit("messages/mapping/editConfigs/editConfig_delete-top.xml"), RPC_REPLY_OK);
         verifyResponse(commit(), RPC_REPLY_OK);
 
@@ -618,6 +650,14 @@ public class NetconfMDSalMappingTest extends AbstractNetconfOperationTest {
         assertEquals(identifier, iid);
     }
 
+    private void verifyFilterIdentifiers(final String resource, final YangInstanceIdentifier... identifiers)
+            throws Exception {
+        final TestingGetConfig getConfig = new TestingGetConfig(SESSION_ID_FOR_REPORTING, getCurrentSchemaContext(),
+                getTransactionProvider());
+        final Document request = XmlFileLoader.xmlFileToDocument(resource);
+        assertEquals(Arrays.asList(identifiers), getConfig.getInstanceIdentifiersFromDocument(request));
+    }
+
     private class TestingGetConfig extends GetConfig {
         TestingGetConfig(final String sessionId, final CurrentSchemaContext schemaContext,
                          final TransactionProvider transactionProvider) {
@@ -629,6 +669,13 @@ public class NetconfMDSalMappingTest extends AbstractNetconfOperationTest {
                     .getOnlyChildElement(FILTER_NODE);
             return getInstanceIdentifierFromFilter(filterElement);
         }
+
+        List<YangInstanceIdentifier> getInstanceIdentifiersFromDocument(final Document request)
+                throws DocumentedException {
+            final XmlElement filterElement = XmlElement.fromDomDocument(request).getOnlyChildElement(GET_CONFIG)
+                    .getOnlyChildElement(FILTER_NODE);
+            return getInstanceIdentifiersFromFilter(filterElement);
+        }
     }
 
     private void deleteDatastore() throws Exception {
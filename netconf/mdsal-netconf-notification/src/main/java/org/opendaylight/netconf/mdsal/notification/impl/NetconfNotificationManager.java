@@ -11,16 +11,25 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.HashMultiset;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.checkerframework.checker.lock.qual.GuardedBy;
@@ -50,7 +59,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- *  A thread-safe implementation NetconfNotificationRegistry.
+ * A thread-safe implementation NetconfNotificationRegistry.
+ *
+ * <p>
+ * Notification delivery does not take any locks: listeners are kept in a copy-on-write registry and each of them has
+ * its own bounded delivery queue, which is drained asynchronously. Queues are drained serially, preserving delivery
+ * order, by a pool of threads shared by all subscribers. Each drain delivers a limited batch before yielding to other
+ * subscribers. The pool is sized to the number of subscribers and each subscriber has at most one drain outstanding,
+ * hence a subscriber which blocks, even indefinitely, occupies only its own thread and cannot stall publishers or
+ * other subscribers. Idle threads are released. Once a subscriber's queue is full, further notifications for that
+ * subscriber are dropped.
+ * Publisher and stream listener registrations are rare and remain serialized on this object, so that stream listeners
+ * observe a consistent sequence of stream registrations and unregistrations.
  */
 @Singleton
 public class NetconfNotificationManager implements NetconfNotificationCollector, NetconfNotificationRegistry,
@@ -64,49 +84,89 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
                 .setDescription("Default Event Stream")
                 .build();
 
+    /**
+     * Default number of notifications which can be queued for a single subscriber before they start being dropped.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
     private static final Logger LOG = LoggerFactory.getLogger(NetconfNotificationManager.class);
 
-    // TODO excessive synchronization provides thread safety but is most likely not optimal
-    // (combination of concurrent collections might improve performance)
-    // And also calling callbacks from a synchronized block is dangerous
-    // since the listeners/publishers can block the whole notification processing
+    // Maximum number of notifications delivered to a subscriber before its delivery yields to other subscribers
+    private static final int DELIVERY_BATCH_SIZE = 64;
 
-    @GuardedBy("this")
-    private final Multimap<StreamNameType, GenericNotificationListenerReg> notificationListeners =
-            HashMultimap.create();
+    // All listeners are currently registered to the base stream, hence a single set is sufficient
+    private final Set<GenericNotificationListenerReg> notificationListeners = new CopyOnWriteArraySet<>();
 
-    @GuardedBy("this")
-    private final Set<NetconfNotificationStreamListener> streamListeners = new HashSet<>();
+    private final Set<NetconfNotificationStreamListener> streamListeners = new CopyOnWriteArraySet<>();
 
-    @GuardedBy("this")
-    private final Map<StreamNameType, Stream> streamMetadata = new HashMap<>();
+    private final Map<StreamNameType, Stream> streamMetadata = new ConcurrentHashMap<>();
 
-    @GuardedBy("this")
-    private final Multiset<StreamNameType> availableStreams = HashMultiset.create();
+    private final Multiset<StreamNameType> availableStreams = ConcurrentHashMultiset.create();
 
     @GuardedBy("this")
     private final Set<GenericNotificationPublisherReg> notificationPublishers = new HashSet<>();
     private final NotificationsTransformUtil transformUtil;
+    private final ThreadPoolExecutor deliveryExecutor;
+    private final int queueCapacity;
+    @GuardedBy("deliveryExecutor")
+    private int deliveryThreads;
 
     @Inject
     public NetconfNotificationManager(final NotificationsTransformUtil transformUtil) {
+        this(transformUtil, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Create a new manager.
+     *
+     * @param transformUtil notification transformation utility
+     * @param queueCapacity maximum number of notifications queued for a single subscriber
+     * @throws IllegalArgumentException if {@code queueCapacity} is not positive
+     */
+    public NetconfNotificationManager(final NotificationsTransformUtil transformUtil, final int queueCapacity) {
+        checkArgument(queueCapacity > 0, "Invalid queue capacity %s", queueCapacity);
         this.transformUtil = requireNonNull(transformUtil);
+        this.queueCapacity = queueCapacity;
+        // Starts with a single thread, grown and shrunk as listeners come and go
+        deliveryExecutor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("netconf-notification-delivery-%d").setDaemon(true).build());
+        deliveryExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Adjust the number of delivery threads, so there is one for each listener. The executor only starts a thread
+     * for a task when it has less than core threads, hence both core and maximum sizes are adjusted.
+     *
+     * @param delta change in the number of listeners
+     */
+    private void resizeDeliveryExecutor(final int delta) {
+        synchronized (deliveryExecutor) {
+            deliveryThreads += delta;
+            final int size = Math.max(1, deliveryThreads);
+            if (size > deliveryExecutor.getMaximumPoolSize()) {
+                deliveryExecutor.setMaximumPoolSize(size);
+                deliveryExecutor.setCorePoolSize(size);
+            } else {
+                deliveryExecutor.setCorePoolSize(size);
+                deliveryExecutor.setMaximumPoolSize(size);
+            }
+        }
     }
 
     @Override
-    public synchronized void onNotification(final StreamNameType stream, final NetconfNotification notification) {
+    public void onNotification(final StreamNameType stream, final NetconfNotification notification) {
         LOG.debug("Notification of type {} detected", stream);
         if (LOG.isTraceEnabled()) {
             LOG.debug("Notification of type {} detected: {}", stream, notification);
         }
 
-        for (final GenericNotificationListenerReg listenerReg : notificationListeners.get(BASE_STREAM_NAME)) {
-            listenerReg.getListener().onNotification(BASE_STREAM_NAME, notification);
+        for (final GenericNotificationListenerReg listenerReg : notificationListeners) {
+            listenerReg.enqueue(notification);
         }
     }
 
     @Override
-    public synchronized NotificationListenerRegistration registerNotificationListener(
+    public NotificationListenerRegistration registerNotificationListener(
             final StreamNameType stream,
             final NetconfNotificationListener listener) {
         requireNonNull(stream);
@@ -115,27 +175,19 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         LOG.trace("Notification listener registered for stream: {}", stream);
 
         final GenericNotificationListenerReg genericNotificationListenerReg =
-                new GenericNotificationListenerReg(listener) {
-            @Override
-            public void close() {
-                synchronized (NetconfNotificationManager.this) {
-                    LOG.trace("Notification listener unregistered for stream: {}", stream);
-                    super.close();
-                }
-            }
-        };
-
-        notificationListeners.put(BASE_STREAM_NAME, genericNotificationListenerReg);
+                new GenericNotificationListenerReg(listener, stream);
+        resizeDeliveryExecutor(1);
+        notificationListeners.add(genericNotificationListenerReg);
         return genericNotificationListenerReg;
     }
 
     @Override
-    public synchronized Streams getNotificationPublishers() {
+    public Streams getNotificationPublishers() {
         return new StreamsBuilder().setStream(Maps.uniqueIndex(streamMetadata.values(), Stream::key)).build();
     }
 
     @Override
-    public synchronized boolean isStreamAvailable(final StreamNameType streamNameType) {
+    public boolean isStreamAvailable(final StreamNameType streamNameType) {
         return availableStreams.contains(streamNameType);
     }
 
@@ -149,29 +201,27 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
             listener.onStreamRegistered(availableStream);
         }
 
-        return () -> {
-            synchronized (NetconfNotificationManager.this) {
-                streamListeners.remove(listener);
-            }
-        };
+        return () -> streamListeners.remove(listener);
     }
 
     @Override
     public synchronized void close() {
         // Unregister all listeners
-        for (final GenericNotificationListenerReg genericNotificationListenerReg : notificationListeners.values()) {
+        for (final GenericNotificationListenerReg genericNotificationListenerReg : notificationListeners) {
             genericNotificationListenerReg.close();
         }
         notificationListeners.clear();
 
         // Unregister all publishers
-        for (final GenericNotificationPublisherReg notificationPublisher : notificationPublishers) {
+        for (final GenericNotificationPublisherReg notificationPublisher : new HashSet<>(notificationPublishers)) {
             notificationPublisher.close();
         }
         notificationPublishers.clear();
 
         // Clear stream Listeners
         streamListeners.clear();
+
+        deliveryExecutor.shutdown();
     }
 
     @Override
@@ -183,11 +233,9 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
             LOG.trace("Notification publisher registered for stream: {}", stream);
         }
 
-        if (streamMetadata.containsKey(streamName)) {
-            LOG.warn("Notification stream {} already registered as: {}. Will be reused", streamName,
-                    streamMetadata.get(streamName));
-        } else {
-            streamMetadata.put(streamName, stream);
+        final Stream existing = streamMetadata.putIfAbsent(streamName, stream);
+        if (existing != null) {
+            LOG.warn("Notification stream {} already registered as: {}. Will be reused", streamName, existing);
         }
 
         availableStreams.add(streamName);
@@ -226,13 +274,13 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         }
     }
 
-    private synchronized void notifyStreamAdded(final Stream stream) {
+    private void notifyStreamAdded(final Stream stream) {
         for (final NetconfNotificationStreamListener streamListener : streamListeners) {
             streamListener.onStreamRegistered(stream);
         }
     }
 
-    private synchronized void notifyStreamRemoved(final StreamNameType stream) {
+    private void notifyStreamRemoved(final StreamNameType stream) {
         for (final NetconfNotificationStreamListener streamListener : streamListeners) {
             streamListener.onStreamUnregistered(stream);
         }
@@ -341,20 +389,107 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         }
     }
 
-    private class GenericNotificationListenerReg implements NotificationListenerRegistration {
+    @VisibleForTesting
+    final class GenericNotificationListenerReg implements NotificationListenerRegistration, Runnable {
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean threadReleased = new AtomicBoolean();
+        private final AtomicLong droppedNotifications = new AtomicLong();
+        private final Queue<NetconfNotification> queue;
         private final NetconfNotificationListener listener;
+        private final StreamNameType stream;
+
+        private volatile boolean closed;
 
-        GenericNotificationListenerReg(final NetconfNotificationListener listener) {
+        GenericNotificationListenerReg(final NetconfNotificationListener listener, final StreamNameType stream) {
             this.listener = listener;
+            this.stream = stream;
+            queue = new ArrayBlockingQueue<>(queueCapacity);
         }
 
         public NetconfNotificationListener getListener() {
             return listener;
         }
 
+        @VisibleForTesting
+        long getDroppedNotificationCount() {
+            return droppedNotifications.get();
+        }
+
+        void enqueue(final NetconfNotification notification) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(notification)) {
+                final long dropped = droppedNotifications.incrementAndGet();
+                if (dropped == 1) {
+                    LOG.warn("Notification queue of listener {} for stream {} is full, dropping notifications",
+                        listener, stream);
+                } else {
+                    LOG.debug("Dropped notification {} for listener {}, {} dropped so far", notification, listener,
+                        dropped);
+                }
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    deliveryExecutor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Delivery to listener {} rejected, manager is shutting down", listener, e);
+                    queue.clear();
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        public void run() {
+            for (int i = 0; i < DELIVERY_BATCH_SIZE && !closed; ++i) {
+                final NetconfNotification notification = queue.poll();
+                if (notification == null) {
+                    break;
+                }
+                try {
+                    listener.onNotification(BASE_STREAM_NAME, notification);
+                } catch (RuntimeException e) {
+                    LOG.warn("Listener {} failed to process notification {}", listener, notification, e);
+                }
+            }
+            scheduled.set(false);
+            if (closed) {
+                // close() may have seen us running and left releasing the thread to us
+                releaseDeliveryThread();
+                return;
+            }
+
+            // Continue with the rest of the batch, or with notifications enqueued after we have drained the queue,
+            // but before we have reset the scheduled flag. This goes through the executor, so other subscribers get
+            // their turn.
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void releaseDeliveryThread() {
+            if (threadReleased.compareAndSet(false, true)) {
+                resizeDeliveryExecutor(-1);
+            }
+        }
+
         @Override
         public void close() {
-            notificationListeners.remove(BASE_STREAM_NAME, this);
+            closed = true;
+            notificationListeners.remove(this);
+            queue.clear();
+            // A delivery in progress keeps using its thread, hence the thread is released only once it finishes
+            if (!scheduled.get()) {
+                releaseDeliveryThread();
+            }
+            LOG.trace("Notification listener unregistered for stream: {}", stream);
         }
     }
 }
@@ -8,10 +8,13 @@
 package org.opendaylight.netconf.mdsal.notification.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -20,8 +23,12 @@ import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -152,7 +159,7 @@ public class NetconfNotificationManagerTest {
         final NetconfCapabilityChange notification = capabilityChangedBuilder.build();
         baseNotificationPublisherRegistration.onCapabilityChanged(notification);
 
-        verify(listener).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+        verify(listener, timeout(5000)).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
 
         notificationListenerRegistration.close();
 
@@ -216,6 +223,86 @@ public class NetconfNotificationManagerTest {
         verify(streamListener).onStreamUnregistered(NetconfNotificationManager.BASE_STREAM_NAME);
     }
 
+    @Test
+    public void testSlowListener() throws Exception {
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(
+            mock(NotificationsTransformUtil.class), 1);
+
+        // More blocked listeners than there are processors, none of them may hold up the fast listener
+        final int slowListeners = Runtime.getRuntime().availableProcessors() + 4;
+        final CountDownLatch entered = new CountDownLatch(slowListeners);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch processed = new CountDownLatch(2 * slowListeners);
+        final NetconfNotificationListener slowListener = (stream, notification) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            processed.countDown();
+        };
+        final NetconfNotificationListener fastListener = mock(NetconfNotificationListener.class);
+
+        final List<NetconfNotificationManager.GenericNotificationListenerReg> slowRegs = new ArrayList<>();
+        for (int i = 0; i < slowListeners; ++i) {
+            slowRegs.add((NetconfNotificationManager.GenericNotificationListenerReg) netconfNotificationManager
+                .registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME, slowListener));
+        }
+        final NetconfNotificationManager.GenericNotificationListenerReg fastReg =
+            (NetconfNotificationManager.GenericNotificationListenerReg) netconfNotificationManager
+                .registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME, fastListener);
+
+        final NetconfNotification notification = mock(NetconfNotification.class);
+        netconfNotificationManager.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification);
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        verify(fastListener, timeout(5000)).onNotification(NetconfNotificationManager.BASE_STREAM_NAME,
+            notification);
+
+        // The first notification is being processed, the second one is queued and the third one is dropped
+        netconfNotificationManager.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification);
+        netconfNotificationManager.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification);
+        for (NetconfNotificationManager.GenericNotificationListenerReg reg : slowRegs) {
+            assertEquals(1, reg.getDroppedNotificationCount());
+        }
+
+        // Fast listener keeps receiving everything while all slow listeners are blocked
+        verify(fastListener, timeout(5000).times(3)).onNotification(NetconfNotificationManager.BASE_STREAM_NAME,
+            notification);
+        assertEquals(0, fastReg.getDroppedNotificationCount());
+
+        // Once released, slow listeners process what they have queued, but never the dropped notifications
+        release.countDown();
+        assertTrue(processed.await(5, TimeUnit.SECONDS));
+        netconfNotificationManager.close();
+        verify(fastListener, times(3)).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+    }
+
+    @Test
+    public void testDeliveryOrderAcrossBatches() throws Exception {
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(
+            mock(NotificationsTransformUtil.class), 1024);
+
+        final List<NetconfNotification> received = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(500);
+        netconfNotificationManager.registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME,
+            (stream, notification) -> {
+                received.add(notification);
+                done.countDown();
+            });
+
+        final List<NetconfNotification> sent = new ArrayList<>();
+        for (int i = 0; i < 500; ++i) {
+            final NetconfNotification notification = mock(NetconfNotification.class);
+            sent.add(notification);
+            netconfNotificationManager.onNotification(NetconfNotificationManager.BASE_STREAM_NAME, notification);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(sent, received);
+        netconfNotificationManager.close();
+    }
+
     private static NetconfNotificationManager createManager() {
         return new NetconfNotificationManager(new NotificationsTransformUtil(new YangParserFactoryImpl(),
             new DefaultBindingRuntimeGenerator(), new DefaultBindingDOMCodecFactory()));
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.function.Function;
 import org.opendaylight.netconf.api.messages.NetconfHelloMessageAdditionalHeader;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoInputStream;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoOutputStream;
@@ -45,7 +46,7 @@ public class RemoteNetconfCommand implements AsyncCommand {
     private static final Logger LOG = LoggerFactory.getLogger(RemoteNetconfCommand.class);
 
     private final EventLoopGroup clientEventGroup;
-    private final LocalAddress localAddress;
+    private final Function<String, LocalAddress> localAddressSelector;
 
     private IoInputStream in;
     private IoOutputStream out;
@@ -56,8 +57,13 @@ public class RemoteNetconfCommand implements AsyncCommand {
     private ChannelFuture clientChannelFuture;
 
     public RemoteNetconfCommand(final EventLoopGroup clientEventGroup, final LocalAddress localAddress) {
+        this(clientEventGroup, username -> localAddress);
+    }
+
+    public RemoteNetconfCommand(final EventLoopGroup clientEventGroup,
+            final Function<String, LocalAddress> localAddressSelector) {
         this.clientEventGroup = clientEventGroup;
-        this.localAddress = localAddress;
+        this.localAddressSelector = requireNonNull(localAddressSelector);
     }
 
     @Override
@@ -118,6 +124,14 @@ public class RemoteNetconfCommand implements AsyncCommand {
         netconfHelloMessageAdditionalHeader = new NetconfHelloMessageAdditionalHeader(session.getUsername(), hostName,
             port, "ssh", "client");
 
+        final LocalAddress localAddress = localAddressSelector.apply(session.getUsername());
+        if (localAddress == null) {
+            LOG.warn("No internal netconf server for user {} of client: {}", session.getUsername(), getClientAddress());
+            requireNonNull(callback, "Exit callback must be set").onExit(1,
+                "No netconf server available for user " + session.getUsername());
+            return;
+        }
+
         LOG.trace("Establishing internal connection to netconf server for client: {}", getClientAddress());
 
         final Bootstrap clientBootstrap = new Bootstrap();
@@ -148,7 +162,9 @@ public class RemoteNetconfCommand implements AsyncCommand {
         LOG.trace("Releasing internal connection to netconf server for client: {} on channel: {}",
                 getClientAddress(), clientChannel);
 
-        clientChannelFuture.cancel(true);
+        if (clientChannelFuture != null) {
+            clientChannelFuture.cancel(true);
+        }
         if (clientChannel != null) {
             clientChannel.close().addListener(future -> {
                 if (!future.isSuccess()) {
@@ -168,12 +184,16 @@ public class RemoteNetconfCommand implements AsyncCommand {
         public static final String NETCONF = "netconf";
 
         private final EventLoopGroup clientBootstrap;
-        private final LocalAddress localAddress;
+        private final Function<String, LocalAddress> localAddressSelector;
 
         public NetconfCommandFactory(final EventLoopGroup clientBootstrap, final LocalAddress localAddress) {
+            this(clientBootstrap, username -> localAddress);
+        }
 
+        public NetconfCommandFactory(final EventLoopGroup clientBootstrap,
+                final Function<String, LocalAddress> localAddressSelector) {
             this.clientBootstrap = clientBootstrap;
-            this.localAddress = localAddress;
+            this.localAddressSelector = requireNonNull(localAddressSelector);
         }
 
         @Override
@@ -183,7 +203,7 @@ public class RemoteNetconfCommand implements AsyncCommand {
 
         @Override
         public Command createSubsystem(final ChannelSession channel) {
-            return new RemoteNetconfCommand(clientBootstrap, localAddress);
+            return new RemoteNetconfCommand(clientBootstrap, localAddressSelector);
         }
     }
 }
@@ -74,7 +74,7 @@ final class SshProxyClientHandler extends ChannelInboundHandlerAdapter {
     }
 
     private void writeAdditionalHeader(final ChannelHandlerContext ctx) {
-        ctx.writeAndFlush(Unpooled.copiedBuffer(netconfHelloMessageAdditionalHeader.toFormattedString()
+        ctx.writeAndFlush(Unpooled.wrappedBuffer(netconfHelloMessageAdditionalHeader.toFormattedString()
                 .getBytes(StandardCharsets.UTF_8)));
     }
 
@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNull;
 import io.netty.channel.local.LocalAddress;
 import java.net.InetSocketAddress;
 import java.util.Optional;
+import java.util.function.Function;
 import org.opendaylight.netconf.auth.AuthProvider;
 import org.opendaylight.netconf.shaded.sshd.common.keyprovider.KeyPairProvider;
 import org.opendaylight.netconf.shaded.sshd.server.auth.pubkey.PublickeyAuthenticator;
@@ -20,6 +21,7 @@ import org.opendaylight.netconf.shaded.sshd.server.auth.pubkey.PublickeyAuthenti
 public final class SshProxyServerConfiguration {
     private final InetSocketAddress bindingAddress;
     private final LocalAddress localAddress;
+    private final Function<String, LocalAddress> localAddressSelector;
     private final AuthProvider authenticator;
     private final KeyPairProvider keyPairProvider;
     private final int idleTimeout;
@@ -28,8 +30,18 @@ public final class SshProxyServerConfiguration {
     SshProxyServerConfiguration(final InetSocketAddress bindingAddress, final LocalAddress localAddress,
                                 final AuthProvider authenticator, final PublickeyAuthenticator publickeyAuthenticator,
                                 final KeyPairProvider keyPairProvider, final int idleTimeout) {
+        this(bindingAddress, localAddress, null, authenticator, publickeyAuthenticator, keyPairProvider, idleTimeout);
+    }
+
+    SshProxyServerConfiguration(final InetSocketAddress bindingAddress, final LocalAddress localAddress,
+                                final Function<String, LocalAddress> localAddressSelector,
+                                final AuthProvider authenticator, final PublickeyAuthenticator publickeyAuthenticator,
+                                final KeyPairProvider keyPairProvider, final int idleTimeout) {
         this.bindingAddress = requireNonNull(bindingAddress);
-        this.localAddress = requireNonNull(localAddress);
+        checkArgument(localAddress != null || localAddressSelector != null,
+            "Either local address or local address selector has to be set");
+        this.localAddress = localAddress;
+        this.localAddressSelector = localAddressSelector != null ? localAddressSelector : username -> localAddress;
         this.authenticator = requireNonNull(authenticator);
         this.keyPairProvider = requireNonNull(keyPairProvider);
         // Idle timeout cannot be disabled in the sshd by using =< 0 value
@@ -46,6 +58,17 @@ public final class SshProxyServerConfiguration {
         return localAddress;
     }
 
+    /**
+     * Return the function selecting the local address to which a session is proxied, based on the name of the
+     * authenticated user. The function returns {@code null} if there is no local server for that user. Unless a
+     * selector has been explicitly configured, this function always returns {@link #getLocalAddress()}.
+     *
+     * @return Local address selector
+     */
+    public Function<String, LocalAddress> getLocalAddressSelector() {
+        return localAddressSelector;
+    }
+
     public AuthProvider getAuthenticator() {
         return authenticator;
     }
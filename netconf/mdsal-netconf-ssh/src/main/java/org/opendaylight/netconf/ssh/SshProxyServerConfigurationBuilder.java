@@ -9,6 +9,7 @@ package org.opendaylight.netconf.ssh;
 
 import io.netty.channel.local.LocalAddress;
 import java.net.InetSocketAddress;
+import java.util.function.Function;
 import org.opendaylight.netconf.auth.AuthProvider;
 import org.opendaylight.netconf.shaded.sshd.common.keyprovider.KeyPairProvider;
 import org.opendaylight.netconf.shaded.sshd.server.auth.pubkey.PublickeyAuthenticator;
@@ -16,6 +17,7 @@ import org.opendaylight.netconf.shaded.sshd.server.auth.pubkey.PublickeyAuthenti
 public final class SshProxyServerConfigurationBuilder {
     private InetSocketAddress bindingAddress;
     private LocalAddress localAddress;
+    private Function<String, LocalAddress> localAddressSelector;
     private AuthProvider authenticator;
     private KeyPairProvider keyPairProvider;
     private int idleTimeout;
@@ -31,6 +33,20 @@ public final class SshProxyServerConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Set a function selecting the local address to which a session is proxied, based on the name of the
+     * authenticated user. This allows a single SSH server to front multiple local servers. The function should return
+     * {@code null} if there is no local server for that user, in which case the session is refused.
+     *
+     * @param localAddressSelector local address selector
+     * @return This builder
+     */
+    public SshProxyServerConfigurationBuilder setLocalAddressSelector(
+            final Function<String, LocalAddress> localAddressSelector) {
+        this.localAddressSelector = localAddressSelector;
+        return this;
+    }
+
     public SshProxyServerConfigurationBuilder setAuthenticator(final AuthProvider authenticator) {
         this.authenticator = authenticator;
         return this;
@@ -53,8 +69,8 @@ public final class SshProxyServerConfigurationBuilder {
     }
 
     public SshProxyServerConfiguration createSshProxyServerConfiguration() {
-        return new SshProxyServerConfiguration(bindingAddress, localAddress, authenticator, publickeyAuthenticator,
-                keyPairProvider, idleTimeout);
+        return new SshProxyServerConfiguration(bindingAddress, localAddress, localAddressSelector, authenticator,
+                publickeyAuthenticator, keyPairProvider, idleTimeout);
     }
 
     public static SshProxyServerConfigurationBuilder create() {
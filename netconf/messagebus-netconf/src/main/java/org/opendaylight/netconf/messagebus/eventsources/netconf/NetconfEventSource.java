@@ -10,22 +10,21 @@ package org.opendaylight.netconf.messagebus.eventsources.netconf;
 import static com.google.common.util.concurrent.Futures.immediateFuture;
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
-import java.util.regex.Pattern;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.dom.DOMResult;
 import javax.xml.transform.dom.DOMSource;
@@ -58,7 +57,6 @@ import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DOMSourceAnyxmlNode;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
-import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
@@ -87,12 +85,19 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
 
     private final Map<String, String> urnPrefixToStreamMap; // key = urnPrefix, value = StreamName
 
+    private final NetconfEventSourceMount mount;
+    private final NotificationPatternIndex patternIndex;
+
     /**
-     * Map notification uri -> registrations.
+     * Map notification uri -> registrations. Populated once during construction.
      */
-    private final Multimap<String, NotificationTopicRegistration>
-            notificationTopicRegistrations = Multimaps.synchronizedListMultimap(ArrayListMultimap.create());
-    private final NetconfEventSourceMount mount;
+    private final ImmutableListMultimap<String, NotificationTopicRegistration> notificationTopicRegistrations;
+
+    /**
+     * Map notification path -> topics, recomputed whenever topics are joined or disjoined, so that
+     * {@link #onNotification(DOMNotification)} can look up topics without any locking.
+     */
+    private volatile ImmutableMap<SchemaPath, ImmutableList<TopicId>> topicIndex = ImmutableMap.of();
 
     /**
      * Creates new NetconfEventSource for node. Topic notifications will be published via provided
@@ -104,10 +109,16 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
     public NetconfEventSource(final Map<String, String> streamMap,
                               final NetconfEventSourceMount mount,
                               final DOMNotificationPublishService publishService) {
+        this(streamMap, mount, publishService, new NotificationPatternIndex());
+    }
+
+    NetconfEventSource(final Map<String, String> streamMap, final NetconfEventSourceMount mount,
+            final DOMNotificationPublishService publishService, final NotificationPatternIndex patternIndex) {
         this.mount = mount;
+        this.patternIndex = requireNonNull(patternIndex);
         this.urnPrefixToStreamMap = requireNonNull(streamMap);
         this.domPublish = requireNonNull(publishService);
-        this.initializeNotificationTopicRegistrationList();
+        this.notificationTopicRegistrations = initializeNotificationTopicRegistrationList();
 
         LOG.info("NetconfEventSource [{}] created.", mount.getNodeId());
     }
@@ -116,11 +127,12 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
      * Creates {@link ConnectionNotificationTopicRegistration} for connection. Also creates
      * {@link StreamNotificationTopicRegistration} for every prefix and available stream as defined in config file.
      */
-    private void initializeNotificationTopicRegistrationList() {
+    private ImmutableListMultimap<String, NotificationTopicRegistration> initializeNotificationTopicRegistrationList() {
+        final ImmutableListMultimap.Builder<String, NotificationTopicRegistration> registrations =
+                ImmutableListMultimap.builder();
         final ConnectionNotificationTopicRegistration cntr =
                 new ConnectionNotificationTopicRegistration(CONNECTION_NOTIFICATION_SOURCE_NAME, this);
-        notificationTopicRegistrations
-                .put(cntr.getNotificationUrnPrefix(), cntr);
+        registrations.put(cntr.getNotificationUrnPrefix(), cntr);
         Map<String, Stream> availableStreams = getAvailableStreams();
         LOG.debug("Stream configuration compare...");
         for (Entry<String, String> entry : this.urnPrefixToStreamMap.entrySet()) {
@@ -129,11 +141,11 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
             LOG.debug("urnPrefix: {} streamName: {}", urnPrefix, streamName);
             if (availableStreams.containsKey(streamName)) {
                 LOG.debug("Stream containig on device");
-                notificationTopicRegistrations
-                        .put(urnPrefix, new StreamNotificationTopicRegistration(availableStreams.get(streamName),
-                                urnPrefix, this));
+                registrations.put(urnPrefix, new StreamNotificationTopicRegistration(availableStreams.get(streamName),
+                        urnPrefix, this));
             }
         }
+        return registrations.build();
     }
 
     private Map<String, Stream> getAvailableStreams() {
@@ -158,10 +170,11 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
     }
 
     @Override
-    public ListenableFuture<RpcResult<DisJoinTopicOutput>> disJoinTopic(final DisJoinTopicInput input) {
+    public synchronized ListenableFuture<RpcResult<DisJoinTopicOutput>> disJoinTopic(final DisJoinTopicInput input) {
         for (NotificationTopicRegistration reg : notificationTopicRegistrations.values()) {
             reg.unRegisterNotificationTopic(input.getTopicId());
         }
+        rebuildTopicIndex();
         return Util.resultRpcSuccessFor(new DisJoinTopicOutputBuilder().build());
     }
 
@@ -188,12 +201,25 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
         }
         if (registeredNotificationCount > 0) {
             joinTopicStatus = JoinTopicStatus.Up;
+            rebuildTopicIndex();
         }
         final JoinTopicOutput output = new JoinTopicOutputBuilder().setStatus(joinTopicStatus).build();
         return immediateFuture(RpcResultBuilder.success(output).build());
 
     }
 
+    private synchronized void rebuildTopicIndex() {
+        final Map<SchemaPath, ImmutableList.Builder<TopicId>> builders = new LinkedHashMap<>();
+        for (NotificationTopicRegistration reg : notificationTopicRegistrations.values()) {
+            for (Entry<SchemaPath, Set<TopicId>> entry : reg.getNotificationTopics().entrySet()) {
+                builders.computeIfAbsent(entry.getKey(), key -> ImmutableList.builder()).addAll(entry.getValue());
+            }
+        }
+
+        topicIndex = ImmutableMap.copyOf(Maps.transformValues(builders, ImmutableList.Builder::build));
+        LOG.debug("Topic index of {} updated to {}", mount.getNodeId(), topicIndex);
+    }
+
     public void reActivateStreams() {
         for (NotificationTopicRegistration reg : notificationTopicRegistrations.values()) {
             LOG.info("Source of notification {} is reactivating on node {}", reg.getSourceName(), mount.getNodeId());
@@ -218,19 +244,27 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
         final String namespace = notification.getType().getLastComponent().getNamespace().toString();
         for (NotificationTopicRegistration notifReg : notificationTopicRegistrations.get(namespace)) {
             notifReg.setLastEventTime(notificationEventTime);
-            for (TopicId topicId : notifReg.getTopicsForNotification(notificationPath)) {
-                publishNotification(notification, topicId);
-                LOG.debug("Notification {} has been published for TopicId {}", notification.getType(),
-                        topicId.getValue());
-            }
+        }
+
+        final List<TopicId> topicIds = topicIndex.get(notificationPath);
+        if (topicIds == null) {
+            return;
+        }
+
+        // The payload does not depend on the topic, hence we serialize it only once and share it
+        final DOMSourceAnyxmlNode payload = encapsulate(notification);
+        for (TopicId topicId : topicIds) {
+            publishNotification(payload, topicId);
+            LOG.debug("Notification {} has been published for TopicId {}", notification.getType(),
+                    topicId.getValue());
         }
     }
 
-    private void publishNotification(final DOMNotification notification, final TopicId topicId) {
+    private void publishNotification(final DOMSourceAnyxmlNode payload, final TopicId topicId) {
         final ContainerNode topicNotification = Builders.containerBuilder().withNodeIdentifier(TOPIC_NOTIFICATION_ARG)
                 .withChild(ImmutableNodes.leafNode(TOPIC_ID_ARG, topicId))
                 .withChild(ImmutableNodes.leafNode(EVENT_SOURCE_ARG, mount.getNodeId()))
-                .withChild(encapsulate(notification))
+                .withChild(payload)
                 .build();
         try {
             domPublish.putNotification(new TopicDOMNotification(topicNotification));
@@ -265,11 +299,7 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
      * @return notification paths
      */
     private List<SchemaPath> getMatchingNotifications(final NotificationPattern notificationPattern) {
-        final String regex = notificationPattern.getValue();
-
-        final Pattern pattern = Pattern.compile(regex);
-        List<SchemaPath> availableNotifications = getAvailableNotifications();
-        return Util.expandQname(availableNotifications, pattern);
+        return patternIndex.getMatchingNotifications(mount.getSchemaContext(), notificationPattern.getValue());
     }
 
     @Override
@@ -277,6 +307,7 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
         for (NotificationTopicRegistration streamReg : notificationTopicRegistrations.values()) {
             streamReg.close();
         }
+        topicIndex = ImmutableMap.of();
     }
 
     @Override
@@ -286,16 +317,7 @@ public class NetconfEventSource implements EventSource, DOMNotificationListener
 
     @Override
     public List<SchemaPath> getAvailableNotifications() {
-
-        final List<SchemaPath> availNotifList = new ArrayList<>();
-        // add Event Source Connection status notification
-        availNotifList.add(ConnectionNotificationTopicRegistration.EVENT_SOURCE_STATUS_PATH);
-
-        // add all known notifications from netconf device
-        for (final NotificationDefinition nd : mount.getSchemaContext().getNotifications()) {
-            availNotifList.add(nd.getPath());
-        }
-        return availNotifList;
+        return patternIndex.getAvailableNotifications(mount.getSchemaContext());
     }
 
     NetconfEventSourceMount getMount() {
@@ -56,6 +56,7 @@ public final class NetconfEventSourceManager implements DataTreeChangeListener<N
     private final EventSourceRegistry eventSourceRegistry;
     private final DataBroker dataBroker;
     private final BindingNormalizedNodeSerializer serializer;
+    private final NotificationPatternIndex patternIndex = new NotificationPatternIndex();
 
     public NetconfEventSourceManager(final DataBroker dataBroker,
                                      final BindingNormalizedNodeSerializer serializer,
@@ -138,6 +139,10 @@ public final class NetconfEventSourceManager implements DataTreeChangeListener<N
         return domMounts;
     }
 
+    NotificationPatternIndex getPatternIndex() {
+        return patternIndex;
+    }
+
     EventSourceRegistry getEventSourceRegistry() {
         return eventSourceRegistry;
     }
@@ -156,7 +156,8 @@ final class NetconfEventSourceRegistration implements AutoCloseable {
             final NetconfEventSource netconfEventSource = new NetconfEventSource(
                     netconfEventSourceManager.getStreamMap(),
                     mount,
-                    netconfEventSourceManager.getPublishService());
+                    netconfEventSourceManager.getPublishService(),
+                    netconfEventSourceManager.getPatternIndex());
             registration = netconfEventSourceManager.getEventSourceRegistry().registerEventSource(netconfEventSource);
             LOG.info("Event source {} has been registered", node.getNodeId().getValue());
         }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.messagebus.eventsources.netconf;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+/**
+ * Index of notifications available in a {@link SchemaContext}, shared by all {@link NetconfEventSource}s created by
+ * a {@link NetconfEventSourceManager}. Topic patterns are compiled once and the result of matching a pattern against
+ * a particular schema context is remembered, so that joining a topic across many mounts sharing the same models
+ * performs the regular expression work only once.
+ */
+final class NotificationPatternIndex {
+    private static final int MAX_PATTERNS = 1024;
+
+    private final LoadingCache<String, Pattern> patterns = CacheBuilder.newBuilder().maximumSize(MAX_PATTERNS)
+            .build(new CacheLoader<String, Pattern>() {
+                @Override
+                public Pattern load(final String key) {
+                    return Pattern.compile(key);
+                }
+            });
+
+    private final LoadingCache<SchemaContext, ContextIndex> contexts = CacheBuilder.newBuilder().weakKeys()
+            .build(new CacheLoader<SchemaContext, ContextIndex>() {
+                @Override
+                public ContextIndex load(final SchemaContext key) {
+                    return new ContextIndex(key);
+                }
+            });
+
+    /**
+     * Returns all notification paths available in a schema context, including the event source status notification.
+     *
+     * @param context schema context
+     * @return notification paths
+     */
+    List<SchemaPath> getAvailableNotifications(final SchemaContext context) {
+        return contexts.getUnchecked(context).available;
+    }
+
+    /**
+     * Returns all notification paths available in a schema context, whose namespace matches specified regular
+     * expression.
+     *
+     * @param context schema context
+     * @param regex regular expression
+     * @return notification paths
+     * @throws java.util.regex.PatternSyntaxException if the expression is not valid
+     */
+    List<SchemaPath> getMatchingNotifications(final SchemaContext context, final String regex) {
+        try {
+            return contexts.getUnchecked(context).matches.getUnchecked(regex);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    private Pattern compile(final String regex) {
+        try {
+            return patterns.getUnchecked(regex);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    private final class ContextIndex {
+        final ImmutableList<SchemaPath> available;
+        final LoadingCache<String, ImmutableList<SchemaPath>> matches = CacheBuilder.newBuilder()
+                .maximumSize(MAX_PATTERNS).build(new CacheLoader<String, ImmutableList<SchemaPath>>() {
+                    @Override
+                    public ImmutableList<SchemaPath> load(final String key) {
+                        return match(compile(key));
+                    }
+                });
+
+        ContextIndex(final SchemaContext context) {
+            final ImmutableList.Builder<SchemaPath> builder = ImmutableList.builder();
+            // add Event Source Connection status notification
+            builder.add(ConnectionNotificationTopicRegistration.EVENT_SOURCE_STATUS_PATH);
+            // add all known notifications from netconf device
+            for (final NotificationDefinition nd : context.getNotifications()) {
+                builder.add(nd.getPath());
+            }
+            available = builder.build();
+        }
+
+        ImmutableList<SchemaPath> match(final Pattern pattern) {
+            // Many notifications share a namespace, evaluate the pattern only once for each of them
+            final Map<String, Boolean> namespaces = new HashMap<>();
+            final ImmutableList.Builder<SchemaPath> builder = ImmutableList.builder();
+            for (SchemaPath path : available) {
+                final String namespace = path.getLastComponent().getNamespace().toString();
+                if (namespaces.computeIfAbsent(namespace, ns -> pattern.matcher(ns).matches())) {
+                    builder.add(path);
+                }
+            }
+            return builder.build();
+        }
+    }
+}
@@ -8,7 +8,9 @@
 package org.opendaylight.netconf.messagebus.eventsources.netconf;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -77,6 +79,15 @@ abstract class NotificationTopicRegistration implements AutoCloseable {
         return topicIds != null ? topicIds : new HashSet<>();
     }
 
+    /**
+     * Returns all registered topics, indexed by notification path.
+     *
+     * @return unmodifiable view of registered topics
+     */
+    Map<SchemaPath, Set<TopicId>> getNotificationTopics() {
+        return Collections.unmodifiableMap(notificationTopicMap);
+    }
+
     /**
      * Checks, if notification is from namespace belonging to this registration.
      *
@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
@@ -132,6 +133,37 @@ public class NetconfEventSourceTest {
         Assert.assertEquals(topic1.getTopicId(), actualTopicId);
     }
 
+    @Test
+    public void testMultipleTopicsShareEncapsulatedPayload() throws Exception {
+        final TopicId topicId1 = TopicId.getDefaultInstance("topic1");
+        final TopicId topicId2 = TopicId.getDefaultInstance("topic2");
+        netconfEventSource.joinTopic(new JoinTopicInputBuilder()
+                .setTopicId(topicId1)
+                .setNotificationPattern(NotificationPattern.getDefaultInstance(".*ns1"))
+                .build());
+        netconfEventSource.joinTopic(new JoinTopicInputBuilder()
+                .setTopicId(topicId2)
+                .setNotificationPattern(NotificationPattern.getDefaultInstance("ns.*"))
+                .build());
+
+        netconfEventSource.onNotification(matchnigNotification);
+
+        final ArgumentCaptor<DOMNotification> captor = ArgumentCaptor.forClass(DOMNotification.class);
+        verify(domNotificationPublishServiceMock, times(2)).putNotification(captor.capture());
+        final List<DOMNotification> published = captor.getAllValues();
+        final YangInstanceIdentifier.NodeIdentifier topicIdNode =
+                new YangInstanceIdentifier.NodeIdentifier(QName.create(TopicNotification.QNAME, "topic-id"));
+        final YangInstanceIdentifier.NodeIdentifier payloadNode =
+                new YangInstanceIdentifier.NodeIdentifier(QName.create(TopicNotification.QNAME, "payload"));
+        final Set<Object> topics = new HashSet<>();
+        for (DOMNotification notification : published) {
+            topics.add(notification.getBody().getChild(topicIdNode).get().getValue());
+        }
+        Assert.assertEquals(Set.of(topicId1, topicId2), topics);
+        Assert.assertSame(published.get(0).getBody().getChild(payloadNode).get(),
+                published.get(1).getBody().getChild(payloadNode).get());
+    }
+
     @Test
     public void testDisjoinTopicOnNotification() throws Exception {
         final TopicId topicId = TopicId.getDefaultInstance("topic1");
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.messagebus.eventsources.netconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.NotificationDefinition;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class NotificationPatternIndexTest {
+    private static final SchemaPath NOTIFICATION_1_PATH = SchemaPath.create(true, QName.create("ns1", "not1"));
+    private static final SchemaPath NOTIFICATION_2_PATH = SchemaPath.create(true, QName.create("ns1", "not2"));
+    private static final SchemaPath NOTIFICATION_3_PATH = SchemaPath.create(true, QName.create("ns2", "not3"));
+
+    private final NotificationPatternIndex index = new NotificationPatternIndex();
+    private SchemaContext schemaContext;
+
+    @Before
+    public void setUp() {
+        schemaContext = mock(SchemaContext.class);
+        doReturn(ImmutableSet.of(notification(NOTIFICATION_1_PATH), notification(NOTIFICATION_2_PATH),
+            notification(NOTIFICATION_3_PATH))).when(schemaContext).getNotifications();
+    }
+
+    @Test
+    public void testAvailableNotifications() {
+        assertEquals(ImmutableList.of(ConnectionNotificationTopicRegistration.EVENT_SOURCE_STATUS_PATH,
+            NOTIFICATION_1_PATH, NOTIFICATION_2_PATH, NOTIFICATION_3_PATH),
+            index.getAvailableNotifications(schemaContext));
+    }
+
+    @Test
+    public void testMatchingNotifications() {
+        final List<SchemaPath> matching = index.getMatchingNotifications(schemaContext, ".*ns1");
+        assertEquals(ImmutableList.of(NOTIFICATION_1_PATH, NOTIFICATION_2_PATH), matching);
+        assertSame(matching, index.getMatchingNotifications(schemaContext, ".*ns1"));
+        assertEquals(ImmutableList.of(NOTIFICATION_3_PATH), index.getMatchingNotifications(schemaContext, "ns2"));
+        assertEquals(ImmutableList.of(), index.getMatchingNotifications(schemaContext, "not1"));
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void testInvalidPattern() {
+        index.getMatchingNotifications(schemaContext, "(ns1");
+    }
+
+    private static NotificationDefinition notification(final SchemaPath path) {
+        final NotificationDefinition notification = mock(NotificationDefinition.class);
+        doReturn(path).when(notification).getPath();
+        return notification;
+    }
+}
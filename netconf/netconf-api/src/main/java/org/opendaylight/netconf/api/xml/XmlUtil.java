@@ -110,10 +110,10 @@ public final class XmlUtil {
     // along with XmlElement
 
     public static Document readXmlToDocument(final InputStream xmlContent) throws SAXException, IOException {
-        Document doc = DEFAULT_DOM_BUILDER.get().parse(xmlContent);
-
-        doc.getDocumentElement().normalize();
-        return doc;
+        // Note: we do not need to normalize() the document: BUILDER_FACTORY is coalescing and does not allow DTDs,
+        //       hence the parser never emits adjacent or empty text nodes. Skipping it saves a full walk over
+        //       each document, which matters for large inbound messages.
+        return DEFAULT_DOM_BUILDER.get().parse(xmlContent);
     }
 
     public static Document newDocument() {
@@ -18,6 +18,7 @@ import org.custommonkey.xmlunit.XMLUnit;
 import org.junit.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 import org.xml.sax.SAXParseException;
 
 public class XmlUtilTest {
@@ -61,6 +62,16 @@ public class XmlUtilTest {
 
     }
 
+    @Test
+    public void testParsedDocumentIsNormalized() throws Exception {
+        // Character references, entities and CDATA sections are all coalesced into a single text node, hence the
+        // document does not need to be normalized after parsing
+        final Element top = XmlUtil.readXmlToElement("<top>a &amp; b&#x20;<![CDATA[<c>]]></top>");
+        assertEquals(1, top.getChildNodes().getLength());
+        assertEquals(Node.TEXT_NODE, top.getFirstChild().getNodeType());
+        assertEquals("a & b <c>", top.getTextContent());
+    }
+
     @Test(expected = SAXParseException.class)
     public void testXXEFlaw() throws Exception {
         XmlUtil.readXmlToDocument(
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.netconf.client;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableSet;
@@ -22,6 +23,7 @@ import org.opendaylight.netconf.api.messages.NetconfHelloMessage;
 import org.opendaylight.netconf.api.messages.NetconfHelloMessageAdditionalHeader;
 import org.opendaylight.netconf.api.xml.XmlNetconfConstants;
 import org.opendaylight.netconf.nettyutil.NetconfSessionNegotiatorFactory;
+import org.opendaylight.netconf.nettyutil.handler.NetconfEOMAggregator;
 import org.opendaylight.netconf.nettyutil.handler.exi.EXIParameters;
 import org.opendaylight.netconf.nettyutil.handler.exi.NetconfStartExiMessage;
 import org.opendaylight.netconf.shaded.exificient.core.CodingMode;
@@ -71,6 +73,7 @@ public class NetconfClientSessionNegotiatorFactory
     private final long connectionTimeoutMillis;
     private final Timer timer;
     private final EXIParameters options;
+    private final int maxMessageSize;
 
     public NetconfClientSessionNegotiatorFactory(final Timer timer,
                                                  final Optional<NetconfHelloMessageAdditionalHeader> additionalHeader,
@@ -95,17 +98,37 @@ public class NetconfClientSessionNegotiatorFactory
                                                  final Optional<NetconfHelloMessageAdditionalHeader> additionalHeader,
                                                  final long connectionTimeoutMillis, final EXIParameters exiOptions,
                                                  final Set<String> capabilities) {
+        this(timer, additionalHeader, connectionTimeoutMillis, exiOptions, capabilities,
+            NetconfEOMAggregator.DEFAULT_MAXIMUM_MESSAGE_SIZE);
+    }
+
+    public NetconfClientSessionNegotiatorFactory(final Timer timer,
+                                                 final Optional<NetconfHelloMessageAdditionalHeader> additionalHeader,
+                                                 final long connectionTimeoutMillis, final EXIParameters exiOptions,
+                                                 final Set<String> capabilities, final int maxMessageSize) {
+        checkArgument(maxMessageSize > 0, "Invalid maximum message size %s", maxMessageSize);
         this.timer = requireNonNull(timer);
         this.additionalHeader = additionalHeader;
         this.connectionTimeoutMillis = connectionTimeoutMillis;
         this.options = exiOptions;
         this.clientCapabilities = capabilities;
+        this.maxMessageSize = maxMessageSize;
     }
 
     public long getConnectionTimeoutMillis() {
         return connectionTimeoutMillis;
     }
 
+    /**
+     * Return the maximum size of a message received from the server, which is enforced regardless of the framing
+     * mechanism in use.
+     *
+     * @return maximum size of an inbound message
+     */
+    public int getMaximumMessageSize() {
+        return maxMessageSize;
+    }
+
     @Override
     public NetconfClientSessionNegotiator getSessionNegotiator(
             final NetconfSessionListenerFactory<NetconfClientSessionListener> sessionListenerFactory,
@@ -116,6 +139,6 @@ public class NetconfClientSessionNegotiatorFactory
 
         NetconfClientSessionPreferences proposal = new NetconfClientSessionPreferences(helloMessage, startExiMessage);
         return new NetconfClientSessionNegotiator(proposal, promise, channel, timer,
-                sessionListenerFactory.getSessionListener(), connectionTimeoutMillis);
+                sessionListenerFactory.getSessionListener(), connectionTimeoutMillis, maxMessageSize);
     }
 }
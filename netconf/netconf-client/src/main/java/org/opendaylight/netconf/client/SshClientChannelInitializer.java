@@ -24,6 +24,7 @@ final class SshClientChannelInitializer extends AbstractChannelInitializer<Netco
     SshClientChannelInitializer(final AuthenticationHandler authHandler,
             final NetconfClientSessionNegotiatorFactory negotiatorFactory,
             final NetconfClientSessionListener sessionListener, @Nullable final NetconfSshClient sshClient) {
+        super(negotiatorFactory.getMaximumMessageSize());
         this.authenticationHandler = authHandler;
         this.negotiatorFactory = negotiatorFactory;
         this.sessionListener = sessionListener;
@@ -25,6 +25,7 @@ class TcpClientChannelInitializer extends AbstractChannelInitializer<NetconfClie
 
     TcpClientChannelInitializer(final NetconfClientSessionNegotiatorFactory negotiatorFactory,
                                 final NetconfClientSessionListener sessionListener) {
+        super(negotiatorFactory.getMaximumMessageSize());
         this.negotiatorFactory = negotiatorFactory;
         this.sessionListener = sessionListener;
     }
@@ -23,6 +23,7 @@ final class TlsClientChannelInitializer extends AbstractChannelInitializer<Netco
     TlsClientChannelInitializer(final SslHandlerFactory sslHandlerFactory,
                                 final NetconfClientSessionNegotiatorFactory negotiatorFactory,
                                 final NetconfClientSessionListener sessionListener) {
+        super(negotiatorFactory.getMaximumMessageSize());
         this.sslHandlerFactory = sslHandlerFactory;
         this.negotiatorFactory = negotiatorFactory;
         this.sessionListener = sessionListener;
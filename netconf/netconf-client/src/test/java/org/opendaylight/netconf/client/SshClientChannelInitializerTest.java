@@ -21,6 +21,7 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.util.concurrent.Promise;
 import org.junit.Test;
 import org.opendaylight.netconf.api.NetconfSessionListenerFactory;
+import org.opendaylight.netconf.nettyutil.handler.NetconfEOMAggregator;
 import org.opendaylight.netconf.nettyutil.handler.ssh.authentication.AuthenticationHandler;
 
 public class SshClientChannelInitializerTest {
@@ -29,6 +30,7 @@ public class SshClientChannelInitializerTest {
 
         AuthenticationHandler authenticationHandler = mock(AuthenticationHandler.class);
         NetconfClientSessionNegotiatorFactory negotiatorFactory = mock(NetconfClientSessionNegotiatorFactory.class);
+        doReturn(NetconfEOMAggregator.DEFAULT_MAXIMUM_MESSAGE_SIZE).when(negotiatorFactory).getMaximumMessageSize();
         NetconfClientSessionListener sessionListener = mock(NetconfClientSessionListener.class);
 
         NetconfClientSessionNegotiator sessionNegotiator = mock(NetconfClientSessionNegotiator.class);
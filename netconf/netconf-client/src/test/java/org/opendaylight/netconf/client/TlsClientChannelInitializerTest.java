@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.netconf.api.NetconfSessionListenerFactory;
+import org.opendaylight.netconf.nettyutil.handler.NetconfEOMAggregator;
 
 @RunWith(MockitoJUnitRunner.class)
 public class TlsClientChannelInitializerTest {
@@ -36,6 +37,7 @@ public class TlsClientChannelInitializerTest {
     @SuppressWarnings("unchecked")
     @Test
     public void testInitialize() throws Exception {
+        doReturn(NetconfEOMAggregator.DEFAULT_MAXIMUM_MESSAGE_SIZE).when(negotiatorFactory).getMaximumMessageSize();
         NetconfClientSessionNegotiator sessionNegotiator = mock(NetconfClientSessionNegotiator.class);
         doReturn(sessionNegotiator).when(negotiatorFactory).getSessionNegotiator(
             any(NetconfSessionListenerFactory.class), any(Channel.class), any(Promise.class));
@@ -26,6 +26,7 @@ import org.opendaylight.netconf.impl.osgi.NetconfOperationRouterImpl;
 import org.opendaylight.netconf.mapping.api.NetconfOperationService;
 import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactory;
 import org.opendaylight.netconf.nettyutil.NetconfSessionNegotiatorFactory;
+import org.opendaylight.netconf.nettyutil.handler.NetconfEOMAggregator;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Uri;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Capabilities;
 
@@ -45,6 +46,7 @@ public class NetconfServerSessionNegotiatorFactory
     private final long connectionTimeoutMillis;
     private final NetconfMonitoringService monitoringService;
     private final Set<String> baseCapabilities;
+    private final int maxMessageSize;
 
     public NetconfServerSessionNegotiatorFactory(final Timer timer,
             final NetconfOperationServiceFactory netconfOperationProvider,
@@ -58,6 +60,16 @@ public class NetconfServerSessionNegotiatorFactory
                                                  final SessionIdProvider idProvider, final long connectionTimeoutMillis,
                                                  final NetconfMonitoringService monitoringService,
                                                  final Set<String> baseCapabilities) {
+        this(timer, netconfOperationProvider, idProvider, connectionTimeoutMillis, monitoringService,
+            baseCapabilities, NetconfEOMAggregator.DEFAULT_MAXIMUM_MESSAGE_SIZE);
+    }
+
+    public NetconfServerSessionNegotiatorFactory(final Timer timer,
+                                                 final NetconfOperationServiceFactory netconfOperationProvider,
+                                                 final SessionIdProvider idProvider, final long connectionTimeoutMillis,
+                                                 final NetconfMonitoringService monitoringService,
+                                                 final Set<String> baseCapabilities, final int maxMessageSize) {
+        Preconditions.checkArgument(maxMessageSize > 0, "Invalid maximum message size %s", maxMessageSize);
         this.timer = timer;
         this.aggregatedOpService = netconfOperationProvider;
         this.idProvider = idProvider;
@@ -65,6 +77,17 @@ public class NetconfServerSessionNegotiatorFactory
         this.monitoringService = monitoringService;
         this.baseCapabilities = validateBaseCapabilities(baseCapabilities == null ? DEFAULT_BASE_CAPABILITIES :
                 baseCapabilities);
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    /**
+     * Return the maximum size of a message received from a client, which is enforced regardless of the framing
+     * mechanism in use.
+     *
+     * @return maximum size of an inbound message
+     */
+    public int getMaximumMessageSize() {
+        return maxMessageSize;
     }
 
     private static ImmutableSet<String> validateBaseCapabilities(final Set<String> baseCapabilities) {
@@ -102,7 +125,8 @@ public class NetconfServerSessionNegotiatorFactory
             new NetconfServerSessionPreferences(createHelloMessage(sessionId, monitoringService), sessionId);
 
         return new NetconfServerSessionNegotiator(proposal, promise, channel, timer,
-                getListener(Long.toString(sessionId), channel.parent().localAddress()), connectionTimeoutMillis);
+                getListener(Long.toString(sessionId), channel.parent().localAddress()), connectionTimeoutMillis,
+                maxMessageSize);
     }
 
     private NetconfServerSessionListener getListener(final String netconfSessionIdForReporting,
@@ -14,6 +14,7 @@ import io.netty.util.Timer;
 import java.util.Set;
 import org.opendaylight.netconf.api.monitoring.NetconfMonitoringService;
 import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactory;
+import org.opendaylight.netconf.nettyutil.handler.NetconfEOMAggregator;
 
 public class NetconfServerSessionNegotiatorFactoryBuilder {
     private Timer timer;
@@ -22,6 +23,7 @@ public class NetconfServerSessionNegotiatorFactoryBuilder {
     private long connectionTimeoutMillis;
     private NetconfMonitoringService monitoringService;
     private Set<String> baseCapabilities;
+    private int maxMessageSize = NetconfEOMAggregator.DEFAULT_MAXIMUM_MESSAGE_SIZE;
 
     public NetconfServerSessionNegotiatorFactoryBuilder() {
     }
@@ -59,10 +61,15 @@ public class NetconfServerSessionNegotiatorFactoryBuilder {
     }
 
 
+    public NetconfServerSessionNegotiatorFactoryBuilder setMaxMessageSize(final int maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+        return this;
+    }
+
     public NetconfServerSessionNegotiatorFactory build() {
         validate();
         return new NetconfServerSessionNegotiatorFactory(timer, aggregatedOpService, idProvider,
-                connectionTimeoutMillis, monitoringService, baseCapabilities);
+                connectionTimeoutMillis, monitoringService, baseCapabilities, maxMessageSize);
     }
 
 
@@ -72,6 +79,7 @@ public class NetconfServerSessionNegotiatorFactoryBuilder {
         requireNonNull(idProvider, "SessionIdProvider not initialized");
         checkArgument(connectionTimeoutMillis > 0, "connection time out <=0");
         requireNonNull(monitoringService, "NetconfMonitoringService not initialized");
+        checkArgument(maxMessageSize > 0, "maximum message size <=0");
 
         if (baseCapabilities == null) {
             baseCapabilities = NetconfServerSessionNegotiatorFactory.DEFAULT_BASE_CAPABILITIES;
@@ -20,6 +20,7 @@ public class ServerChannelInitializer extends AbstractChannelInitializer<Netconf
 
 
     public ServerChannelInitializer(NetconfServerSessionNegotiatorFactory negotiatorFactory) {
+        super(negotiatorFactory.getMaximumMessageSize());
         this.negotiatorFactory = negotiatorFactory;
 
     }
@@ -8,6 +8,7 @@
 
 package org.opendaylight.netconf.nettyutil.handler;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -20,6 +21,8 @@ public class ChunkedFramingMechanismEncoder extends MessageToByteEncoder<ByteBuf
     public static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
 
     private final int chunkSize;
+    // Header of a full-sized chunk, which is the common case
+    private final byte[] chunkHeader;
 
     public ChunkedFramingMechanismEncoder() {
         this(DEFAULT_CHUNK_SIZE);
@@ -29,24 +32,52 @@ public class ChunkedFramingMechanismEncoder extends MessageToByteEncoder<ByteBuf
         Preconditions.checkArgument(chunkSize >= MIN_CHUNK_SIZE && chunkSize <= MAX_CHUNK_SIZE,
                 "Unsupported chunk size %s", chunkSize);
         this.chunkSize = chunkSize;
+        chunkHeader = chunkHeader(chunkSize);
     }
 
     public final int getChunkSize() {
         return chunkSize;
     }
 
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext ctx, final ByteBuf msg, final boolean preferDirect) {
+        // Size the buffer exactly, so that large messages do not go through repeated buffer expansion, each of which
+        // copies everything encoded so far
+        final int size = encodedSize(msg.readableBytes());
+        return preferDirect ? ctx.alloc().ioBuffer(size) : ctx.alloc().heapBuffer(size);
+    }
+
     @Override
     protected void encode(final ChannelHandlerContext ctx, final ByteBuf msg, final ByteBuf out)  {
         do {
             final int xfer = Math.min(chunkSize, msg.readableBytes());
 
-            out.writeBytes(MessageParts.START_OF_CHUNK);
-            out.writeBytes(String.valueOf(xfer).getBytes(StandardCharsets.US_ASCII));
-            out.writeByte('\n');
-
+            out.writeBytes(xfer == chunkSize ? chunkHeader : chunkHeader(xfer));
             out.writeBytes(msg, xfer);
         } while (msg.isReadable());
 
         out.writeBytes(MessageParts.END_OF_CHUNK);
     }
+
+    @VisibleForTesting
+    int encodedSize(final int messageSize) {
+        final int fullChunks = messageSize / chunkSize;
+        final int lastChunk = messageSize % chunkSize;
+
+        long size = (long) messageSize + (long) fullChunks * chunkHeader.length + MessageParts.END_OF_CHUNK.length;
+        if (lastChunk != 0 || fullChunks == 0) {
+            size += MessageParts.START_OF_CHUNK.length + String.valueOf(lastChunk).length() + 1;
+        }
+        // Oversized messages are left to buffer expansion
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static byte[] chunkHeader(final int size) {
+        final byte[] length = String.valueOf(size).getBytes(StandardCharsets.US_ASCII);
+        final byte[] ret = new byte[MessageParts.START_OF_CHUNK.length + length.length + 1];
+        System.arraycopy(MessageParts.START_OF_CHUNK, 0, ret, 0, MessageParts.START_OF_CHUNK.length);
+        System.arraycopy(length, 0, ret, MessageParts.START_OF_CHUNK.length, length.length);
+        ret[ret.length - 1] = '\n';
+        return ret;
+    }
 }
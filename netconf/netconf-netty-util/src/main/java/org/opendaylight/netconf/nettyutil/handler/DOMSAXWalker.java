@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.nettyutil.handler;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/**
+ * Walks a DOM {@link Document} and emits the corresponding SAX events directly into a {@link ContentHandler}. This
+ * is a lightweight replacement for an identity {@link javax.xml.transform.Transformer} with a
+ * {@link javax.xml.transform.sax.SAXResult}, which carries noticeable per-message setup and dispatch overhead.
+ *
+ * <p>
+ * Namespace declarations are reported via {@link ContentHandler#startPrefixMapping(String, String)} both when they
+ * are present as {@code xmlns} attributes and when they are only implied by the namespace of an element or attribute
+ * created through {@link Document#createElementNS(String, String)}.
+ */
+final class DOMSAXWalker {
+    private static final String CDATA = "CDATA";
+
+    private final NamespaceSupport namespaces = new NamespaceSupport();
+    private final ContentHandler handler;
+    private final LexicalHandler lexicalHandler;
+
+    private DOMSAXWalker(final ContentHandler handler) {
+        this.handler = requireNonNull(handler);
+        this.lexicalHandler = handler instanceof LexicalHandler ? (LexicalHandler) handler : null;
+    }
+
+    static void walk(final Document document, final ContentHandler handler) throws SAXException {
+        new DOMSAXWalker(handler).walkDocument(document);
+    }
+
+    private void walkDocument(final Document document) throws SAXException {
+        handler.startDocument();
+        walkChildren(document);
+        handler.endDocument();
+    }
+
+    private void walkChildren(final Node parent) throws SAXException {
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            walkNode(child);
+        }
+    }
+
+    private void walkNode(final Node node) throws SAXException {
+        switch (node.getNodeType()) {
+            case Node.ELEMENT_NODE:
+                walkElement((Element) node);
+                break;
+            case Node.TEXT_NODE:
+                characters(node.getNodeValue());
+                break;
+            case Node.CDATA_SECTION_NODE:
+                if (lexicalHandler != null) {
+                    lexicalHandler.startCDATA();
+                    characters(node.getNodeValue());
+                    lexicalHandler.endCDATA();
+                } else {
+                    characters(node.getNodeValue());
+                }
+                break;
+            case Node.COMMENT_NODE:
+                if (lexicalHandler != null) {
+                    final char[] chars = node.getNodeValue().toCharArray();
+                    lexicalHandler.comment(chars, 0, chars.length);
+                }
+                break;
+            case Node.PROCESSING_INSTRUCTION_NODE:
+                handler.processingInstruction(((ProcessingInstruction) node).getTarget(), node.getNodeValue());
+                break;
+            case Node.ENTITY_REFERENCE_NODE:
+                walkChildren(node);
+                break;
+            default:
+                // Document types and similar do not have a SAX content representation
+                break;
+        }
+    }
+
+    private void walkElement(final Element element) throws SAXException {
+        namespaces.pushContext();
+        final List<String> declared = new ArrayList<>(2);
+        final AttributesImpl attributes = new AttributesImpl();
+
+        final NamedNodeMap attrs = element.getAttributes();
+        final int length = attrs.getLength();
+        for (int i = 0; i < length; ++i) {
+            final Attr attr = (Attr) attrs.item(i);
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attr.getNamespaceURI())
+                    || isNamespaceDeclaration(attr.getName())) {
+                final String name = attr.getName();
+                final String prefix = name.length() > XMLConstants.XMLNS_ATTRIBUTE.length()
+                        ? name.substring(XMLConstants.XMLNS_ATTRIBUTE.length() + 1) : XMLConstants.DEFAULT_NS_PREFIX;
+                declarePrefix(declared, prefix, attr.getValue());
+            }
+        }
+
+        for (int i = 0; i < length; ++i) {
+            final Attr attr = (Attr) attrs.item(i);
+            final String name = attr.getName();
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(attr.getNamespaceURI()) || isNamespaceDeclaration(name)) {
+                continue;
+            }
+
+            final String uri = nullToEmpty(attr.getNamespaceURI());
+            final String attrPrefix = attr.getPrefix();
+            if (!uri.isEmpty() && attrPrefix != null) {
+                ensureDeclared(declared, attrPrefix, uri);
+            }
+            attributes.addAttribute(uri, localName(attr), name, CDATA, attr.getValue());
+        }
+
+        final String uri = nullToEmpty(element.getNamespaceURI());
+        ensureDeclared(declared, nullToEmpty(element.getPrefix()), uri);
+
+        final String localName = localName(element);
+        final String qname = element.getNodeName();
+        handler.startElement(uri, localName, qname, attributes);
+        walkChildren(element);
+        handler.endElement(uri, localName, qname);
+
+        for (String prefix : declared) {
+            handler.endPrefixMapping(prefix);
+        }
+        namespaces.popContext();
+    }
+
+    private void ensureDeclared(final List<String> declared, final String prefix, final String uri)
+            throws SAXException {
+        final String current = namespaces.getURI(prefix);
+        if (current == null ? !uri.isEmpty() : !current.equals(uri)) {
+            declarePrefix(declared, prefix, uri);
+        }
+    }
+
+    private void declarePrefix(final List<String> declared, final String prefix, final String uri)
+            throws SAXException {
+        namespaces.declarePrefix(prefix, uri);
+        declared.add(prefix);
+        handler.startPrefixMapping(prefix, uri);
+    }
+
+    private void characters(final String value) throws SAXException {
+        final char[] chars = value.toCharArray();
+        handler.characters(chars, 0, chars.length);
+    }
+
+    private static boolean isNamespaceDeclaration(final String name) {
+        return name.equals(XMLConstants.XMLNS_ATTRIBUTE) || name.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ":");
+    }
+
+    private static String localName(final Node node) {
+        final String localName = node.getLocalName();
+        return localName != null ? localName : node.getNodeName();
+    }
+
+    private static String nullToEmpty(final String str) {
+        return str != null ? str : "";
+    }
+}
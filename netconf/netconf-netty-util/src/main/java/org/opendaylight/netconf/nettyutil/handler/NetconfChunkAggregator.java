@@ -8,9 +8,9 @@
 
 package org.opendaylight.netconf.nettyutil.handler;
 
+import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import java.util.List;
@@ -37,11 +37,28 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
         FOOTER_FOUR, // \n
     }
 
-    private final int maxChunkSize = DEFAULT_MAXIMUM_CHUNK_SIZE;
+    private final int maxMessageSize;
     private State state = State.HEADER_ONE;
     private long chunkSize;
+    private long messageSize;
     private CompositeByteBuf chunk;
 
+    public NetconfChunkAggregator() {
+        this(NetconfEOMAggregator.DEFAULT_MAXIMUM_MESSAGE_SIZE);
+    }
+
+    /**
+     * Create a new aggregator which fails messages exceeding specified size. The limit applies to the sum of all
+     * chunks making up a message, so that a peer cannot side-step it by splitting a message into many chunks. Each
+     * individual chunk is furthermore limited to {@link #DEFAULT_MAXIMUM_CHUNK_SIZE}.
+     *
+     * @param maxMessageSize maximum size of a message, excluding framing
+     */
+    public NetconfChunkAggregator(final int maxMessageSize) {
+        Preconditions.checkArgument(maxMessageSize > 0, "Invalid maximum message size %s", maxMessageSize);
+        this.maxMessageSize = maxMessageSize;
+    }
+
     private static void checkNewLine(final byte byteToCheck, final String errorMessage) {
         if (byteToCheck != '\n') {
             LOG.debug(GOT_PARAM_WHILE_WAITING_FOR_PARAM, byteToCheck, (byte)'\n');
@@ -57,10 +74,15 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
     }
 
     private void checkChunkSize() {
-        if (chunkSize > maxChunkSize) {
-            LOG.debug("Parsed chunk size {}, maximum allowed is {}", chunkSize, maxChunkSize);
+        if (chunkSize > DEFAULT_MAXIMUM_CHUNK_SIZE) {
+            LOG.debug("Parsed chunk size {}, maximum allowed is {}", chunkSize, DEFAULT_MAXIMUM_CHUNK_SIZE);
             throw new IllegalStateException("Maximum chunk size exceeded");
         }
+        if (messageSize + chunkSize > maxMessageSize) {
+            LOG.debug("Parsed chunk size {} with {} bytes received, maximum allowed is {}", chunkSize, messageSize,
+                maxMessageSize);
+            throw new IllegalStateException("Maximum message size exceeded");
+        }
     }
 
     @Override
@@ -72,7 +94,7 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
                     final byte b = in.readByte();
                     checkNewLine(b, "Malformed chunk header encountered (byte 0)");
                     state = State.HEADER_TWO;
-                    initChunk();
+                    initChunk(ctx);
                     break;
                 }
                 case HEADER_TWO: {
@@ -84,12 +106,14 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
                 case HEADER_LENGTH_FIRST: {
                     final byte b = in.readByte();
                     chunkSize = processHeaderLengthFirst(b);
+                    checkChunkSize();
                     state = State.HEADER_LENGTH_OTHER;
                     break;
                 }
                 case HEADER_LENGTH_OTHER: {
                     final byte b = in.readByte();
                     if (b == '\n') {
+                        messageSize += chunkSize;
                         state = State.DATA;
                         break;
                     }
@@ -102,26 +126,26 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
                     checkChunkSize();
                     break;
                 }
-                case DATA:
+                case DATA: {
                     /*
-                     * FIXME: this gathers all data into one big chunk before passing
-                     *        it on. Make sure the pipeline can work with partial data
-                     *        and then change this piece to pass the data on as it
-                     *        comes through.
+                     * Pass chunk data on as it comes through: each piece is retained as a slice of the inbound
+                     * buffer, so neither a copy is made nor does the cumulation buffer have to grow to hold
+                     * the entire chunk before we can make progress.
                      */
-                    if (in.readableBytes() < chunkSize) {
-                        LOG.debug("Buffer has {} bytes, need {} to complete chunk", in.readableBytes(), chunkSize);
-                        in.discardReadBytes();
+                    final int xfer = (int) Math.min(chunkSize, in.readableBytes());
+                    aggregateChunks(in.readRetainedSlice(xfer));
+                    chunkSize -= xfer;
+                    if (chunkSize != 0) {
+                        LOG.debug("Buffer exhausted, need {} more bytes to complete chunk", chunkSize);
                         return;
                     }
-                    aggregateChunks(in.readBytes((int) chunkSize));
                     state = State.FOOTER_ONE;
                     break;
+                }
                 case FOOTER_ONE: {
                     final byte b = in.readByte();
                     checkNewLine(b,"Malformed chunk footer encountered (byte 0)");
                     state = State.FOOTER_TWO;
-                    chunkSize = 0;
                     break;
                 }
                 case FOOTER_TWO: {
@@ -149,14 +173,22 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
                     LOG.info("Unknown state.");
             }
         }
+    }
 
-        in.discardReadBytes();
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext ctx) {
+        // Release any partially-assembled message, it holds references to inbound buffers
+        if (chunk != null) {
+            chunk.release();
+            chunk = null;
+        }
     }
 
     private void extractNewChunkOrMessageEnd(final byte byteToCheck) {
         if (isHeaderLengthFirst(byteToCheck)) {
             // Extract header length#1 from new chunk
             chunkSize = processHeaderLengthFirst(byteToCheck);
+            checkChunkSize();
             // Proceed with next chunk processing
             state = State.HEADER_LENGTH_OTHER;
         } else if (byteToCheck == '#') {
@@ -167,8 +199,11 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
         }
     }
 
-    private void initChunk() {
-        chunk = Unpooled.compositeBuffer();
+    private void initChunk(final ChannelHandlerContext ctx) {
+        // Use the channel's allocator and do not let the composite consolidate its components: that would copy
+        // the message assembled so far each time the component limit is hit.
+        chunk = ctx.alloc().compositeBuffer(Integer.MAX_VALUE);
+        messageSize = 0;
     }
 
     private void aggregateChunks(final ByteBuf newChunk) {
@@ -16,7 +16,19 @@ public class NetconfEOMAggregator extends DelimiterBasedFrameDecoder {
 
     public static final ByteBuf DELIMITER = Unpooled.wrappedBuffer(MessageParts.END_OF_MESSAGE);
 
+    public static final int DEFAULT_MAXIMUM_MESSAGE_SIZE = Integer.MAX_VALUE;
+
     public NetconfEOMAggregator() {
-        super(Integer.MAX_VALUE, DELIMITER);
+        this(DEFAULT_MAXIMUM_MESSAGE_SIZE);
+    }
+
+    /**
+     * Create a new aggregator which fails messages exceeding specified size. Once the limit is hit, the offending
+     * message is discarded as it arrives, so a peer which never sends the delimiter cannot exhaust memory.
+     *
+     * @param maxMessageSize maximum size of a message, excluding the delimiter
+     */
+    public NetconfEOMAggregator(final int maxMessageSize) {
+        super(maxMessageSize, DELIMITER);
     }
 }
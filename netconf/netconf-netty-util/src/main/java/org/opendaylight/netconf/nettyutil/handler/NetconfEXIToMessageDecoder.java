@@ -18,35 +18,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.TransformerFactoryConfigurationError;
-import javax.xml.transform.dom.DOMResult;
-import javax.xml.transform.sax.SAXTransformerFactory;
-import javax.xml.transform.sax.TransformerHandler;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.shaded.exificient.core.exceptions.EXIException;
 import org.opendaylight.yangtools.util.xml.UntrustedXML;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 public final class NetconfEXIToMessageDecoder extends ByteToMessageDecoder {
 
     private static final Logger LOG = LoggerFactory.getLogger(NetconfEXIToMessageDecoder.class);
-    private static final SAXTransformerFactory FACTORY;
-
-    static {
-        final TransformerFactory f = SAXTransformerFactory.newInstance();
-        if (!f.getFeature(SAXTransformerFactory.FEATURE)) {
-            throw new TransformerFactoryConfigurationError(
-                    String.format("Factory %s is not a SAXTransformerFactory", f));
-        }
-
-        FACTORY = (SAXTransformerFactory)f;
-    }
 
     /**
      * This class is not marked as shared, so it can be attached to only a single channel,
@@ -67,7 +49,7 @@ public final class NetconfEXIToMessageDecoder extends ByteToMessageDecoder {
 
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out)
-            throws IOException, SAXException, TransformerConfigurationException {
+            throws IOException, SAXException {
         /*
          * Note that we could loop here and process all the messages, but we can't do that.
          * The reason is <stop-exi> operation, which has the contract of immediately stopping
@@ -85,17 +67,15 @@ public final class NetconfEXIToMessageDecoder extends ByteToMessageDecoder {
             LOG.trace("Received to decode: {}", ByteBufUtil.hexDump(in));
         }
 
-        final TransformerHandler handler = FACTORY.newTransformerHandler();
+        // Build the document straight from the decoder's SAX events
+        final SAXDOMBuilder handler = new SAXDOMBuilder(documentBuilder.newDocument());
         reader.setContentHandler(handler);
 
-        final DOMResult domResult = new DOMResult(documentBuilder.newDocument());
-        handler.setResult(domResult);
-
         try (InputStream is = new ByteBufInputStream(in)) {
             // Performs internal reset before doing anything
             reader.parse(new InputSource(is));
         }
 
-        out.add(new NetconfMessage((Document) domResult.getNode()));
+        out.add(new NetconfMessage(handler.getDocument()));
     }
 }
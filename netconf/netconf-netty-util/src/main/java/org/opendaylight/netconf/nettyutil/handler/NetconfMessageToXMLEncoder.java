@@ -17,6 +17,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
@@ -30,13 +31,26 @@ public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMess
     private static final Logger LOG = LoggerFactory.getLogger(NetconfMessageToXMLEncoder.class);
 
     private final @Nullable String clientId;
+    private final boolean prettyPrint;
 
     public NetconfMessageToXMLEncoder() {
         this(Optional.empty());
     }
 
     public NetconfMessageToXMLEncoder(final Optional<String> clientId) {
+        this(clientId, false);
+    }
+
+    /**
+     * Create a new encoder.
+     *
+     * @param clientId optional client identifier, attached as a comment to each message
+     * @param prettyPrint {@code true} if messages should be indented. This makes them easier to read by humans, but
+     *                    costs CPU time and bandwidth, hence it is not enabled by default.
+     */
+    public NetconfMessageToXMLEncoder(final Optional<String> clientId, final boolean prettyPrint) {
         this.clientId = clientId.orElse(null);
+        this.prettyPrint = prettyPrint;
     }
 
     @Override
@@ -58,7 +72,9 @@ public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMess
             StreamResult result =
                     new StreamResult(new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8)));
             DOMSource source = new DOMSource(msg.getDocument());
-            ThreadLocalTransformers.getPrettyTransformer().transform(source, result);
+            final Transformer transformer = prettyPrint ? ThreadLocalTransformers.getPrettyTransformer()
+                : ThreadLocalTransformers.getDefaultTransformer();
+            transformer.transform(source, result);
         }
     }
 }
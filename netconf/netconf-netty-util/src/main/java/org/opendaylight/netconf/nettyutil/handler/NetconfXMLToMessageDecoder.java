@@ -72,6 +72,8 @@ public final class NetconfXMLToMessageDecoder extends ByteToMessageDecoder {
         if (in.isReadable()) {
             NetconfMessage msg;
 
+            // The message is parsed eagerly: every message's DOM is needed right away for notification dispatch,
+            // reply matching and error checking, and malformed input has to surface here as FailedNetconfMessage
             try {
                 msg = new NetconfMessage(XmlUtil.readXmlToDocument(new ByteBufInputStream(in)));
             } catch (SAXParseException exception) {
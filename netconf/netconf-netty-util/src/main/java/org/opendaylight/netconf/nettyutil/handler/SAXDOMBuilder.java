@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.nettyutil.handler;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.XMLConstants;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * A {@link ContentHandler} which builds a DOM {@link Document} directly from the SAX events it receives. This is the
+ * counterpart to {@link DOMSAXWalker} and a lightweight replacement for an identity
+ * {@link javax.xml.transform.sax.TransformerHandler} with a {@link javax.xml.transform.dom.DOMResult}.
+ *
+ * <p>
+ * Prefix mappings are turned into {@code xmlns} attributes on the element which starts immediately after them, so
+ * that the resulting document can be serialized back with the same namespace declarations. Adjacent character events
+ * are coalesced into a single {@link Text} node.
+ */
+final class SAXDOMBuilder extends DefaultHandler {
+    private final List<String> pendingPrefixes = new ArrayList<>(2);
+    private final List<String> pendingUris = new ArrayList<>(2);
+    private final Document document;
+
+    private Node current;
+
+    SAXDOMBuilder(final Document document) {
+        this.document = requireNonNull(document);
+        this.current = document;
+    }
+
+    Document getDocument() {
+        return document;
+    }
+
+    @Override
+    public void startPrefixMapping(final String prefix, final String uri) {
+        pendingPrefixes.add(prefix);
+        pendingUris.add(uri);
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName,
+            final Attributes attributes) {
+        final Element element = document.createElementNS(emptyToNull(uri), qName.isEmpty() ? localName : qName);
+
+        final int size = pendingPrefixes.size();
+        for (int i = 0; i < size; ++i) {
+            final String prefix = pendingPrefixes.get(i);
+            element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, prefix.isEmpty() ? XMLConstants.XMLNS_ATTRIBUTE
+                : XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix, pendingUris.get(i));
+        }
+        pendingPrefixes.clear();
+        pendingUris.clear();
+
+        final int length = attributes.getLength();
+        for (int i = 0; i < length; ++i) {
+            final String attrQName = attributes.getQName(i);
+            element.setAttributeNS(emptyToNull(attributes.getURI(i)),
+                attrQName.isEmpty() ? attributes.getLocalName(i) : attrQName, attributes.getValue(i));
+        }
+
+        current.appendChild(element);
+        current = element;
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) {
+        current = current.getParentNode();
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+        final String value = new String(ch, start, length);
+        final Node last = current.getLastChild();
+        if (last instanceof Text) {
+            ((Text) last).appendData(value);
+        } else if (current != document) {
+            current.appendChild(document.createTextNode(value));
+        }
+    }
+
+    @Override
+    public void ignorableWhitespace(final char[] ch, final int start, final int length) {
+        characters(ch, start, length);
+    }
+
+    @Override
+    public void processingInstruction(final String target, final String data) {
+        current.appendChild(document.createProcessingInstruction(target, data));
+    }
+
+    private static String emptyToNull(final String str) {
+        return str == null || str.isEmpty() ? null : str;
+    }
+}
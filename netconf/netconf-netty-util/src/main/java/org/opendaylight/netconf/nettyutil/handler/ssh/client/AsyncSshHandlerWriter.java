@@ -8,17 +8,22 @@
 
 package org.opendaylight.netconf.nettyutil.handler.ssh.client;
 
-import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
-import java.util.LinkedList;
-import java.util.Queue;
-import org.checkerframework.checker.lock.qual.GuardedBy;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.opendaylight.netconf.shaded.sshd.common.io.IoOutputStream;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoWriteFuture;
 import org.opendaylight.netconf.shaded.sshd.common.io.WritePendingException;
 import org.opendaylight.netconf.shaded.sshd.common.util.buffer.Buffer;
 import org.opendaylight.netconf.shaded.sshd.common.util.buffer.ByteArrayBuffer;
@@ -28,130 +33,215 @@ import org.slf4j.LoggerFactory;
 /**
  * Async Ssh writer. Takes messages(byte arrays) and sends them encrypted to remote server.
  * Also handles pending writes by caching requests until pending state is over.
+ *
+ * <p>
+ * At most one write is outstanding on the SSH channel at any time, others are queued in order. The queue is bounded
+ * to {@link #MAX_PENDING_WRITES} requests, further writes are failed immediately. Before that limit is reached,
+ * callers are expected to observe back-pressure: once the number of queued and outstanding bytes exceeds the channel's
+ * write buffer high water mark, the channel is marked as not writable until the backlog drains below the low water
+ * mark.
  */
 public final class AsyncSshHandlerWriter implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory
             .getLogger(AsyncSshHandlerWriter.class);
 
-    // public static final int MAX_PENDING_WRITES = 1000;
-    // TODO implement Limiting mechanism for pending writes
-    // But there is a possible issue with limiting:
-    // 1. What to do when queue is full ? Immediate Fail for every request ?
-    // 2. At this level we might be dealing with Chunks of messages(not whole messages)
-    // and unexpected behavior might occur when we send/queue 1 chunk and fail the other chunks
+    /**
+     * Maximum number of writes waiting for an outstanding write to complete.
+     */
+    public static final int MAX_PENDING_WRITES = 1000;
 
-    private final Object asyncInLock = new Object();
-    private volatile IoOutputStream asyncIn;
+    // Index of user-defined writability bit we use to signal back-pressure
+    private static final int WRITABILITY_INDEX = 1;
+    // Delay before retrying a write rejected by the SSH layer as pending
+    private static final long RETRY_DELAY_MILLIS = 10;
 
     // Order has to be preserved for queued writes
-    private final Deque<PendingWriteRequest> pending = new LinkedList<>();
+    private final Deque<PendingWriteRequest> pending = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+
+    private volatile IoOutputStream asyncIn;
+    private volatile long lastFlushLatencyNanos;
 
     public AsyncSshHandlerWriter(final IoOutputStream asyncIn) {
         this.asyncIn = asyncIn;
     }
 
-    @GuardedBy("asyncInLock")
-    private boolean isWriteExecuted = false;
-
     public void write(final ChannelHandlerContext ctx,
             final Object msg, final ChannelPromise promise) {
-        if (asyncIn == null) {
+        final IoOutputStream local = asyncIn;
+        // TODO check for isClosed, isClosing might be performed by mina SSH internally and is not required here
+        // If we are closed/closing, set immediate fail
+        if (local == null || local.isClosed() || local.isClosing()) {
+            ReferenceCountUtil.release(msg);
             promise.setFailure(new IllegalStateException("Channel closed"));
             return;
         }
-        // synchronized block due to deadlock that happens on ssh window resize
-        // writes and pending writes would lock the underlyinch channel session
-        // window resize write would try to write the message on an already locked channelSession
-        // while the pending write was in progress from the write callback
-        synchronized (asyncInLock) {
-            // TODO check for isClosed, isClosing might be performed by mina SSH internally and is not required here
-            // If we are closed/closing, set immediate fail
-            if (asyncIn.isClosed() || asyncIn.isClosing()) {
-                promise.setFailure(new IllegalStateException("Channel closed"));
-            } else {
-                final ByteBuf byteBufMsg = (ByteBuf) msg;
-                if (isWriteExecuted) {
-                    queueRequest(ctx, byteBufMsg, promise);
-                    return;
-                }
 
-                writeWithPendingDetection(ctx, promise, byteBufMsg, false);
+        final ByteBuf byteBufMsg = (ByteBuf) msg;
+        if (pendingWrites.incrementAndGet() > MAX_PENDING_WRITES) {
+            pendingWrites.decrementAndGet();
+            LOG.warn("Too many pending writes on channel: {}, remote window is not getting read or is too small",
+                ctx.channel());
+            byteBufMsg.release();
+            promise.setFailure(new IllegalStateException("Too many pending writes (" + MAX_PENDING_WRITES
+                + ") on channel " + ctx.channel()));
+            return;
+        }
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Queueing request on channel: {}, message: {}", ctx.channel(), byteBufToString(byteBufMsg));
+        }
+        updatePendingBytes(ctx.channel(), byteBufMsg.readableBytes());
+        pending.offer(new PendingWriteRequest(ctx, byteBufMsg, promise));
+        writePendingIfAny();
+    }
+
+    /**
+     * Return the number of writes waiting for an outstanding write to complete.
+     *
+     * @return Number of queued writes
+     */
+    public int getQueueDepth() {
+        return pendingWrites.get();
+    }
+
+    /**
+     * Return the number of bytes which have not yet been written to the SSH channel, including an outstanding write.
+     *
+     * @return Number of pending bytes
+     */
+    public long getPendingBytes() {
+        return pendingBytes.get();
+    }
+
+    /**
+     * Return the time the last completed write spent waiting in the queue and being written to the SSH channel.
+     *
+     * @return Flush latency in nanoseconds
+     */
+    public long getLastFlushLatencyNanos() {
+        return lastFlushLatencyNanos;
+    }
+
+    /**
+     * Return the maximum time a completed write spent waiting in the queue and being written to the SSH channel.
+     *
+     * @return Flush latency in nanoseconds
+     */
+    public long getMaxFlushLatencyNanos() {
+        return maxFlushLatencyNanos.get();
+    }
+
+    // Start writing the next request unless a write is already outstanding
+    private void writePendingIfAny() {
+        while (writing.compareAndSet(false, true)) {
+            final PendingWriteRequest pendingWrite = pending.poll();
+            if (pendingWrite != null) {
+                pendingWrites.decrementAndGet();
+                writeRequest(pendingWrite);
+                return;
+            }
+
+            writing.set(false);
+            // Re-check for requests enqueued after we have polled, but before we have reset the flag
+            if (pending.isEmpty()) {
+                return;
             }
         }
     }
 
-    //sending message with pending
-    //if resending message not succesfull, then attribute wasPending is true
-    private void writeWithPendingDetection(final ChannelHandlerContext ctx, final ChannelPromise promise,
-                                           final ByteBuf byteBufMsg, final boolean wasPending) {
+    private void writeRequest(final PendingWriteRequest pendingWrite) {
+        final ChannelHandlerContext ctx = pendingWrite.ctx;
+        final ByteBuf byteBufMsg = pendingWrite.msg;
+        final IoOutputStream local = asyncIn;
+        if (local == null) {
+            completeRequest(pendingWrite, new IllegalStateException("Channel closed"));
+            return;
+        }
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Writing request on channel: {}, message: {}", ctx.channel(), byteBufToString(byteBufMsg));
+        }
+
+        final IoWriteFuture writeFuture;
         try {
+            writeFuture = local.writePacket(toBuffer(byteBufMsg));
+        } catch (final WritePendingException e) {
+            // Someone else is writing to the SSH channel, retry later while keeping the request at the head
+            LOG.debug("Write pending on channel: {}, retrying", ctx.channel(), e);
+            pending.offerFirst(pendingWrite);
+            pendingWrites.incrementAndGet();
+            ctx.channel().eventLoop().schedule(() -> {
+                writing.set(false);
+                writePendingIfAny();
+            }, RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            return;
+        } catch (final IOException e) {
+            LOG.warn("Ssh write request failed on channel: {} for message: {}", ctx.channel(),
+                byteBufToString(byteBufMsg), e);
+            completeRequest(pendingWrite, e);
+            return;
+        }
 
+        writeFuture.addListener(future -> {
             if (LOG.isTraceEnabled()) {
-                LOG.trace("Writing request on channel: {}, message: {}", ctx.channel(), byteBufToString(byteBufMsg));
+                LOG.trace("Ssh write request finished on channel: {} with result: {}: and ex:{}, message: {}",
+                    ctx.channel(), future.isWritten(), future.getException(), byteBufToString(byteBufMsg));
             }
 
-            isWriteExecuted = true;
-
-            asyncIn.writePacket(toBuffer(byteBufMsg)).addListener(future -> {
-                // synchronized block due to deadlock that happens on ssh window resize
-                // writes and pending writes would lock the underlyinch channel session
-                // window resize write would try to write the message on an already locked channelSession,
-                // while the pending write was in progress from the write callback
-                synchronized (asyncInLock) {
-                    if (LOG.isTraceEnabled()) {
-                        LOG.trace(
-                            "Ssh write request finished on channel: {} with result: {}: and ex:{}, message: {}",
-                            ctx.channel(), future.isWritten(), future.getException(), byteBufToString(byteBufMsg));
-                    }
-
-                    // Notify success or failure
-                    if (future.isWritten()) {
-                        promise.setSuccess();
-                    } else {
-                        LOG.warn("Ssh write request failed on channel: {} for message: {}", ctx.channel(),
-                                byteBufToString(byteBufMsg), future.getException());
-                        promise.setFailure(future.getException());
-                    }
-
-                    //rescheduling message from queue after successfully sent
-                    if (wasPending) {
-                        byteBufMsg.resetReaderIndex();
-                        pending.remove();
-                    }
-
-                    // Not needed anymore, release
-                    byteBufMsg.release();
-                }
-
-                // Check pending queue and schedule next
-                // At this time we are guaranteed that we are not in pending state anymore
-                // so the next request should succeed
-                writePendingIfAny();
-            });
-
-        } catch (final IOException | WritePendingException e) {
-            if (!wasPending) {
-                queueRequest(ctx, byteBufMsg, promise);
+            if (future.isWritten()) {
+                completeRequest(pendingWrite, null);
+            } else {
+                LOG.warn("Ssh write request failed on channel: {} for message: {}", ctx.channel(),
+                    byteBufToString(byteBufMsg), future.getException());
+                completeRequest(pendingWrite, future.getException());
             }
+        });
+    }
+
+    private void completeRequest(final PendingWriteRequest pendingWrite, final Throwable failure) {
+        final long latency = System.nanoTime() - pendingWrite.startNanos;
+        lastFlushLatencyNanos = latency;
+        maxFlushLatencyNanos.accumulateAndGet(latency, Math::max);
+
+        updatePendingBytes(pendingWrite.ctx.channel(), -pendingWrite.size);
+        // Not needed anymore, release
+        pendingWrite.msg.release();
+
+        // Notify success or failure
+        if (failure == null) {
+            pendingWrite.promise.setSuccess();
+        } else {
+            pendingWrite.promise.setFailure(failure);
         }
+
+        // Check pending queue and schedule next
+        writing.set(false);
+        writePendingIfAny();
     }
 
-    private void writePendingIfAny() {
-        synchronized (asyncInLock) {
-            if (pending.peek() == null) {
-                isWriteExecuted = false;
-                return;
+    private void updatePendingBytes(final Channel channel, final long delta) {
+        final long bytes = pendingBytes.addAndGet(delta);
+        if (delta > 0) {
+            if (bytes > channel.config().getWriteBufferHighWaterMark()) {
+                setUserDefinedWritability(channel, false);
             }
+        } else if (bytes < channel.config().getWriteBufferLowWaterMark()) {
+            setUserDefinedWritability(channel, true);
+        }
+    }
 
-            final PendingWriteRequest pendingWrite = pending.peek();
-            final ByteBuf msg = pendingWrite.msg;
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Writing pending request on channel: {}, message: {}",
-                        pendingWrite.ctx.channel(), byteBufToString(msg));
+    private static void setUserDefinedWritability(final Channel channel, final boolean writable) {
+        final Channel.Unsafe unsafe = channel.unsafe();
+        if (unsafe != null) {
+            final ChannelOutboundBuffer outboundBuffer = unsafe.outboundBuffer();
+            if (outboundBuffer != null) {
+                outboundBuffer.setUserDefinedWritability(WRITABILITY_INDEX, writable);
             }
-
-            writeWithPendingDetection(pendingWrite.ctx, pendingWrite.promise, msg, true);
         }
     }
 
@@ -161,31 +251,35 @@ public final class AsyncSshHandlerWriter implements AutoCloseable {
         return s;
     }
 
-    private void queueRequest(final ChannelHandlerContext ctx, final ByteBuf msg, final ChannelPromise promise) {
-//        try {
-        LOG.debug("Write pending on channel: {}, queueing, current queue size: {}", ctx.channel(), pending.size());
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Queueing request due to pending: {}", byteBufToString(msg));
-        }
-        new PendingWriteRequest(ctx, msg, promise).pend(pending);
-//        } catch (final Exception ex) {
-//            LOG.warn("Unable to queue write request on channel: {}. Setting fail for the request: {}",
-//                    ctx.channel(), ex, byteBufToString(msg));
-//            msg.release();
-//            promise.setFailure(ex);
-//        }
-    }
-
     @Override
     public void close() {
         asyncIn = null;
+
+        // Fail all queued writes, an outstanding write will be completed by the SSH layer
+        while (true) {
+            final PendingWriteRequest pendingWrite = pending.poll();
+            if (pendingWrite == null) {
+                break;
+            }
+            pendingWrites.decrementAndGet();
+            pendingBytes.addAndGet(-pendingWrite.size);
+            pendingWrite.msg.release();
+            pendingWrite.promise.setFailure(new IllegalStateException("Channel closed"));
+        }
     }
 
     private static Buffer toBuffer(final ByteBuf msg) {
-        // TODO Buffer vs ByteBuf translate, Can we handle that better ?
-        msg.resetReaderIndex();
-        final byte[] temp = new byte[msg.readableBytes()];
-        msg.readBytes(temp, 0, msg.readableBytes());
+        final int length = msg.readableBytes();
+        if (msg.hasArray()) {
+            // Hand the backing array to the SSH layer directly. This is safe, as the message is not released until
+            // the write completes.
+            return new ByteArrayBuffer(msg.array(), msg.arrayOffset() + msg.readerIndex(), length);
+        }
+
+        // SSH buffers are backed by arrays, hence direct buffers have to be copied. Note this is the usual case, as
+        // the framing encoders allocate I/O buffers.
+        final byte[] temp = new byte[length];
+        msg.getBytes(msg.readerIndex(), temp);
         return new ByteArrayBuffer(temp);
     }
 
@@ -193,21 +287,15 @@ public final class AsyncSshHandlerWriter implements AutoCloseable {
         private final ChannelHandlerContext ctx;
         private final ByteBuf msg;
         private final ChannelPromise promise;
+        private final int size;
+        private final long startNanos;
 
         PendingWriteRequest(final ChannelHandlerContext ctx, final ByteBuf msg, final ChannelPromise promise) {
             this.ctx = ctx;
-            // Reset reader index, last write (failed) attempt moved index to the end
-            msg.resetReaderIndex();
             this.msg = msg;
             this.promise = promise;
-        }
-
-        public void pend(final Queue<PendingWriteRequest> pending) {
-            // Preconditions.checkState(pending.size() < MAX_PENDING_WRITES,
-            // "Too much pending writes(%s) on channel: %s, remote window is not getting read or is too small",
-            // pending.size(), ctx.channel());
-            Preconditions.checkState(pending.offer(this),
-                "Cannot pend another request write (pending count: %s) on channel: %s", pending.size(), ctx.channel());
+            size = msg.readableBytes();
+            startNanos = System.nanoTime();
         }
     }
 }
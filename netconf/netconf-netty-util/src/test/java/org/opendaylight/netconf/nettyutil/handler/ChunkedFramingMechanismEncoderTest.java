@@ -14,6 +14,7 @@ import static org.junit.Assert.assertTrue;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import org.junit.Before;
@@ -61,6 +62,24 @@ public class ChunkedFramingMechanismEncoderTest {
         assertTrue(string.endsWith("\n#20\naaaaaaaaaaaaaaaaaaaa\n##\n"));
     }
 
+    @Test
+    public void testEncodedSize() throws Exception {
+        final ChunkedFramingMechanismEncoder encoder = new ChunkedFramingMechanismEncoder(chunkSize);
+        assertEquals(1077, encoder.encodedSize(chunkSize * 4 + 20));
+        assertEquals(1052, encoder.encodedSize(chunkSize * 4));
+        assertEquals(8, encoder.encodedSize(0));
+    }
+
+    @Test
+    public void testEncodeExactAllocation() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new ChunkedFramingMechanismEncoder(chunkSize));
+        assertTrue(channel.writeOutbound(Unpooled.wrappedBuffer(getByteArray(chunkSize * 40 + 7))));
+
+        final ByteBuf out = channel.readOutbound();
+        assertEquals(out.capacity(), out.readableBytes());
+        out.release();
+    }
+
     private static byte[] getByteArray(final int size) {
         final byte[] bytes = new byte[size];
         for (int i = 0; i < size; i++) {
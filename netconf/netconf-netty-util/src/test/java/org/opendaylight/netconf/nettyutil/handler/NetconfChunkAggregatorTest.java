@@ -8,13 +8,16 @@
 package org.opendaylight.netconf.nettyutil.handler;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
-import org.junit.BeforeClass;
+import org.junit.Before;
 import org.junit.Test;
 
 public class NetconfChunkAggregatorTest {
@@ -36,34 +39,67 @@ public class NetconfChunkAggregatorTest {
 
     private static final String CHUNKED_MESSAGE_ONE = "\n#101\n" + EXPECTED_MESSAGE + "\n##\n";
 
-    private static NetconfChunkAggregator agr;
+    private EmbeddedChannel channel;
 
-    @BeforeClass
-    public static void setUp() throws Exception {
-        agr = new NetconfChunkAggregator();
+    @Before
+    public void setUp() throws Exception {
+        channel = new EmbeddedChannel(new NetconfChunkAggregator());
     }
 
     @Test
     public void testMultipleChunks() throws Exception {
-        final List<Object> output = new ArrayList<>();
-        final ByteBuf input = Unpooled.copiedBuffer(CHUNKED_MESSAGE.getBytes(StandardCharsets.UTF_8));
-        agr.decode(null, input, output);
-
-        assertEquals(1, output.size());
-        final ByteBuf chunk = (ByteBuf) output.get(0);
+        channel.writeInbound(Unpooled.copiedBuffer(CHUNKED_MESSAGE.getBytes(StandardCharsets.UTF_8)));
 
+        final ByteBuf chunk = channel.readInbound();
         assertEquals(EXPECTED_MESSAGE, chunk.toString(StandardCharsets.UTF_8));
+        assertNull(channel.readInbound());
     }
 
     @Test
     public void testOneChunks() throws Exception {
-        final List<Object> output = new ArrayList<>();
-        final ByteBuf input = Unpooled.copiedBuffer(CHUNKED_MESSAGE_ONE.getBytes(StandardCharsets.UTF_8));
-        agr.decode(null, input, output);
+        channel.writeInbound(Unpooled.copiedBuffer(CHUNKED_MESSAGE_ONE.getBytes(StandardCharsets.UTF_8)));
+
+        final ByteBuf chunk = channel.readInbound();
+        assertEquals(EXPECTED_MESSAGE, chunk.toString(StandardCharsets.UTF_8));
+        assertNull(channel.readInbound());
+    }
 
-        assertEquals(1, output.size());
-        final ByteBuf chunk = (ByteBuf) output.get(0);
+    @Test
+    public void testSplitChunks() throws Exception {
+        final byte[] bytes = CHUNKED_MESSAGE_ONE.getBytes(StandardCharsets.UTF_8);
+
+        // Deliver the message in small pieces, splitting chunk data across multiple reads
+        for (int offset = 0; offset < bytes.length; offset += 7) {
+            channel.writeInbound(Unpooled.wrappedBuffer(bytes, offset, Math.min(7, bytes.length - offset)));
+        }
 
+        final ByteBuf chunk = channel.readInbound();
         assertEquals(EXPECTED_MESSAGE, chunk.toString(StandardCharsets.UTF_8));
+        assertNull(channel.readInbound());
+    }
+
+    @Test
+    public void testMessageAtLimit() throws Exception {
+        channel = new EmbeddedChannel(new NetconfChunkAggregator(EXPECTED_MESSAGE.length()));
+        channel.writeInbound(Unpooled.copiedBuffer(CHUNKED_MESSAGE.getBytes(StandardCharsets.UTF_8)));
+
+        final ByteBuf chunk = channel.readInbound();
+        assertEquals(EXPECTED_MESSAGE, chunk.toString(StandardCharsets.UTF_8));
+        assertNull(channel.readInbound());
+    }
+
+    @Test
+    public void testMessageTooLong() throws Exception {
+        // Every chunk fits within the limit, but the message as a whole does not
+        channel = new EmbeddedChannel(new NetconfChunkAggregator(EXPECTED_MESSAGE.length() - 1));
+
+        try {
+            channel.writeInbound(Unpooled.copiedBuffer(CHUNKED_MESSAGE.getBytes(StandardCharsets.UTF_8)));
+            fail("Oversized message should have been rejected");
+        } catch (DecoderException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals("Maximum message size exceeded", e.getCause().getMessage());
+        }
+        assertNull(channel.readInbound());
     }
 }
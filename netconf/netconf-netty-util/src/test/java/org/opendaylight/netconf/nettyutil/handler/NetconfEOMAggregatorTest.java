@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.nettyutil.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.TooLongFrameException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class NetconfEOMAggregatorTest {
+    private static final String MESSAGE = "<rpc message-id=\"102\"><close-session/></rpc>";
+    private static final String FRAMED_MESSAGE = MESSAGE + "]]>]]>";
+
+    @Test
+    public void testMessage() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new NetconfEOMAggregator());
+        channel.writeInbound(Unpooled.copiedBuffer(FRAMED_MESSAGE, StandardCharsets.UTF_8));
+
+        final ByteBuf message = channel.readInbound();
+        assertEquals(MESSAGE, message.toString(StandardCharsets.UTF_8));
+        assertNull(channel.readInbound());
+    }
+
+    @Test(expected = TooLongFrameException.class)
+    public void testMessageTooLong() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new NetconfEOMAggregator(MESSAGE.length() - 1));
+        channel.writeInbound(Unpooled.copiedBuffer(FRAMED_MESSAGE, StandardCharsets.UTF_8));
+    }
+}
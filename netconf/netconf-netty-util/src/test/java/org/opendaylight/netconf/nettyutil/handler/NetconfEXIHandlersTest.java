@@ -9,6 +9,7 @@ package org.opendaylight.netconf.nettyutil.handler;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -17,9 +18,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import javax.xml.XMLConstants;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXResult;
+import org.custommonkey.xmlunit.Diff;
 import org.custommonkey.xmlunit.XMLUnit;
 import org.junit.Before;
 import org.junit.Test;
@@ -28,6 +31,9 @@ import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.nettyutil.handler.exi.EXIParameters;
 import org.opendaylight.netconf.shaded.exificient.core.exceptions.EXIException;
 import org.opendaylight.netconf.shaded.exificient.main.api.sax.SAXEncoder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 public class NetconfEXIHandlersTest {
 
@@ -75,4 +81,31 @@ public class NetconfEXIHandlersTest {
 
         XMLUnit.compareXML(msg.getDocument(), ((NetconfMessage) out.get(0)).getDocument());
     }
+
+    @Test
+    public void testEncodeDecodeNamespaces() throws Exception {
+        final NetconfMessage rpc = new NetconfMessage(XmlUtil.readXmlToDocument(
+            "<rpc xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\" message-id=\"101\">"
+                + "<get-config><source><running/></source>"
+                + "<filter xmlns:t=\"urn:test\" type=\"subtree\"><t:top><t:name>a &amp; b</t:name></t:top>"
+                + "</filter></get-config></rpc>"));
+
+        final ByteBuf buffer = Unpooled.buffer();
+        netconfMessageToEXIEncoder.encode(null, rpc, buffer);
+
+        final List<Object> out = new ArrayList<>();
+        netconfEXIToMessageDecoder.decode(null, buffer, out);
+
+        final Document decoded = ((NetconfMessage) out.get(0)).getDocument();
+        final Diff diff = XMLUnit.compareXML(rpc.getDocument(), decoded);
+        assertTrue(diff.toString(), diff.similar());
+
+        // Namespace declarations are retained and adjacent text is coalesced
+        final Element filter = (Element) decoded.getElementsByTagNameNS("urn:ietf:params:xml:ns:netconf:base:1.0",
+            "filter").item(0);
+        assertEquals("urn:test", filter.getAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, "t"));
+        final Node name = decoded.getElementsByTagNameNS("urn:test", "name").item(0);
+        assertEquals(1, name.getChildNodes().getLength());
+        assertEquals("a & b", name.getTextContent());
+    }
 }
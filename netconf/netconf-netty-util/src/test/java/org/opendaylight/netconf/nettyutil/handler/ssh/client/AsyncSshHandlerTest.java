@@ -39,7 +39,6 @@ import java.net.SocketAddress;
 import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Before;
-import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -296,7 +295,6 @@ public class AsyncSshHandlerTest {
         verify(secondWritePromise).setSuccess();
     }
 
-    @Ignore("Pending queue is not limited")
     @Test
     public void testWritePendingMax() throws Exception {
         asyncSshHandler.connect(ctx, remoteAddress, localAddress, promise);
@@ -324,7 +322,7 @@ public class AsyncSshHandlerTest {
         final ChannelPromise secondWritePromise = getMockedPromise();
         // now make write throw pending exception
         doThrow(WritePendingException.class).when(asyncIn).writePacket(any(Buffer.class));
-        for (int i = 0; i < 1001; i++) {
+        for (int i = 0; i < AsyncSshHandlerWriter.MAX_PENDING_WRITES + 1; i++) {
             asyncSshHandler.write(ctx, Unpooled.copiedBuffer(new byte[]{0, 1, 2, 3, 4, 5}), secondWritePromise);
         }
 
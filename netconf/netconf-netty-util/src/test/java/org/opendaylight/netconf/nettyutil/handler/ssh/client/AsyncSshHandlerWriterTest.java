@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.nettyutil.handler.ssh.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opendaylight.netconf.shaded.sshd.common.future.SshFutureListener;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoOutputStream;
+import org.opendaylight.netconf.shaded.sshd.common.io.IoWriteFuture;
+import org.opendaylight.netconf.shaded.sshd.common.util.buffer.Buffer;
+
+public class AsyncSshHandlerWriterTest {
+    private final List<SshFutureListener<IoWriteFuture>> listeners = new ArrayList<>();
+    private final List<IoWriteFuture> futures = new ArrayList<>();
+
+    private EmbeddedChannel channel;
+    private ChannelHandlerContext ctx;
+    private IoOutputStream asyncIn;
+    private AsyncSshHandlerWriter writer;
+
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel();
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16));
+        ctx = mock(ChannelHandlerContext.class);
+        doReturn(channel).when(ctx).channel();
+
+        asyncIn = mock(IoOutputStream.class);
+        doReturn(false).when(asyncIn).isClosed();
+        doReturn(false).when(asyncIn).isClosing();
+        writer = new AsyncSshHandlerWriter(asyncIn);
+    }
+
+    @After
+    public void tearDown() {
+        writer.close();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testWritabilityFollowsWaterMarks() throws Exception {
+        stubPendingWrites();
+
+        final ChannelPromise first = channel.newPromise();
+        writer.write(ctx, message(10), first);
+        assertTrue(channel.isWritable());
+
+        // Above the high water mark
+        final ChannelPromise second = channel.newPromise();
+        writer.write(ctx, message(10), second);
+        assertFalse(channel.isWritable());
+        assertEquals(20, writer.getPendingBytes());
+        assertEquals(1, writer.getQueueDepth());
+
+        // Still above the low water mark
+        completeWrite(0);
+        assertTrue(first.isSuccess());
+        assertFalse(channel.isWritable());
+
+        // Below the low water mark
+        completeWrite(1);
+        assertTrue(second.isSuccess());
+        assertTrue(channel.isWritable());
+        assertEquals(0, writer.getPendingBytes());
+    }
+
+    @Test
+    public void testQueuedWritesFailOnClose() throws Exception {
+        stubPendingWrites();
+
+        final ChannelPromise outstanding = channel.newPromise();
+        writer.write(ctx, message(4), outstanding);
+        final ChannelPromise queued = channel.newPromise();
+        writer.write(ctx, message(4), queued);
+        assertEquals(1, writer.getQueueDepth());
+
+        writer.close();
+        assertTrue(queued.isDone());
+        assertTrue(queued.cause() instanceof IllegalStateException);
+        assertEquals(0, writer.getQueueDepth());
+        // The outstanding write is left to the SSH layer
+        assertFalse(outstanding.isDone());
+
+        // Writes after close fail immediately
+        final ChannelPromise late = channel.newPromise();
+        writer.write(ctx, message(4), late);
+        assertTrue(late.cause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testDirectAndHeapBuffers() throws Exception {
+        stubPendingWrites();
+        final byte[] bytes = "<rpc/>".getBytes(StandardCharsets.UTF_8);
+
+        final ByteBuf direct = Unpooled.directBuffer().writeBytes(bytes);
+        writer.write(ctx, direct, channel.newPromise());
+        completeWrite(0);
+        final ByteBuf heap = Unpooled.buffer().writeBytes(bytes);
+        writer.write(ctx, heap, channel.newPromise());
+
+        final ArgumentCaptor<Buffer> written = ArgumentCaptor.forClass(Buffer.class);
+        verify(asyncIn, times(2)).writePacket(written.capture());
+        for (Buffer buffer : written.getAllValues()) {
+            assertArrayEquals(bytes, buffer.getCompactData());
+        }
+        completeWrite(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubPendingWrites() throws Exception {
+        doAnswer(invocation -> {
+            final IoWriteFuture future = mock(IoWriteFuture.class);
+            doReturn(true).when(future).isWritten();
+            doAnswer(inv -> {
+                listeners.add(inv.getArgument(0));
+                return future;
+            }).when(future).addListener(any(SshFutureListener.class));
+            futures.add(future);
+            return future;
+        }).when(asyncIn).writePacket(any(Buffer.class));
+    }
+
+    private void completeWrite(final int index) {
+        listeners.get(index).operationComplete(futures.get(index));
+    }
+
+    private static ByteBuf message(final int size) {
+        return Unpooled.buffer(size).writeZero(size);
+    }
+}
@@ -21,6 +21,7 @@ import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.topology.singleton.impl.utils.ChunkedPayloads;
 import org.opendaylight.netconf.topology.singleton.impl.utils.ClusteringRpcException;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.SchemaPathMessage;
@@ -58,8 +59,9 @@ public class ProxyDOMRpcService implements DOMRpcService {
 
         final NormalizedNodeMessage normalizedNodeMessage = input != null
                 ? new NormalizedNodeMessage(YangInstanceIdentifier.empty(), input) : null;
-        final Future<Object> scalaFuture = Patterns.ask(masterActorRef,
-                new InvokeRpcMessage(new SchemaPathMessage(type), normalizedNodeMessage), actorResponseWaitTime);
+        final Future<Object> scalaFuture = ChunkedPayloads.assemble(Patterns.ask(masterActorRef,
+                new InvokeRpcMessage(new SchemaPathMessage(type), normalizedNodeMessage), actorResponseWaitTime),
+                actorResponseWaitTime, actorSystem.dispatcher());
 
         final SettableFuture<DOMRpcResult> settableFuture = SettableFuture.create();
 
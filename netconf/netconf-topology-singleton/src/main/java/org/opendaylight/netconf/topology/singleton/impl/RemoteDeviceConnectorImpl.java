@@ -185,12 +185,14 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
                     libraryModulesSchemas = LibraryModulesSchemas.create(yangLibURL);
                 }
 
+                // A single provider for all sources, so its fetches share the device's fetch window
+                final YangLibrarySchemaYangSourceProvider yangLibProvider = new YangLibrarySchemaYangSourceProvider(
+                    remoteDeviceId, libraryModulesSchemas.getAvailableModels(),
+                    schemaResourcesDTO.getSchemaFetchCoordinator());
                 for (final Map.Entry<SourceIdentifier, URL> sourceIdentifierURLEntry :
                         libraryModulesSchemas.getAvailableModels().entrySet()) {
                     registeredYangLibSources
-                            .add(schemaResourcesDTO.getSchemaRegistry().registerSchemaSource(
-                                    new YangLibrarySchemaYangSourceProvider(remoteDeviceId,
-                                            libraryModulesSchemas.getAvailableModels()),
+                            .add(schemaResourcesDTO.getSchemaRegistry().registerSchemaSource(yangLibProvider,
                                     PotentialSchemaSource
                                             .create(sourceIdentifierURLEntry.getKey(), YangTextSchemaSource.class,
                                                     PotentialSchemaSource.Costs.REMOTE_IO.getValue())));
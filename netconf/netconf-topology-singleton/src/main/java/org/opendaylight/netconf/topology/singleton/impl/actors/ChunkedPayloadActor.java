@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl.actors;
+
+import static java.util.Objects.requireNonNull;
+
+import akka.actor.Props;
+import akka.actor.ReceiveTimeout;
+import akka.actor.UntypedAbstractActor;
+import java.util.Arrays;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.ChunkRequest;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.PayloadChunk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.concurrent.duration.Duration;
+
+/**
+ * ChunkedPayloadActor holds a serialized reply and hands it out in chunks as they are requested by the slave. It
+ * stops once the last chunk has been handed out, or when the slave stops asking for more.
+ */
+public final class ChunkedPayloadActor extends UntypedAbstractActor {
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedPayloadActor.class);
+
+    private final byte[] payload;
+    private final int chunkSize;
+
+    private ChunkedPayloadActor(final byte[] payload, final int chunkSize, final Duration idleTimeout) {
+        this.payload = requireNonNull(payload);
+        this.chunkSize = chunkSize;
+        context().setReceiveTimeout(idleTimeout);
+    }
+
+    /**
+     * Creates new actor Props.
+     *
+     * @param payload     serialized reply
+     * @param chunkSize   maximum size of a single chunk
+     * @param idleTimeout time after which the payload is discarded if no chunk is requested
+     * @return props
+     */
+    static Props props(final byte[] payload, final int chunkSize, final Duration idleTimeout) {
+        return Props.create(ChunkedPayloadActor.class, () -> new ChunkedPayloadActor(payload, chunkSize,
+            idleTimeout));
+    }
+
+    @Override
+    public void onReceive(final Object message) {
+        if (message instanceof ChunkRequest) {
+            final int offset = ((ChunkRequest) message).getOffset();
+            if (offset >= payload.length) {
+                LOG.warn("Chunk at {} requested past the end of {} byte payload", offset, payload.length);
+                context().stop(self());
+                return;
+            }
+
+            final int end = Math.min(offset + chunkSize, payload.length);
+            sender().tell(new PayloadChunk(Arrays.copyOfRange(payload, offset, end)), self());
+            if (end == payload.length) {
+                context().stop(self());
+            }
+        } else if (message instanceof ReceiveTimeout) {
+            LOG.warn("No chunk of {} byte payload requested for a while, discarding it", payload.length);
+            context().stop(self());
+        } else {
+            unhandled(message);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl.actors;
+
+import static java.util.Objects.requireNonNull;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import java.io.IOException;
+import java.util.Arrays;
+import org.opendaylight.netconf.topology.singleton.impl.utils.ChunkedPayloads;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.ChunkedPayloadStart;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.SerializedPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Master-side helper for sending replies which may be too large for a single remoting message. Replies are serialized
+ * exactly once. Those whose serialized form exceeds the chunk size are parked in a {@link ChunkedPayloadActor} and
+ * announced to the recipient through a {@link ChunkedPayloadStart}, the others are sent as a
+ * {@link SerializedPayload}.
+ *
+ * <p>
+ * This class is safe to use from future callbacks, as it only interacts with the {@link ActorSystem}, not with the
+ * context of the calling actor.
+ */
+class ChunkedPayloadSender {
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedPayloadSender.class);
+
+    static final ChunkedPayloadSender DISABLED = new ChunkedPayloadSender();
+
+    private final ActorSystem actorSystem;
+    private final int chunkSize;
+    private final Duration idleTimeout;
+
+    private ChunkedPayloadSender() {
+        actorSystem = null;
+        chunkSize = 0;
+        idleTimeout = null;
+    }
+
+    private ChunkedPayloadSender(final ActorSystem actorSystem, final int chunkSize, final Duration idleTimeout) {
+        this.actorSystem = requireNonNull(actorSystem);
+        this.chunkSize = chunkSize;
+        this.idleTimeout = requireNonNull(idleTimeout);
+    }
+
+    /**
+     * Create a new sender.
+     *
+     * @param actorSystem actor system to host payload actors
+     * @param chunkSize   maximum size of a single chunk, non-positive values disable chunking
+     * @param idleTimeout time after which a parked payload is discarded if the recipient does not request it
+     * @return a sender
+     */
+    static ChunkedPayloadSender create(final ActorSystem actorSystem, final int chunkSize,
+            final Duration idleTimeout) {
+        return chunkSize > 0 ? new ChunkedPayloadSender(actorSystem, chunkSize, idleTimeout) : DISABLED;
+    }
+
+    void tell(final ActorRef recipient, final Object message, final ActorRef sender) {
+        if (chunkSize > 0) {
+            final byte[] bytes;
+            try {
+                bytes = ChunkedPayloads.serialize(message);
+            } catch (IOException e) {
+                LOG.warn("Failed to serialize {}, sending it as a single message", message, e);
+                recipient.tell(message, sender);
+                return;
+            }
+
+            if (bytes.length > chunkSize) {
+                final ActorRef source = actorSystem.actorOf(ChunkedPayloadActor.props(bytes, chunkSize, idleTimeout));
+                LOG.debug("Sending {} byte reply to {} in chunks of {} via {}", bytes.length, recipient, chunkSize,
+                    source);
+                recipient.tell(new ChunkedPayloadStart(source, bytes.length, Arrays.copyOf(bytes, chunkSize)),
+                    sender);
+            } else {
+                // Ship the bytes we already have, so the reply is not serialized a second time by remoting
+                recipient.tell(new SerializedPayload(bytes), sender);
+            }
+            return;
+        }
+
+        recipient.tell(message, sender);
+    }
+}
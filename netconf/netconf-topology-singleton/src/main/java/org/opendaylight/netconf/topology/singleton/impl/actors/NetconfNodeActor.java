@@ -120,7 +120,7 @@ public class NetconfNodeActor extends AbstractUntypedActor {
             sourceIdentifiers = masterActorData.getSourceIndentifiers();
             this.deviceDataBroker = masterActorData.getDeviceDataBroker();
             final DOMDataTreeReadTransaction tx = deviceDataBroker.newReadOnlyTransaction();
-            readTxActor = context().actorOf(ReadTransactionActor.props(tx));
+            readTxActor = context().actorOf(ReadTransactionActor.props(tx, newPayloadSender()));
             this.deviceRpc = masterActorData.getDeviceRpc();
             this.deviceAction = masterActorData.getDeviceAction();
 
@@ -164,7 +164,8 @@ public class NetconfNodeActor extends AbstractUntypedActor {
         } else if (message instanceof NewReadWriteTransactionRequest) {
             try {
                 final DOMDataTreeReadWriteTransaction tx = deviceDataBroker.newReadWriteTransaction();
-                final ActorRef txActor = context().actorOf(ReadWriteTransactionActor.props(tx, writeTxIdleTimeout));
+                final ActorRef txActor = context().actorOf(ReadWriteTransactionActor.props(tx, writeTxIdleTimeout,
+                    newPayloadSender()));
                 sender().tell(new Success(txActor), self());
             } catch (final Exception t) {
                 sender().tell(new Failure(t), self());
@@ -234,12 +235,18 @@ public class NetconfNodeActor extends AbstractUntypedActor {
         }, MoreExecutors.directExecutor());
     }
 
+    private ChunkedPayloadSender newPayloadSender() {
+        return ChunkedPayloadSender.create(context().system(), setup.getPayloadChunkSize(),
+            actorResponseWaitTime.duration());
+    }
+
     private void invokeSlaveRpc(final SchemaPath schemaPath, final NormalizedNodeMessage normalizedNodeMessage,
                                 final ActorRef recipient) {
 
         LOG.debug("{}: invokeSlaveRpc for {}, input: {} on rpc service {}", id, schemaPath, normalizedNodeMessage,
                 deviceRpc);
 
+        final ChunkedPayloadSender payloadSender = newPayloadSender();
         final ListenableFuture<? extends DOMRpcResult> rpcResult = deviceRpc.invokeRpc(schemaPath,
                 normalizedNodeMessage != null ? normalizedNodeMessage.getNode() : null);
 
@@ -257,7 +264,8 @@ public class NetconfNodeActor extends AbstractUntypedActor {
                     nodeMessageReply = new NormalizedNodeMessage(YangInstanceIdentifier.empty(),
                             domRpcResult.getResult());
                 }
-                recipient.tell(new InvokeRpcMessageReply(nodeMessageReply, domRpcResult.getErrors()), getSelf());
+                payloadSender.tell(recipient, new InvokeRpcMessageReply(nodeMessageReply, domRpcResult.getErrors()),
+                    getSelf());
             }
 
             @Override
@@ -24,9 +24,11 @@ import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 class ReadAdapter {
 
     private final DOMDataTreeReadOperations tx;
+    private final ChunkedPayloadSender payloadSender;
 
-    ReadAdapter(final DOMDataTreeReadOperations tx) {
+    ReadAdapter(final DOMDataTreeReadOperations tx, final ChunkedPayloadSender payloadSender) {
         this.tx = tx;
+        this.payloadSender = payloadSender;
     }
 
     @SuppressWarnings("checkstyle:IllegalThrows")
@@ -55,7 +57,7 @@ class ReadAdapter {
                     sender.tell(new EmptyReadResponse(), self);
                     return;
                 }
-                sender.tell(new NormalizedNodeMessage(path, result.get()), self);
+                payloadSender.tell(sender, new NormalizedNodeMessage(path, result.get()), self);
             }
 
             @Override
@@ -19,8 +19,8 @@ public final class ReadTransactionActor extends UntypedAbstractActor {
 
     private final ReadAdapter readAdapter;
 
-    private ReadTransactionActor(final DOMDataTreeReadTransaction tx) {
-        readAdapter = new ReadAdapter(tx);
+    private ReadTransactionActor(final DOMDataTreeReadTransaction tx, final ChunkedPayloadSender payloadSender) {
+        readAdapter = new ReadAdapter(tx, payloadSender);
     }
 
     /**
@@ -30,7 +30,18 @@ public final class ReadTransactionActor extends UntypedAbstractActor {
      * @return props
      */
     static Props props(final DOMDataTreeReadTransaction tx) {
-        return Props.create(ReadTransactionActor.class, () -> new ReadTransactionActor(tx));
+        return props(tx, ChunkedPayloadSender.DISABLED);
+    }
+
+    /**
+     * Creates new actor Props.
+     *
+     * @param tx            delegate device read transaction
+     * @param payloadSender sender used to deliver read results
+     * @return props
+     */
+    static Props props(final DOMDataTreeReadTransaction tx, final ChunkedPayloadSender payloadSender) {
+        return Props.create(ReadTransactionActor.class, () -> new ReadTransactionActor(tx, payloadSender));
     }
 
     @Override
@@ -26,13 +26,14 @@ public final class ReadWriteTransactionActor extends UntypedAbstractActor {
     private final ReadAdapter readAdapter;
     private final WriteAdapter writeAdapter;
 
-    private ReadWriteTransactionActor(final DOMDataTreeReadWriteTransaction tx, final Duration idleTimeout) {
+    private ReadWriteTransactionActor(final DOMDataTreeReadWriteTransaction tx, final Duration idleTimeout,
+            final ChunkedPayloadSender payloadSender) {
         this.tx = tx;
         this.idleTimeout = idleTimeout.toSeconds();
         if (this.idleTimeout > 0) {
             context().setReceiveTimeout(idleTimeout);
         }
-        readAdapter = new ReadAdapter(tx);
+        readAdapter = new ReadAdapter(tx, payloadSender);
         writeAdapter = new WriteAdapter(tx);
     }
 
@@ -44,7 +45,21 @@ public final class ReadWriteTransactionActor extends UntypedAbstractActor {
      * @return props
      */
     static Props props(final DOMDataTreeReadWriteTransaction tx, final Duration idleTimeout) {
-        return Props.create(ReadWriteTransactionActor.class, () -> new ReadWriteTransactionActor(tx, idleTimeout));
+        return props(tx, idleTimeout, ChunkedPayloadSender.DISABLED);
+    }
+
+    /**
+     * Creates new actor Props.
+     *
+     * @param tx            delegate device read write transaction
+     * @param idleTimeout   idle time in seconds, after which transaction is closed automatically
+     * @param payloadSender sender used to deliver read results
+     * @return props
+     */
+    static Props props(final DOMDataTreeReadWriteTransaction tx, final Duration idleTimeout,
+            final ChunkedPayloadSender payloadSender) {
+        return Props.create(ReadWriteTransactionActor.class,
+            () -> new ReadWriteTransactionActor(tx, idleTimeout, payloadSender));
     }
 
     @Override
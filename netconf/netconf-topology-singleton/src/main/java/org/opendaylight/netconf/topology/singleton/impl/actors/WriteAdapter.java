@@ -22,6 +22,8 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.DeleteR
 import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteActorMessage;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatchRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +59,16 @@ class WriteAdapter {
         }, MoreExecutors.directExecutor());
     }
 
+    private void handleBatch(final WriteBatchRequest batch, final ActorRef sender, final ActorContext context,
+            final ActorRef self) {
+        for (WriteActorMessage modification : batch.getModifications()) {
+            handle(modification, sender, context, self);
+        }
+        if (batch.isSubmit()) {
+            submit(sender, self, context);
+        }
+    }
+
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void handle(final Object message, final ActorRef sender, final ActorContext context, final ActorRef self) {
         // we need to catch everything, since an unchecked exception can be thrown from the underlying parse.
@@ -77,6 +89,8 @@ class WriteAdapter {
                 cancel(context, sender, self);
             } else if (message instanceof SubmitRequest) {
                 submit(sender, self, context);
+            } else if (message instanceof WriteBatchRequest) {
+                handleBatch((WriteBatchRequest) message, sender, context, self);
             }
 
         } catch (final RuntimeException exception) {
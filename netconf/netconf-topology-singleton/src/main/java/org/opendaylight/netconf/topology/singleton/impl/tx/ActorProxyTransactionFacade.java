@@ -15,13 +15,17 @@ import akka.util.Timeout;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.common.api.ReadFailedException;
 import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.netconf.topology.singleton.impl.utils.ChunkedPayloads;
 import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologyUtils;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.CancelRequest;
@@ -32,6 +36,8 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRe
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteActorMessage;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatchRequest;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
@@ -40,7 +46,9 @@ import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 
 /**
- * ProxyTransactionFacade implementation that interfaces with an actor.
+ * ProxyTransactionFacade implementation that interfaces with an actor. Modifications are not sent one by one, but are
+ * accumulated locally and shipped as a single {@link WriteBatchRequest}, either together with the commit or just ahead
+ * of the next read, so that the read observes them.
  *
  * @author Thomas Pantelis
  */
@@ -52,6 +60,9 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
     private final ExecutionContext executionContext;
     private final Timeout askTimeout;
 
+    @GuardedBy("this")
+    private List<WriteActorMessage> pendingModifications = new ArrayList<>();
+
     ActorProxyTransactionFacade(final ActorRef masterTxActor, final RemoteDeviceId id,
             final ExecutionContext executionContext, final Timeout askTimeout) {
         this.masterTxActor = Objects.requireNonNull(masterTxActor);
@@ -69,6 +80,11 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
     public boolean cancel() {
         LOG.debug("{}: Cancel via actor {}", id, masterTxActor);
 
+        final List<WriteActorMessage> discarded = takePendingModifications();
+        if (!discarded.isEmpty()) {
+            LOG.debug("{}: Discarding {} pending modifications", id, discarded.size());
+        }
+
         final Future<Object> future = Patterns.ask(masterTxActor, new CancelRequest(), askTimeout);
 
         future.onComplete(new OnComplete<Object>() {
@@ -91,7 +107,9 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
             final YangInstanceIdentifier path) {
         LOG.debug("{}: Read {} {} via actor {}", id, store, path, masterTxActor);
 
-        final Future<Object> future = Patterns.ask(masterTxActor, new ReadRequest(store, path), askTimeout);
+        flushPendingModifications();
+        final Future<Object> future = ChunkedPayloads.assemble(
+            Patterns.ask(masterTxActor, new ReadRequest(store, path), askTimeout), askTimeout, executionContext);
 
         final SettableFuture<Optional<NormalizedNode<?, ?>>> settableFuture = SettableFuture.create();
         future.onComplete(new OnComplete<Object>() {
@@ -131,6 +149,7 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
     public FluentFuture<Boolean> exists(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         LOG.debug("{}: Exists {} {} via actor {}", id, store, path, masterTxActor);
 
+        flushPendingModifications();
         final Future<Object> future = Patterns.ask(masterTxActor, new ExistsRequest(store, path), askTimeout);
 
         final SettableFuture<Boolean> settableFuture = SettableFuture.create();
@@ -162,28 +181,31 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
     @Override
     public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         LOG.debug("{}: Delete {} {} via actor {}", id, store, path, masterTxActor);
-        masterTxActor.tell(new DeleteRequest(store, path), ActorRef.noSender());
+        addPendingModification(new DeleteRequest(store, path));
     }
 
     @Override
     public void put(final LogicalDatastoreType store, final YangInstanceIdentifier path,
             final NormalizedNode<?, ?> data) {
         LOG.debug("{}: Put {} {} via actor {}", id, store, path, masterTxActor);
-        masterTxActor.tell(new PutRequest(store, new NormalizedNodeMessage(path, data)), ActorRef.noSender());
+        addPendingModification(new PutRequest(store, new NormalizedNodeMessage(path, data)));
     }
 
     @Override
     public void merge(final LogicalDatastoreType store, final YangInstanceIdentifier path,
             final NormalizedNode<?, ?> data) {
         LOG.debug("{}: Merge {} {} via actor {}", id, store, path, masterTxActor);
-        masterTxActor.tell(new MergeRequest(store, new NormalizedNodeMessage(path, data)), ActorRef.noSender());
+        addPendingModification(new MergeRequest(store, new NormalizedNodeMessage(path, data)));
     }
 
     @Override
     public FluentFuture<? extends CommitInfo> commit() {
         LOG.debug("{}: Commit via actor {}", id, masterTxActor);
 
-        final Future<Object> future = Patterns.ask(masterTxActor, new SubmitRequest(), askTimeout);
+        final List<WriteActorMessage> modifications = takePendingModifications();
+        final Object request = modifications.isEmpty() ? new SubmitRequest()
+                : new WriteBatchRequest(modifications, true);
+        final Future<Object> future = Patterns.ask(masterTxActor, request, askTimeout);
 
         final SettableFuture<CommitInfo> settableFuture = SettableFuture.create();
         future.onComplete(new OnComplete<Object>() {
@@ -209,6 +231,28 @@ class ActorProxyTransactionFacade implements ProxyTransactionFacade {
         return FluentFuture.from(settableFuture);
     }
 
+    private synchronized void addPendingModification(final WriteActorMessage modification) {
+        pendingModifications.add(modification);
+    }
+
+    private synchronized List<WriteActorMessage> takePendingModifications() {
+        if (pendingModifications.isEmpty()) {
+            return List.of();
+        }
+
+        final List<WriteActorMessage> ret = pendingModifications;
+        pendingModifications = new ArrayList<>();
+        return ret;
+    }
+
+    private void flushPendingModifications() {
+        final List<WriteActorMessage> modifications = takePendingModifications();
+        if (!modifications.isEmpty()) {
+            LOG.debug("{}: Sending {} pending modifications via actor {}", id, modifications.size(), masterTxActor);
+            masterTxActor.tell(new WriteBatchRequest(modifications, false), ActorRef.noSender());
+        }
+    }
+
     @SuppressFBWarnings(value = "UPM_UNCALLED_PRIVATE_METHOD",
             justification = "https://github.com/spotbugs/spotbugs/issues/811")
     private Throwable processFailure(final Throwable failure) {
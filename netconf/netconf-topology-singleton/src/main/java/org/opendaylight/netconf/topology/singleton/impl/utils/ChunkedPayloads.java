@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl.utils;
+
+import akka.dispatch.Futures;
+import akka.dispatch.OnComplete;
+import akka.pattern.Patterns;
+import akka.util.Timeout;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.ChunkRequest;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.ChunkedPayloadStart;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.PayloadChunk;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.SerializedPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import scala.concurrent.ExecutionContext;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+
+/**
+ * Utilities for transferring large replies between master and slave in chunks. The master serializes the reply and,
+ * if it does not fit into a single chunk, answers with a {@link ChunkedPayloadStart}, otherwise with a
+ * {@link SerializedPayload}. The slave then pulls the
+ * remaining chunks one by one, so the remoting channel is never occupied by a single huge frame and the master never
+ * pushes more than the slave has asked for.
+ */
+public final class ChunkedPayloads {
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkedPayloads.class);
+
+    private ChunkedPayloads() {
+        // Hidden on purpose
+    }
+
+    /**
+     * Serialize a reply message into its chunkable form.
+     *
+     * @param message message to serialize
+     * @return serialized message
+     * @throws IOException if the message cannot be serialized
+     */
+    public static byte[] serialize(final Object message) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(message);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Resolve the response to an ask. If the response is a {@link ChunkedPayloadStart}, the remaining chunks are
+     * fetched from its source and the returned future completes with the reassembled reply. A
+     * {@link SerializedPayload} is deserialized. Any other response is passed through unchanged.
+     *
+     * @param response response future, as returned from {@link Patterns#ask(akka.actor.ActorRef, Object, Timeout)}
+     * @param askTimeout timeout for each chunk request
+     * @param executionContext execution context to run callbacks on
+     * @return future completing with the complete reply
+     */
+    public static Future<Object> assemble(final Future<Object> response, final Timeout askTimeout,
+            final ExecutionContext executionContext) {
+        final Promise<Object> promise = Futures.promise();
+        response.onComplete(new OnComplete<Object>() {
+            @Override
+            public void onComplete(final Throwable failure, final Object result) {
+                if (failure != null) {
+                    promise.failure(failure);
+                } else if (result instanceof ChunkedPayloadStart) {
+                    new Assembly((ChunkedPayloadStart) result, promise, askTimeout, executionContext).requestNext();
+                } else if (result instanceof SerializedPayload) {
+                    try {
+                        promise.success(deserialize(((SerializedPayload) result).getPayload()));
+                    } catch (IOException | ClassNotFoundException e) {
+                        promise.failure(e);
+                    }
+                } else {
+                    promise.success(result);
+                }
+            }
+        }, executionContext);
+        return promise.future();
+    }
+
+    static Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new BundleObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+    private static final class Assembly extends OnComplete<Object> {
+        private final Promise<Object> promise;
+        private final ChunkedPayloadStart start;
+        private final Timeout askTimeout;
+        private final ExecutionContext executionContext;
+        private final byte[] buffer;
+
+        private int offset;
+
+        Assembly(final ChunkedPayloadStart start, final Promise<Object> promise, final Timeout askTimeout,
+                final ExecutionContext executionContext) {
+            this.start = start;
+            this.promise = promise;
+            this.askTimeout = askTimeout;
+            this.executionContext = executionContext;
+
+            buffer = new byte[start.getTotalLength()];
+            append(start.getFirstChunk());
+        }
+
+        void requestNext() {
+            if (offset < buffer.length) {
+                LOG.trace("Requesting chunk at {} of {} from {}", offset, buffer.length, start.getSource());
+                Patterns.ask(start.getSource(), new ChunkRequest(offset), askTimeout).onComplete(this,
+                    executionContext);
+                return;
+            }
+
+            final Object message;
+            try {
+                message = deserialize(buffer);
+            } catch (IOException | ClassNotFoundException e) {
+                promise.failure(e);
+                return;
+            }
+            LOG.debug("Reassembled {} bytes from {}", buffer.length, start.getSource());
+            promise.success(message);
+        }
+
+        @Override
+        public void onComplete(final Throwable failure, final Object response) {
+            if (failure != null) {
+                promise.failure(failure);
+                return;
+            }
+            if (!(response instanceof PayloadChunk)) {
+                promise.failure(new IllegalStateException("Unexpected response " + response + " from "
+                    + start.getSource()));
+                return;
+            }
+
+            final byte[] data = ((PayloadChunk) response).getData();
+            if (data.length == 0 || data.length > buffer.length - offset) {
+                promise.failure(new IllegalStateException("Invalid chunk of " + data.length + " bytes at offset "
+                    + offset + " of " + buffer.length));
+                return;
+            }
+            append(data);
+            requestNext();
+        }
+
+        private void append(final byte[] data) {
+            System.arraycopy(data, 0, buffer, offset, data.length);
+            offset += data.length;
+        }
+    }
+
+    /**
+     * An ObjectInputStream which resolves classes through this bundle first, so that it can see both our messages
+     * and the yangtools classes they reference, falling back to the default resolution.
+     */
+    private static final class BundleObjectInputStream extends ObjectInputStream {
+        BundleObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, ChunkedPayloads.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                LOG.trace("Falling back to default resolution of {}", desc.getName(), e);
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -41,6 +41,7 @@ public class NetconfTopologySetup {
     private final String topologyId;
     private final NetconfDevice.SchemaResourcesDTO schemaResourceDTO;
     private final Duration idleTimeout;
+    private final int payloadChunkSize;
     private final String privateKeyPath;
     private final String privateKeyPassphrase;
     private final AAAEncryptionService encryptionService;
@@ -61,6 +62,7 @@ public class NetconfTopologySetup {
         this.topologyId = builder.getTopologyId();
         this.schemaResourceDTO = builder.getSchemaResourceDTO();
         this.idleTimeout = builder.getIdleTimeout();
+        this.payloadChunkSize = builder.getPayloadChunkSize();
         this.privateKeyPath = builder.getPrivateKeyPath();
         this.privateKeyPassphrase = builder.getPrivateKeyPassphrase();
         this.encryptionService = builder.getEncryptionService();
@@ -123,6 +125,15 @@ public class NetconfTopologySetup {
         return idleTimeout;
     }
 
+    /**
+     * Return the size of the chunks in which large replies are sent from master to slaves.
+     *
+     * @return chunk size in bytes, non-positive if replies should not be chunked
+     */
+    public int getPayloadChunkSize() {
+        return payloadChunkSize;
+    }
+
     public String getPrivateKeyPath() {
         return privateKeyPath;
     }
@@ -154,6 +165,7 @@ public class NetconfTopologySetup {
         private NetconfClientDispatcher netconfClientDispatcher;
         private NetconfDevice.SchemaResourcesDTO schemaResourceDTO;
         private Duration idleTimeout;
+        private int payloadChunkSize;
         private String privateKeyPath;
         private String privateKeyPassphrase;
         private AAAEncryptionService encryptionService;
@@ -305,6 +317,15 @@ public class NetconfTopologySetup {
             return idleTimeout;
         }
 
+        public NetconfTopologySetupBuilder setPayloadChunkSize(final int payloadChunkSize) {
+            this.payloadChunkSize = payloadChunkSize;
+            return this;
+        }
+
+        int getPayloadChunkSize() {
+            return payloadChunkSize;
+        }
+
         public NetconfTopologySetupBuilder setPrivateKeyPath(final String privateKeyPath) {
             this.privateKeyPath = privateKeyPath;
             return this;
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.chunked;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Serializable;
+
+/**
+ * Request for the chunk of a payload starting at specified offset. The slave sends these one at a time, hence the
+ * master never has more than a single chunk in flight towards a particular slave.
+ */
+public class ChunkRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int offset;
+
+    public ChunkRequest(final int offset) {
+        checkArgument(offset >= 0, "Invalid offset %s", offset);
+        this.offset = offset;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkRequest [offset=" + offset + "]";
+    }
+}
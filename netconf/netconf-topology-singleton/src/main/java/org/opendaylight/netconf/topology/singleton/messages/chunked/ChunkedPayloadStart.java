@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.chunked;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import akka.actor.ActorRef;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.Serializable;
+
+/**
+ * Sent by master instead of a reply whose serialized form exceeds the configured chunk size. It carries the first
+ * chunk of the serialized reply and the actor from which the remaining chunks can be pulled via {@link ChunkRequest}.
+ */
+public class ChunkedPayloadStart implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final ActorRef source;
+    private final int totalLength;
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Chunk is handed over, not shared")
+    private final byte[] firstChunk;
+
+    public ChunkedPayloadStart(final ActorRef source, final int totalLength, final byte[] firstChunk) {
+        this.source = requireNonNull(source);
+        checkArgument(firstChunk.length <= totalLength, "First chunk of %s bytes exceeds total length %s",
+            firstChunk.length, totalLength);
+        this.totalLength = totalLength;
+        this.firstChunk = firstChunk;
+    }
+
+    public ActorRef getSource() {
+        return source;
+    }
+
+    public int getTotalLength() {
+        return totalLength;
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Chunk is handed over, not shared")
+    public byte[] getFirstChunk() {
+        return firstChunk;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkedPayloadStart [source=" + source + ", totalLength=" + totalLength + ", firstChunk="
+            + firstChunk.length + "]";
+    }
+}
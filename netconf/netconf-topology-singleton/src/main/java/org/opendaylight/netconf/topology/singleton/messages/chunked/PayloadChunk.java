@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.chunked;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.Serializable;
+
+/**
+ * Response to a {@link ChunkRequest}, carrying a piece of the serialized payload.
+ */
+public class PayloadChunk implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Chunk is handed over, not shared")
+    private final byte[] data;
+
+    public PayloadChunk(final byte[] data) {
+        this.data = requireNonNull(data);
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Chunk is handed over, not shared")
+    public byte[] getData() {
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "PayloadChunk [length=" + data.length + "]";
+    }
+}
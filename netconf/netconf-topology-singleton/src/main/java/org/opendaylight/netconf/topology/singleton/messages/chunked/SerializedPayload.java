@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.chunked;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.Serializable;
+
+/**
+ * Sent by master instead of a reply whose serialized form fits into a single chunk. It carries the already-serialized
+ * reply, so that it does not need to be serialized again by remoting.
+ */
+public class SerializedPayload implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Payload is handed over, not shared")
+    private final byte[] payload;
+
+    public SerializedPayload(final byte[] payload) {
+        this.payload = requireNonNull(payload);
+    }
+
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Payload is handed over, not shared")
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toString() {
+        return "SerializedPayload [payload=" + payload.length + "]";
+    }
+}
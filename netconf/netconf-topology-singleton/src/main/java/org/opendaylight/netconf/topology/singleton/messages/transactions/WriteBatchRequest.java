@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.messages.transactions;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.util.List;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.SerializationUtils;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
+
+/**
+ * Message carrying a sequence of {@link PutRequest}, {@link MergeRequest} and {@link DeleteRequest} modifications,
+ * which the slave has coalesced and ships to the master in one go. If {@link #isSubmit()} is set, the transaction is
+ * submitted once all modifications have been applied, exactly as if a {@link SubmitRequest} followed.
+ */
+public class WriteBatchRequest implements WriteActorMessage, Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private static final byte PUT = 0;
+    private static final byte MERGE = 1;
+    private static final byte DELETE = 2;
+
+    private List<WriteActorMessage> modifications;
+    private boolean submit;
+
+    public WriteBatchRequest() {
+        // empty constructor needed for Externalizable
+    }
+
+    public WriteBatchRequest(final List<? extends WriteActorMessage> modifications, final boolean submit) {
+        for (WriteActorMessage modification : modifications) {
+            checkArgument(modification instanceof PutRequest || modification instanceof MergeRequest
+                || modification instanceof DeleteRequest, "Unsupported modification %s", modification);
+        }
+        this.modifications = ImmutableList.copyOf(modifications);
+        this.submit = submit;
+    }
+
+    public List<WriteActorMessage> getModifications() {
+        return modifications;
+    }
+
+    public boolean isSubmit() {
+        return submit;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeBoolean(submit);
+        out.writeInt(modifications.size());
+        for (WriteActorMessage modification : modifications) {
+            if (modification instanceof PutRequest) {
+                final PutRequest put = (PutRequest) modification;
+                writeHeader(out, PUT, put.getStore());
+                writeData(out, put.getNormalizedNodeMessage());
+            } else if (modification instanceof MergeRequest) {
+                final MergeRequest merge = (MergeRequest) modification;
+                writeHeader(out, MERGE, merge.getStore());
+                writeData(out, merge.getNormalizedNodeMessage());
+            } else {
+                final DeleteRequest delete = (DeleteRequest) modification;
+                writeHeader(out, DELETE, delete.getStore());
+                SerializationUtils.writePath(out, delete.getPath());
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException {
+        submit = in.readBoolean();
+        final int size = in.readInt();
+        final ImmutableList.Builder<WriteActorMessage> builder = ImmutableList.builderWithExpectedSize(size);
+        for (int i = 0; i < size; ++i) {
+            final byte type = in.readByte();
+            final LogicalDatastoreType store = readStore(in);
+            switch (type) {
+                case PUT:
+                    builder.add(new PutRequest(store, readData(in)));
+                    break;
+                case MERGE:
+                    builder.add(new MergeRequest(store, readData(in)));
+                    break;
+                case DELETE:
+                    builder.add(new DeleteRequest(store, SerializationUtils.readPath(in)));
+                    break;
+                default:
+                    throw new StreamCorruptedException("Unhandled modification type " + type);
+            }
+        }
+        modifications = builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBatchRequest [modifications=" + modifications.size() + ", submit=" + submit + "]";
+    }
+
+    private static void writeHeader(final ObjectOutput out, final byte type, final LogicalDatastoreType store)
+            throws IOException {
+        out.writeByte(type);
+        out.writeByte(store.ordinal());
+    }
+
+    private static LogicalDatastoreType readStore(final ObjectInput in) throws IOException {
+        final int ordinal = in.readByte();
+        final LogicalDatastoreType[] values = LogicalDatastoreType.values();
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new StreamCorruptedException("Invalid datastore type " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static void writeData(final ObjectOutput out, final NormalizedNodeMessage data) throws IOException {
+        data.writeExternal(out);
+    }
+
+    private static NormalizedNodeMessage readData(final ObjectInput in) throws IOException {
+        final NormalizedNodeMessage data = new NormalizedNodeMessage();
+        data.readExternal(in);
+        return data;
+    }
+}
@@ -29,6 +29,7 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.NewRead
 import org.opendaylight.netconf.topology.singleton.messages.transactions.NewReadWriteTransactionRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.NewWriteTransactionRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatchRequest;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 
 /**
@@ -72,7 +73,9 @@ public class ProxyDOMDataBrokerTest {
         assertEquals(DEVICE_ID, tx.getIdentifier());
 
         tx.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.empty());
-        masterActor.expectMsgClass(DeleteRequest.class);
+        tx.commit();
+        final WriteBatchRequest batch = masterActor.expectMsgClass(WriteBatchRequest.class);
+        assertTrue(batch.getModifications().get(0) instanceof DeleteRequest);
     }
 
     @Test
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.topology.singleton.impl.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.opendaylight.netconf.topology.singleton.impl.actors.ReadTransactionActorTestAdapter.NODE;
+import static org.opendaylight.netconf.topology.singleton.impl.actors.ReadTransactionActorTestAdapter.PATH;
+import static org.opendaylight.netconf.topology.singleton.impl.actors.ReadTransactionActorTestAdapter.TIMEOUT;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.dispatch.Futures;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import com.google.common.base.Strings;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.opendaylight.netconf.topology.singleton.impl.utils.ChunkedPayloads;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.ChunkedPayloadStart;
+import org.opendaylight.netconf.topology.singleton.messages.chunked.SerializedPayload;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import scala.concurrent.Await;
+
+public class ChunkedPayloadSenderTest {
+    private static final int CHUNK_SIZE = 64;
+    private static final QName CONT = QName.create("urn:test", "cont");
+    private static final QName LEAF = QName.create(CONT, "leaf");
+
+    private static ActorSystem system = ActorSystem.apply();
+
+    @AfterClass
+    public static void staticTearDown() {
+        TestKit.shutdownActorSystem(system, true);
+    }
+
+    @Test
+    public void testSmallPayloadSentSerialized() throws Exception {
+        final TestProbe probe = TestProbe.apply(system);
+        final ChunkedPayloadSender sender = ChunkedPayloadSender.create(system, 1024 * 1024, TIMEOUT.duration());
+
+        sender.tell(probe.ref(), new NormalizedNodeMessage(PATH, NODE), ActorRef.noSender());
+        final SerializedPayload payload = probe.expectMsgClass(SerializedPayload.class);
+
+        final Object result = Await.result(ChunkedPayloads.assemble(Futures.successful(payload), TIMEOUT,
+            system.dispatcher()), TIMEOUT.duration());
+        assertTrue(result instanceof NormalizedNodeMessage);
+        assertEquals(NODE, ((NormalizedNodeMessage) result).getNode());
+    }
+
+    @Test
+    public void testLargePayloadChunked() throws Exception {
+        final ContainerNode node = Builders.containerBuilder()
+            .withNodeIdentifier(new NodeIdentifier(CONT))
+            .withChild(ImmutableNodes.leafNode(LEAF, Strings.repeat("payload", 100)))
+            .build();
+
+        final TestProbe probe = TestProbe.apply(system);
+        final ChunkedPayloadSender sender = ChunkedPayloadSender.create(system, CHUNK_SIZE, TIMEOUT.duration());
+        sender.tell(probe.ref(), new NormalizedNodeMessage(PATH, node), ActorRef.noSender());
+
+        final ChunkedPayloadStart start = probe.expectMsgClass(ChunkedPayloadStart.class);
+        assertEquals(CHUNK_SIZE, start.getFirstChunk().length);
+        assertTrue(start.getTotalLength() > 700);
+
+        final Object result = Await.result(ChunkedPayloads.assemble(Futures.successful(start), TIMEOUT,
+            system.dispatcher()), TIMEOUT.duration());
+        assertTrue(result instanceof NormalizedNodeMessage);
+        assertEquals(PATH, ((NormalizedNodeMessage) result).getIdentifier());
+        assertEquals(node, ((NormalizedNodeMessage) result).getNode());
+    }
+
+    @Test
+    public void testDisabled() {
+        final TestProbe probe = TestProbe.apply(system);
+        final ChunkedPayloadSender sender = ChunkedPayloadSender.create(system, 0, TIMEOUT.duration());
+        assertTrue(sender == ChunkedPayloadSender.DISABLED);
+
+        sender.tell(probe.ref(), new NormalizedNodeMessage(PATH, NODE), ActorRef.noSender());
+        probe.expectMsgClass(NormalizedNodeMessage.class);
+    }
+}
@@ -23,6 +23,7 @@ import akka.actor.ActorSystem;
 import akka.actor.Status.Failure;
 import akka.actor.Status.Success;
 import akka.testkit.TestProbe;
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
 import org.opendaylight.mdsal.dom.api.DOMDataTreeWriteTransaction;
@@ -32,6 +33,7 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.DeleteR
 import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatchRequest;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
@@ -106,6 +108,20 @@ public abstract class WriteTransactionActorTestAdapter {
         assertEquals(cause, response.cause());
     }
 
+    @Test
+    public void testWriteBatch() {
+        doReturn(emptyFluentFuture()).when(mockWriteTx).commit();
+        final NormalizedNodeMessage normalizedNodeMessage = new NormalizedNodeMessage(PATH, NODE);
+        actorRef.tell(new WriteBatchRequest(ImmutableList.of(new PutRequest(STORE, normalizedNodeMessage),
+            new MergeRequest(STORE, normalizedNodeMessage), new DeleteRequest(STORE, PATH)), true), probe.ref());
+
+        probe.expectMsgClass(Success.class);
+        verify(mockWriteTx).put(STORE, PATH, NODE);
+        verify(mockWriteTx).merge(STORE, PATH, NODE);
+        verify(mockWriteTx).delete(STORE, PATH);
+        verify(mockWriteTx).commit();
+    }
+
     @Test
     public void testIdleTimeout() {
         final TestProbe testProbe = new TestProbe(system);
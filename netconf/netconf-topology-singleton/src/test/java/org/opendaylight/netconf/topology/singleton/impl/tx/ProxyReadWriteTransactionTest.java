@@ -43,6 +43,7 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRe
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.WriteBatchRequest;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
@@ -125,7 +126,13 @@ public class ProxyReadWriteTransactionTest {
         ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
 
         tx.delete(STORE, PATH);
-        final DeleteRequest deleteRequest = masterActor.expectMsgClass(DeleteRequest.class);
+        masterActor.expectNoMessage(EXP_NO_MESSAGE_TIMEOUT);
+
+        tx.commit();
+        final WriteBatchRequest batch = masterActor.expectMsgClass(WriteBatchRequest.class);
+        assertTrue(batch.isSubmit());
+        assertEquals(1, batch.getModifications().size());
+        final DeleteRequest deleteRequest = (DeleteRequest) batch.getModifications().get(0);
         assertEquals(STORE, deleteRequest.getStore());
         assertEquals(PATH, deleteRequest.getPath());
     }
@@ -148,7 +155,13 @@ public class ProxyReadWriteTransactionTest {
         ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
 
         tx.put(STORE, PATH, node);
-        final PutRequest putRequest = masterActor.expectMsgClass(PutRequest.class);
+        masterActor.expectNoMessage(EXP_NO_MESSAGE_TIMEOUT);
+
+        tx.commit();
+        final WriteBatchRequest batch = masterActor.expectMsgClass(WriteBatchRequest.class);
+        assertTrue(batch.isSubmit());
+        assertEquals(1, batch.getModifications().size());
+        final PutRequest putRequest = (PutRequest) batch.getModifications().get(0);
         assertEquals(STORE, putRequest.getStore());
         assertEquals(PATH, putRequest.getNormalizedNodeMessage().getIdentifier());
         assertEquals(node, putRequest.getNormalizedNodeMessage().getNode());
@@ -172,7 +185,13 @@ public class ProxyReadWriteTransactionTest {
         ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
 
         tx.merge(STORE, PATH, node);
-        final MergeRequest mergeRequest = masterActor.expectMsgClass(MergeRequest.class);
+        masterActor.expectNoMessage(EXP_NO_MESSAGE_TIMEOUT);
+
+        tx.commit();
+        final WriteBatchRequest batch = masterActor.expectMsgClass(WriteBatchRequest.class);
+        assertTrue(batch.isSubmit());
+        assertEquals(1, batch.getModifications().size());
+        final MergeRequest mergeRequest = (MergeRequest) batch.getModifications().get(0);
         assertEquals(STORE, mergeRequest.getStore());
         assertEquals(PATH, mergeRequest.getNormalizedNodeMessage().getIdentifier());
         assertEquals(node, mergeRequest.getNormalizedNodeMessage().getNode());
@@ -191,6 +210,33 @@ public class ProxyReadWriteTransactionTest {
         }
     }
 
+    @Test
+    public void testModificationsFlushedBeforeRead() throws Exception {
+        ProxyReadWriteTransaction tx = newSuccessfulProxyTx();
+
+        tx.put(STORE, PATH, node);
+        tx.merge(STORE, PATH, node);
+        final ListenableFuture<Optional<NormalizedNode<?, ?>>> read = tx.read(STORE, PATH);
+
+        final WriteBatchRequest batch = masterActor.expectMsgClass(WriteBatchRequest.class);
+        assertFalse(batch.isSubmit());
+        assertEquals(2, batch.getModifications().size());
+        assertTrue(batch.getModifications().get(0) instanceof PutRequest);
+        assertTrue(batch.getModifications().get(1) instanceof MergeRequest);
+
+        masterActor.expectMsgClass(ReadRequest.class);
+        masterActor.reply(new NormalizedNodeMessage(PATH, node));
+        assertEquals(node, read.get(5, TimeUnit.SECONDS).get());
+
+        tx.delete(STORE, PATH);
+        final ListenableFuture<?> submit = tx.commit();
+        final WriteBatchRequest submitBatch = masterActor.expectMsgClass(WriteBatchRequest.class);
+        assertTrue(submitBatch.isSubmit());
+        assertEquals(1, submitBatch.getModifications().size());
+        masterActor.reply(new Success(null));
+        submit.get(5, TimeUnit.SECONDS);
+    }
+
     private void commit(final ProxyReadWriteTransaction tx)
             throws InterruptedException, ExecutionException, TimeoutException {
         final ListenableFuture<?> submit = tx.commit();
@@ -344,11 +390,9 @@ public class ProxyReadWriteTransactionTest {
         masterActor.expectMsgClass(ExistsRequest.class);
         masterActor.reply(Boolean.TRUE);
 
-        masterActor.expectMsgClass(PutRequest.class);
-        masterActor.expectMsgClass(MergeRequest.class);
-        masterActor.expectMsgClass(DeleteRequest.class);
-
-        masterActor.expectMsgClass(SubmitRequest.class);
+        final WriteBatchRequest batch = masterActor.expectMsgClass(WriteBatchRequest.class);
+        assertTrue(batch.isSubmit());
+        assertEquals(3, batch.getModifications().size());
         masterActor.reply(new Success(null));
 
         read.get(5, TimeUnit.SECONDS).isPresent();
@@ -311,9 +311,11 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
                     schemas = LibraryModulesSchemas.create(yangLibURL);
                 }
 
+                // A single provider for all sources, so its fetches share the device's fetch window
+                final YangLibrarySchemaYangSourceProvider yangLibProvider = new YangLibrarySchemaYangSourceProvider(
+                    remoteDeviceId, schemas.getAvailableModels(), resources.getSchemaFetchCoordinator());
                 for (final Map.Entry<SourceIdentifier, URL> entry : schemas.getAvailableModels().entrySet()) {
-                    registeredYangLibSources.add(schemaRegistry.registerSchemaSource(
-                        new YangLibrarySchemaYangSourceProvider(remoteDeviceId, schemas.getAvailableModels()),
+                    registeredYangLibSources.add(schemaRegistry.registerSchemaSource(yangLibProvider,
                         PotentialSchemaSource.create(entry.getKey(), YangTextSchemaSource.class,
                             PotentialSchemaSource.Costs.REMOTE_IO.getValue())));
                 }
@@ -11,9 +11,14 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.checkerframework.checker.lock.qual.GuardedBy;
@@ -42,6 +47,11 @@ import org.slf4j.LoggerFactory;
 @Singleton
 public final class DefaultSchemaResourceManager implements SchemaResourceManager {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultSchemaResourceManager.class);
+    private static final String SNAPSHOT_DIRECTORY = ".snapshots";
+    // Prewarming of all subdirectories is performed by a single thread, one module set at a time
+    private static final Executor PREWARM_EXECUTOR = newSingleThreadExecutor("netconf-schema-prewarm-%d");
+    // Snapshot file I/O, kept off threads completing assembly and requesting contexts
+    private static final Executor SNAPSHOT_EXECUTOR = newSingleThreadExecutor("netconf-schema-snapshot-%d");
 
     @GuardedBy("this")
     private final Map<String, SchemaResourcesDTO> resources = new HashMap<>();
@@ -116,8 +126,23 @@ public final class DefaultSchemaResourceManager implements SchemaResourceManager
         repository.registerSchemaSourceListener(new FilesystemSchemaSourceCache<>(repository,
                 YangTextSchemaSource.class, new File(rootDirectory + File.separator + subdir)));
 
-        return new SchemaResourcesDTO(repository, repository,
+        // Share assembled contexts between all devices reporting the same set of modules, so that both assembly
+        // effort and memory footprint scale with the number of distinct models rather than with number of devices.
+        // Module sets assembled in previous runs are recorded alongside the filesystem cache and are assembled in
+        // the background, so that devices mounting after a restart do not have to wait for them.
+        final SharedEffectiveModelContextFactory contextFactory = new SharedEffectiveModelContextFactory(
             repository.createEffectiveModelContextFactory(SchemaContextFactoryConfiguration.getDefault()),
-            new NetconfStateSchemasResolverImpl());
+            new ModuleSetSnapshots(new File(rootDirectory + File.separator + SNAPSHOT_DIRECTORY + File.separator
+                + subdir)), SNAPSHOT_EXECUTOR);
+        contextFactory.prewarm(PREWARM_EXECUTOR);
+
+        return new SchemaResourcesDTO(repository, repository, contextFactory, new NetconfStateSchemasResolverImpl());
+    }
+
+    private static Executor newSingleThreadExecutor(final String nameFormat) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk record of module sets which have been successfully assembled into an
+ * {@link org.opendaylight.yangtools.yang.model.api.EffectiveModelContext}. Each set is stored in a file named after
+ * the SHA-256 hash of its canonical form, listing its sources along with the time it took to assemble them. Snapshots
+ * which have not been used for {@link #RETENTION_DAYS} are discarded when loading.
+ */
+final class ModuleSetSnapshots {
+    /**
+     * A single recorded module set.
+     */
+    static final class Snapshot {
+        private final ImmutableSet<SourceIdentifier> sources;
+        private final long assemblyNanos;
+
+        Snapshot(final ImmutableSet<SourceIdentifier> sources, final long assemblyNanos) {
+            this.sources = requireNonNull(sources);
+            this.assemblyNanos = assemblyNanos;
+        }
+
+        ImmutableSet<SourceIdentifier> getSources() {
+            return sources;
+        }
+
+        long getAssemblyNanos() {
+            return assemblyNanos;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(ModuleSetSnapshots.class);
+    private static final String SUFFIX = ".modules";
+    private static final String NANOS_PREFIX = "#assembly-nanos=";
+    private static final long RETENTION_DAYS = 30;
+
+    private final File directory;
+
+    ModuleSetSnapshots(final File directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    /**
+     * Load all snapshots present in the directory.
+     *
+     * @return Loaded snapshots
+     */
+    List<Snapshot> load() {
+        final File[] files = directory.listFiles((dir, name) -> name.endsWith(SUFFIX));
+        if (files == null) {
+            return ImmutableList.of();
+        }
+
+        final long cutoff = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(RETENTION_DAYS);
+        final ImmutableList.Builder<Snapshot> builder = ImmutableList.builder();
+        for (File file : files) {
+            if (file.lastModified() < cutoff) {
+                LOG.debug("Discarding stale module set snapshot {}", file);
+                deleteFile(file);
+                continue;
+            }
+
+            try {
+                builder.add(readSnapshot(file));
+            } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+                LOG.warn("Discarding unreadable module set snapshot {}", file, e);
+                deleteFile(file);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Record a successfully-assembled module set, unless it is already recorded. This method performs blocking I/O.
+     *
+     * @param sources Canonical module set
+     * @param assemblyNanos Time taken to assemble the set
+     */
+    void record(final ImmutableSet<SourceIdentifier> sources, final long assemblyNanos) {
+        final File file = fileFor(sources);
+        if (file.isFile()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory.toPath());
+            final File tmp = File.createTempFile("snapshot", ".tmp", directory);
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8)) {
+                writer.write(NANOS_PREFIX + assemblyNanos);
+                writer.newLine();
+                for (SourceIdentifier source : sources) {
+                    writer.write(source.toYangFilename());
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            LOG.debug("Recorded module set snapshot {} with {} sources", file, sources.size());
+        } catch (IOException e) {
+            LOG.warn("Failed to record module set snapshot {}", file, e);
+        }
+    }
+
+    /**
+     * Mark a module set as being in use, so it is retained. This method performs blocking I/O.
+     *
+     * @param sources Canonical module set
+     */
+    void touch(final ImmutableSet<SourceIdentifier> sources) {
+        final File file = fileFor(sources);
+        if (file.isFile() && !file.setLastModified(System.currentTimeMillis())) {
+            LOG.debug("Failed to update timestamp of {}", file);
+        }
+    }
+
+    /**
+     * Remove the record of a module set, for example because it can no longer be assembled.
+     *
+     * @param sources Canonical module set
+     */
+    void remove(final ImmutableSet<SourceIdentifier> sources) {
+        deleteFile(fileFor(sources));
+    }
+
+    @VisibleForTesting
+    static String hash(final ImmutableSet<SourceIdentifier> sources) {
+        final StringBuilder sb = new StringBuilder();
+        for (SourceIdentifier source : sources) {
+            sb.append(source.toYangFilename()).append('\n');
+        }
+        return Hashing.sha256().hashString(sb, StandardCharsets.UTF_8).toString();
+    }
+
+    private File fileFor(final ImmutableSet<SourceIdentifier> sources) {
+        return new File(directory, hash(sources) + SUFFIX);
+    }
+
+    private static Snapshot readSnapshot(final File file) throws IOException {
+        final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).startsWith(NANOS_PREFIX)) {
+            throw new IOException("Missing snapshot header");
+        }
+
+        final long nanos = Long.parseLong(lines.get(0).substring(NANOS_PREFIX.length()));
+        final ImmutableSet.Builder<SourceIdentifier> builder = ImmutableSet.builder();
+        for (String line : lines.subList(1, lines.size())) {
+            if (!line.isEmpty()) {
+                builder.add(parseSource(line));
+            }
+        }
+        return new Snapshot(builder.build(), nanos);
+    }
+
+    @VisibleForTesting
+    static SourceIdentifier parseSource(final String filename) {
+        final String name = filename.endsWith(".yang") ? filename.substring(0, filename.length() - 5) : filename;
+        final int at = name.lastIndexOf('@');
+        return at == -1 ? RevisionSourceIdentifier.create(name)
+            : RevisionSourceIdentifier.create(name.substring(0, at), Optional.of(Revision.of(name.substring(at + 1))));
+    }
+
+    private static void deleteFile(final File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOG.debug("Failed to delete {}", file, e);
+        }
+    }
+}
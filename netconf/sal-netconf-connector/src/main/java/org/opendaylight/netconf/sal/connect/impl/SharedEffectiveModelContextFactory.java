@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.netconf.sal.connect.impl.ModuleSetSnapshots.Snapshot;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.repo.api.EffectiveModelContextFactory;
+import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaResolutionException;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link EffectiveModelContextFactory} which hands out the same {@link EffectiveModelContext} to all requests for
+ * the same set of sources, irrespective of the order in which they are requested. Concurrent requests for a set which
+ * is being assembled share that assembly, so a reconnect storm of devices with identical models results in a single
+ * context being built. Assembled contexts are retained only for as long as someone else holds on to them.
+ *
+ * <p>
+ * If {@link ModuleSetSnapshots} are provided, each assembled set is recorded there and sets recorded in a previous run
+ * can be {@link #prewarm(Executor) prewarmed}, so that devices mounting after a restart find their context ready. Each
+ * request for a set marks its snapshot as used. All snapshot I/O is performed on a separate executor, so that it does
+ * not block threads completing assembly or requesting contexts.
+ */
+final class SharedEffectiveModelContextFactory implements EffectiveModelContextFactory {
+    private static final class Prewarmed {
+        @SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Keeps the context strongly reachable")
+        final EffectiveModelContext context;
+        final Snapshot snapshot;
+
+        Prewarmed(final EffectiveModelContext context, final Snapshot snapshot) {
+            this.context = requireNonNull(context);
+            this.snapshot = requireNonNull(snapshot);
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedEffectiveModelContextFactory.class);
+    private static final Comparator<SourceIdentifier> SOURCE_ORDER = Comparator.comparing(SourceIdentifier::getName)
+        .thenComparing(SourceIdentifier::getRevision, Revision::compare);
+    // How long prewarmed contexts are kept around waiting for a device to claim them
+    private static final long PREWARM_RETENTION_MINUTES = 15;
+
+    private final Cache<ImmutableSet<SourceIdentifier>, EffectiveModelContext> contexts = CacheBuilder.newBuilder()
+        .weakValues().build();
+    // Strong references to prewarmed contexts, keeping them alive until a device claims them
+    private final Cache<ImmutableSet<SourceIdentifier>, Prewarmed> prewarmed = CacheBuilder.newBuilder()
+        .expireAfterWrite(PREWARM_RETENTION_MINUTES, TimeUnit.MINUTES).build();
+    private final ConcurrentMap<ImmutableSet<SourceIdentifier>, ListenableFuture<EffectiveModelContext>> pending =
+        new ConcurrentHashMap<>();
+    private final AtomicLong assemblyCount = new AtomicLong();
+    private final AtomicLong assemblyNanos = new AtomicLong();
+    private final AtomicLong prewarmHits = new AtomicLong();
+    private final AtomicLong savedNanos = new AtomicLong();
+    private final EffectiveModelContextFactory delegate;
+    private final @Nullable ModuleSetSnapshots snapshots;
+    private final Executor snapshotExecutor;
+
+    SharedEffectiveModelContextFactory(final EffectiveModelContextFactory delegate) {
+        this(delegate, null, MoreExecutors.directExecutor());
+    }
+
+    SharedEffectiveModelContextFactory(final EffectiveModelContextFactory delegate,
+            final @Nullable ModuleSetSnapshots snapshots, final Executor snapshotExecutor) {
+        this.delegate = requireNonNull(delegate);
+        this.snapshots = snapshots;
+        this.snapshotExecutor = requireNonNull(snapshotExecutor);
+    }
+
+    @Override
+    public ListenableFuture<EffectiveModelContext> createEffectiveModelContext(
+            final Collection<SourceIdentifier> requiredSources) {
+        return createEffectiveModelContext(moduleSetKey(requiredSources), true);
+    }
+
+    private ListenableFuture<EffectiveModelContext> createEffectiveModelContext(
+            final ImmutableSet<SourceIdentifier> key, final boolean used) {
+        final EffectiveModelContext existing = contexts.getIfPresent(key);
+        if (existing != null) {
+            LOG.debug("Reusing existing context for {} sources", key.size());
+            if (used) {
+                claimPrewarmed(key);
+                touchSnapshot(key);
+            }
+            return Futures.immediateFuture(existing);
+        }
+
+        final SettableFuture<EffectiveModelContext> created = SettableFuture.create();
+        final ListenableFuture<EffectiveModelContext> inProgress = pending.putIfAbsent(key, created);
+        if (inProgress != null) {
+            LOG.debug("Joining context assembly of {} sources already in progress", key.size());
+            if (used) {
+                touchSnapshot(key);
+            }
+            return Futures.nonCancellationPropagating(inProgress);
+        }
+
+        // The assembly may have completed between our lookup and registration
+        final EffectiveModelContext raced = contexts.getIfPresent(key);
+        if (raced != null) {
+            pending.remove(key, created);
+            if (used) {
+                touchSnapshot(key);
+            }
+            created.set(raced);
+            return created;
+        }
+
+        LOG.debug("Assembling context for {} sources", key.size());
+        final long startNanos = System.nanoTime();
+        Futures.addCallback(delegate.createEffectiveModelContext(key.asList()),
+            new FutureCallback<EffectiveModelContext>() {
+                @Override
+                public void onSuccess(final EffectiveModelContext result) {
+                    final long elapsed = System.nanoTime() - startNanos;
+                    assemblyCount.incrementAndGet();
+                    assemblyNanos.addAndGet(elapsed);
+                    LOG.debug("Assembled context for {} sources in {}ms", key.size(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsed));
+                    recordSnapshot(key, elapsed, used);
+
+                    contexts.put(key, result);
+                    pending.remove(key, created);
+                    created.set(result);
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    pending.remove(key, created);
+                    created.setException(cause);
+                }
+            }, MoreExecutors.directExecutor());
+        return Futures.nonCancellationPropagating(created);
+    }
+
+    /**
+     * Assemble all module sets recorded in snapshots, one at a time, on specified executor. Each prewarmed context is
+     * retained until a device asks for it, or until it has not been claimed for {@value #PREWARM_RETENTION_MINUTES}
+     * minutes. Prewarming does not count as use of a snapshot. Snapshots which fail to resolve are discarded, while
+     * those which fail for other reasons, such as a source missing from the cache, are kept.
+     *
+     * @param executor Executor to use for assembly
+     */
+    void prewarm(final Executor executor) {
+        if (snapshots == null) {
+            return;
+        }
+
+        executor.execute(() -> {
+            final List<Snapshot> loaded = snapshots.load();
+            if (loaded.isEmpty()) {
+                LOG.debug("No module set snapshots to prewarm");
+                return;
+            }
+
+            LOG.info("Prewarming {} module sets recorded in snapshots", loaded.size());
+            final long startNanos = System.nanoTime();
+            int success = 0;
+            for (Snapshot snapshot : loaded) {
+                final ImmutableSet<SourceIdentifier> key = snapshot.getSources();
+                final EffectiveModelContext context;
+                try {
+                    context = createEffectiveModelContext(key, false).get();
+                } catch (InterruptedException e) {
+                    LOG.debug("Interrupted while prewarming module sets", e);
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    if (isPermanentFailure(e.getCause())) {
+                        LOG.info("Module set snapshot with {} sources cannot be assembled, discarding it", key.size(),
+                            e);
+                        snapshots.remove(key);
+                    } else {
+                        LOG.info("Module set snapshot with {} sources failed to assemble, keeping it", key.size(), e);
+                    }
+                    continue;
+                }
+
+                prewarmed.put(key, new Prewarmed(context, snapshot));
+                success++;
+            }
+
+            LOG.info("Prewarmed {} of {} module sets in {}ms", success, loaded.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        });
+    }
+
+    private void claimPrewarmed(final ImmutableSet<SourceIdentifier> key) {
+        // The requesting device holds on to the context from now on, hence we can let go of it
+        final Prewarmed claimed = prewarmed.asMap().remove(key);
+        if (claimed == null) {
+            return;
+        }
+
+        final Snapshot snapshot = claimed.snapshot;
+        final long hits = prewarmHits.incrementAndGet();
+        final long saved = savedNanos.addAndGet(snapshot.getAssemblyNanos());
+        LOG.info("Module set with {} sources served from snapshot, saving {}ms ({} sets, {}ms since start)",
+            key.size(), TimeUnit.NANOSECONDS.toMillis(snapshot.getAssemblyNanos()), hits,
+            TimeUnit.NANOSECONDS.toMillis(saved));
+    }
+
+    private void recordSnapshot(final ImmutableSet<SourceIdentifier> key, final long elapsed, final boolean used) {
+        if (snapshots != null) {
+            snapshotExecutor.execute(() -> {
+                snapshots.record(key, elapsed);
+                if (used) {
+                    snapshots.touch(key);
+                }
+            });
+        }
+    }
+
+    private void touchSnapshot(final ImmutableSet<SourceIdentifier> key) {
+        if (snapshots != null) {
+            snapshotExecutor.execute(() -> snapshots.touch(key));
+        }
+    }
+
+    /**
+     * Determine whether an assembly failure is inherent to the module set, as opposed to being caused by sources not
+     * being available at this time.
+     */
+    @VisibleForTesting
+    static boolean isPermanentFailure(final Throwable cause) {
+        final List<Throwable> chain = Throwables.getCausalChain(cause);
+        return chain.stream().noneMatch(MissingSchemaSourceException.class::isInstance)
+            && chain.stream().anyMatch(SchemaResolutionException.class::isInstance);
+    }
+
+    /**
+     * Return the canonical form of a set of sources. Beyond being order-independent, this also makes sure we always
+     * ask the delegate for the sources in the same order, so its own caching is effective, too.
+     */
+    @VisibleForTesting
+    static ImmutableSet<SourceIdentifier> moduleSetKey(final Collection<SourceIdentifier> sources) {
+        return sources.stream().sorted(SOURCE_ORDER).collect(ImmutableSet.toImmutableSet());
+    }
+
+    @VisibleForTesting
+    long getAssemblyCount() {
+        return assemblyCount.get();
+    }
+
+    @VisibleForTesting
+    long getAssemblyNanos() {
+        return assemblyNanos.get();
+    }
+
+    @VisibleForTesting
+    long getPrewarmHits() {
+        return prewarmHits.get();
+    }
+
+    @VisibleForTesting
+    long getSavedNanos() {
+        return savedNanos.get();
+    }
+}
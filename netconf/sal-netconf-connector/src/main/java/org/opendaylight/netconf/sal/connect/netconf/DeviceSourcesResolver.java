@@ -18,6 +18,7 @@ import org.opendaylight.netconf.sal.connect.api.NetconfDeviceSchemasResolver;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPreferences;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceRpc;
 import org.opendaylight.netconf.sal.connect.netconf.schema.NetconfRemoteSchemaYangSourceProvider;
+import org.opendaylight.netconf.sal.connect.netconf.schema.SchemaFetchCoordinator;
 import org.opendaylight.netconf.sal.connect.netconf.schema.YangLibrarySchemaYangSourceProvider;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseSchema;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
@@ -31,18 +32,21 @@ import org.opendaylight.yangtools.yang.model.repo.spi.SchemaSourceProvider;
 final class DeviceSourcesResolver implements Callable<DeviceSources> {
     private final NetconfSessionPreferences remoteSessionCapabilities;
     private final NetconfDeviceSchemasResolver stateSchemasResolver;
+    private final SchemaFetchCoordinator schemaFetchCoordinator;
     private final NetconfDeviceRpc deviceRpc;
     private final BaseSchema baseSchema;
     private final RemoteDeviceId id;
 
     DeviceSourcesResolver(final RemoteDeviceId id, final BaseSchema baseSchema, final NetconfDeviceRpc deviceRpc,
             final NetconfSessionPreferences remoteSessionCapabilities,
-            final NetconfDeviceSchemasResolver stateSchemasResolver) {
+            final NetconfDeviceSchemasResolver stateSchemasResolver,
+            final SchemaFetchCoordinator schemaFetchCoordinator) {
         this.id = requireNonNull(id);
         this.baseSchema = requireNonNull(baseSchema);
         this.deviceRpc = requireNonNull(deviceRpc);
         this.remoteSessionCapabilities = requireNonNull(remoteSessionCapabilities);
         this.stateSchemasResolver = requireNonNull(stateSchemasResolver);
+        this.schemaFetchCoordinator = requireNonNull(schemaFetchCoordinator);
     }
 
     @Override
@@ -79,9 +83,9 @@ final class DeviceSourcesResolver implements Callable<DeviceSources> {
         final SchemaSourceProvider<YangTextSchemaSource> sourceProvider;
         if (availableSchemas instanceof LibraryModulesSchemas) {
             sourceProvider = new YangLibrarySchemaYangSourceProvider(id,
-                    ((LibraryModulesSchemas) availableSchemas).getAvailableModels());
+                    ((LibraryModulesSchemas) availableSchemas).getAvailableModels(), schemaFetchCoordinator);
         } else {
-            sourceProvider = new NetconfRemoteSchemaYangSourceProvider(id, deviceRpc);
+            sourceProvider = new NetconfRemoteSchemaYangSourceProvider(id, deviceRpc, schemaFetchCoordinator);
         }
 
         return new DeviceSources(requiredSources, providedSources, sourceProvider);
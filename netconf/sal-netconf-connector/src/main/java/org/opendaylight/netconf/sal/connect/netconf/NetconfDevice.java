@@ -27,9 +27,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.checkerframework.checker.lock.qual.GuardedBy;
@@ -46,6 +46,7 @@ import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCapabi
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfSessionPreferences;
 import org.opendaylight.netconf.sal.connect.netconf.sal.NetconfDeviceRpc;
+import org.opendaylight.netconf.sal.connect.netconf.schema.SchemaFetchCoordinator;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseNetconfSchemas;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.BaseSchema;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.NetconfMessageTransformer;
@@ -106,6 +107,7 @@ public class NetconfDevice
     private final ListeningExecutorService processingExecutor;
     private final DeviceActionFactory deviceActionFactory;
     private final NetconfDeviceSchemasResolver stateSchemasResolver;
+    private final SchemaFetchCoordinator schemaFetchCoordinator;
     private final NotificationHandler notificationHandler;
     private final boolean reconnectOnSchemasChange;
     private final BaseNetconfSchemas baseSchemas;
@@ -143,6 +145,7 @@ public class NetconfDevice
         this.schemaContextFactory = schemaResourcesDTO.getSchemaContextFactory();
         this.salFacade = salFacade;
         this.stateSchemasResolver = schemaResourcesDTO.getStateSchemasResolver();
+        this.schemaFetchCoordinator = schemaResourcesDTO.getSchemaFetchCoordinator();
         this.processingExecutor = requireNonNull(globalProcessingExecutor);
         this.notificationHandler = new NotificationHandler(salFacade, id);
     }
@@ -162,7 +165,8 @@ public class NetconfDevice
         final NetconfDeviceRpc initRpc = new NetconfDeviceRpc(baseSchema.getSchemaContext(), listener,
             new NetconfMessageTransformer(baseSchema.getMountPointContext(), false, baseSchema));
         final ListenableFuture<DeviceSources> sourceResolverFuture = processingExecutor.submit(
-            new DeviceSourcesResolver(id, baseSchema, initRpc, remoteSessionCapabilities, stateSchemasResolver));
+            new DeviceSourcesResolver(id, baseSchema, initRpc, remoteSessionCapabilities, stateSchemasResolver,
+                schemaFetchCoordinator));
 
         if (shouldListenOnSchemaChange(remoteSessionCapabilities)) {
             registerToBaseNetconfStream(initRpc, listener);
@@ -384,6 +388,7 @@ public class NetconfDevice
         private final SchemaRepository schemaRepository;
         private final EffectiveModelContextFactory schemaContextFactory;
         private final NetconfDeviceSchemasResolver stateSchemasResolver;
+        private final SchemaFetchCoordinator schemaFetchCoordinator = new SchemaFetchCoordinator();
 
         public SchemaResourcesDTO(final SchemaSourceRegistry schemaRegistry,
                                   final SchemaRepository schemaRepository,
@@ -410,6 +415,10 @@ public class NetconfDevice
         public NetconfDeviceSchemasResolver getStateSchemasResolver() {
             return stateSchemasResolver;
         }
+
+        public SchemaFetchCoordinator getSchemaFetchCoordinator() {
+            return schemaFetchCoordinator;
+        }
     }
 
     /**
@@ -443,15 +452,22 @@ public class NetconfDevice
             this.capabilities = remoteSessionCapabilities.getNetconfDeviceCapabilities();
 
             requiredSources = deviceSources.getRequiredSources();
-            final Collection<SourceIdentifier> missingSources = filterMissingSources(requiredSources);
-
-            capabilities.addUnresolvedCapabilities(getQNameFromSourceIdentifiers(missingSources),
-                    UnavailableCapability.FailureReason.MissingSource);
-            requiredSources.removeAll(missingSources);
         }
 
         ListenableFuture<EffectiveModelContext> startResolution() {
-            trySetupSchema();
+            Futures.addCallback(RequiredSourcesFilter.filter(id, schemaRepository, requiredSources,
+                processingExecutor), new FutureCallback<RequiredSourcesFilter.Result>() {
+                    @Override
+                    public void onSuccess(final RequiredSourcesFilter.Result result) {
+                        excludeUnavailableSources(result);
+                        trySetupSchema();
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable cause) {
+                        resultFuture.setException(cause);
+                    }
+                }, MoreExecutors.directExecutor());
             return resultFuture;
         }
 
@@ -506,15 +522,20 @@ public class NetconfDevice
             }
         }
 
-        private Collection<SourceIdentifier> filterMissingSources(final Collection<SourceIdentifier> origSources) {
-            return origSources.parallelStream().filter(sourceIdentifier -> {
-                try {
-                    schemaRepository.getSchemaSource(sourceIdentifier, YangTextSchemaSource.class).get();
-                    return false;
-                } catch (InterruptedException | ExecutionException e) {
-                    return true;
-                }
-            }).collect(Collectors.toList());
+        private void excludeUnavailableSources(final RequiredSourcesFilter.Result result) {
+            final Set<SourceIdentifier> missingSources = result.getMissing();
+            capabilities.addUnresolvedCapabilities(getQNameFromSourceIdentifiers(missingSources),
+                    UnavailableCapability.FailureReason.MissingSource);
+            requiredSources.removeAll(missingSources);
+
+            // Sources depending on unavailable sources would fail the assembly, exclude them all up front
+            final Map<SourceIdentifier, ? extends Set<SourceIdentifier>> unsatisfied = result.getUnsatisfied();
+            if (!unsatisfied.isEmpty()) {
+                LOG.warn("{}: Excluding sources with unsatisfied imports {}", id, unsatisfied);
+                capabilities.addUnresolvedCapabilities(getQNameFromSourceIdentifiers(unsatisfied.keySet()),
+                    UnavailableCapability.FailureReason.UnableToResolve);
+                requiredSources.removeAll(unsatisfied.keySet());
+            }
         }
 
         private Collection<SourceIdentifier> handleMissingSchemaSourceException(
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.model.api.ModuleImport;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.ASTSchemaSource;
+import org.opendaylight.yangtools.yang.parser.rfc7950.repo.YangModelDependencyInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Determines which of the sources required by a device can actually be assembled into a schema context. All sources
+ * are acquired concurrently, with at most {@link #MAX_CONCURRENT_FETCHES} requests outstanding at any time. Sources
+ * which cannot be acquired are reported as missing. Dependency information of the remaining sources is then used to
+ * compute the closure of sources whose imports or includes cannot be satisfied, so these can be excluded before the
+ * first assembly attempt, rather than being discovered and stripped one-by-one through failed assemblies.
+ */
+final class RequiredSourcesFilter {
+    /**
+     * Outcome of filtering.
+     */
+    static final class Result {
+        private final ImmutableSet<SourceIdentifier> missing;
+        private final ImmutableMap<SourceIdentifier, ImmutableSet<SourceIdentifier>> unsatisfied;
+
+        Result(final ImmutableSet<SourceIdentifier> missing,
+                final ImmutableMap<SourceIdentifier, ImmutableSet<SourceIdentifier>> unsatisfied) {
+            this.missing = requireNonNull(missing);
+            this.unsatisfied = requireNonNull(unsatisfied);
+        }
+
+        /**
+         * Return sources which could not be acquired.
+         *
+         * @return Missing sources
+         */
+        ImmutableSet<SourceIdentifier> getMissing() {
+            return missing;
+        }
+
+        /**
+         * Return sources which are available, but depend, directly or transitively, on a source which is not. Each
+         * source is mapped to its dependencies which cannot be satisfied.
+         *
+         * @return Unsatisfied sources
+         */
+        ImmutableMap<SourceIdentifier, ImmutableSet<SourceIdentifier>> getUnsatisfied() {
+            return unsatisfied;
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequiredSourcesFilter.class);
+    private static final int MAX_CONCURRENT_FETCHES = 8;
+
+    private final Map<SourceIdentifier, ImmutableSet<SourceIdentifier>> dependencies = new ConcurrentHashMap<>();
+    private final Set<SourceIdentifier> missing = ConcurrentHashMap.newKeySet();
+    private final SettableFuture<Result> future = SettableFuture.create();
+    private final AtomicInteger nextIndex = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final List<SourceIdentifier> sources;
+    private final SchemaRepository repository;
+    private final RemoteDeviceId id;
+    private final Executor executor;
+
+    private RequiredSourcesFilter(final RemoteDeviceId id, final SchemaRepository repository,
+            final Collection<SourceIdentifier> sources, final Executor executor) {
+        this.id = requireNonNull(id);
+        this.repository = requireNonNull(repository);
+        this.sources = ImmutableList.copyOf(sources);
+        this.executor = requireNonNull(executor);
+        this.remaining = new AtomicInteger(this.sources.size());
+    }
+
+    /**
+     * Filter specified sources.
+     *
+     * @param id Device identifier, used for logging
+     * @param repository Repository to acquire sources from
+     * @param sources Sources to filter
+     * @param executor Executor on which to parse acquired sources and process individual acquisition results
+     * @return Future filtering result
+     */
+    static ListenableFuture<Result> filter(final RemoteDeviceId id, final SchemaRepository repository,
+            final Collection<SourceIdentifier> sources, final Executor executor) {
+        return new RequiredSourcesFilter(id, repository, sources, executor).start();
+    }
+
+    private ListenableFuture<Result> start() {
+        if (sources.isEmpty()) {
+            future.set(new Result(ImmutableSet.of(), ImmutableMap.of()));
+        } else {
+            for (int i = 0; i < Math.min(MAX_CONCURRENT_FETCHES, sources.size()); ++i) {
+                fetchNext();
+            }
+        }
+        return future;
+    }
+
+    private void fetchNext() {
+        final int index = nextIndex.getAndIncrement();
+        if (index >= sources.size()) {
+            return;
+        }
+
+        final SourceIdentifier source = sources.get(index);
+        Futures.addCallback(fetch(source), new FutureCallback<ImmutableSet<SourceIdentifier>>() {
+            @Override
+            public void onSuccess(final ImmutableSet<SourceIdentifier> result) {
+                dependencies.put(source, result);
+                fetchComplete();
+            }
+
+            @Override
+            public void onFailure(final Throwable cause) {
+                LOG.debug("{}: source {} is not available", id, source, cause);
+                missing.add(source);
+                fetchComplete();
+            }
+        }, executor);
+    }
+
+    private void fetchComplete() {
+        if (remaining.decrementAndGet() == 0) {
+            final Map<SourceIdentifier, ImmutableSet<SourceIdentifier>> unsatisfied =
+                unsatisfiableClosure(dependencies);
+            LOG.debug("{}: {} of {} sources are missing, {} have unsatisfied dependencies", id, missing.size(),
+                sources.size(), unsatisfied.size());
+            future.set(new Result(ImmutableSet.copyOf(missing), ImmutableMap.copyOf(unsatisfied)));
+        } else {
+            fetchNext();
+        }
+    }
+
+    /**
+     * Acquire a source and its dependencies. The returned future fails if the source itself is not available. If
+     * the source is available, but its dependencies cannot be determined, it is reported as having none, leaving
+     * any problems to be discovered during assembly. Dependencies are determined on the processing executor.
+     */
+    private ListenableFuture<ImmutableSet<SourceIdentifier>> fetch(final SourceIdentifier source) {
+        return Futures.transformAsync(repository.getSchemaSource(source, YangTextSchemaSource.class),
+            text -> Futures.catching(Futures.transform(
+                // The AST is what the assembly will use, hence it is acquired through the repository's cache
+                Futures.submitAsync(() -> repository.getSchemaSource(source, ASTSchemaSource.class),
+                    MoreExecutors.directExecutor()),
+                ast -> dependenciesOf(ast.getDependencyInformation()), MoreExecutors.directExecutor()),
+                Exception.class, cause -> {
+                    LOG.debug("{}: failed to determine dependencies of {}", id, source, cause);
+                    return ImmutableSet.of();
+                }, MoreExecutors.directExecutor()),
+            // Parsing is expensive, do not run it on the thread which delivered the text, which may be an I/O thread
+            executor);
+    }
+
+    private static ImmutableSet<SourceIdentifier> dependenciesOf(final YangModelDependencyInfo info) {
+        final ImmutableSet.Builder<SourceIdentifier> builder = ImmutableSet.builder();
+        for (ModuleImport dependency : info.getDependencies()) {
+            builder.add(RevisionSourceIdentifier.create(dependency.getModuleName(), dependency.getRevision()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Compute the closure of sources which cannot be assembled because some of their dependencies are not among
+     * available sources, or are themselves not assemblable. A dependency without a revision is satisfied by any
+     * revision of the named source, a dependency with a revision needs that exact revision.
+     *
+     * @param dependencies Available sources and their dependencies
+     * @return Unsatisfiable sources, mapped to the dependencies which cannot be satisfied
+     */
+    @VisibleForTesting
+    static Map<SourceIdentifier, ImmutableSet<SourceIdentifier>> unsatisfiableClosure(
+            final Map<SourceIdentifier, ImmutableSet<SourceIdentifier>> dependencies) {
+        final Map<SourceIdentifier, ImmutableSet<SourceIdentifier>> available = new HashMap<>(dependencies);
+        final Map<SourceIdentifier, ImmutableSet<SourceIdentifier>> result = new LinkedHashMap<>();
+
+        boolean changed;
+        do {
+            changed = false;
+            final Map<String, Set<SourceIdentifier>> byName = new HashMap<>();
+            for (SourceIdentifier source : available.keySet()) {
+                byName.computeIfAbsent(source.getName(), name -> new HashSet<>()).add(source);
+            }
+
+            final Iterator<Entry<SourceIdentifier, ImmutableSet<SourceIdentifier>>> it =
+                available.entrySet().iterator();
+            while (it.hasNext()) {
+                final Entry<SourceIdentifier, ImmutableSet<SourceIdentifier>> entry = it.next();
+                final List<SourceIdentifier> unsatisfied = new ArrayList<>();
+                for (SourceIdentifier dependency : entry.getValue()) {
+                    if (!isSatisfied(dependency, byName.get(dependency.getName()))) {
+                        unsatisfied.add(dependency);
+                    }
+                }
+                if (!unsatisfied.isEmpty()) {
+                    result.put(entry.getKey(), ImmutableSet.copyOf(unsatisfied));
+                    it.remove();
+                    changed = true;
+                }
+            }
+        } while (changed);
+
+        return result;
+    }
+
+    private static boolean isSatisfied(final SourceIdentifier dependency, final Set<SourceIdentifier> candidates) {
+        // All candidates have the same name as the dependency, hence only the revision needs to be checked
+        return candidates != null && (!dependency.getRevision().isPresent() || candidates.contains(dependency));
+    }
+}
@@ -11,14 +11,19 @@ import com.google.common.base.Strings;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
 import io.netty.util.concurrent.Future;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.opendaylight.netconf.api.FailedNetconfMessage;
@@ -44,6 +49,8 @@ import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 public class NetconfDeviceCommunicator
         implements NetconfClientSessionListener, RemoteDeviceCommunicator<NetconfMessage> {
@@ -58,8 +65,22 @@ public class NetconfDeviceCommunicator
     private final Semaphore semaphore;
     private final int concurentRpcMsgs;
 
-    private final Queue<Request> requests = new ArrayDeque<>();
-    private NetconfClientSession currentSession;
+    /*
+     * Outstanding requests, keyed by their sequence number, hence oldest first. Requests are removed from the map by
+     * whoever completes them: the reply handler, a failed send or session tear down. A successful removal hands
+     * ownership of the request to the caller, hence the map is not protected by sessionLock.
+     */
+    private final ConcurrentNavigableMap<Long, Request> requests = new ConcurrentSkipListMap<>();
+    /*
+     * Outstanding requests indexed by their message-id, so replies can be matched without scanning all requests.
+     * Only the oldest request with a particular message-id is indexed. This map is only a lookup aid, ownership is
+     * still decided by removal from the requests map.
+     */
+    private final ConcurrentMap<String, Request> requestsByMessageId = new ConcurrentHashMap<>();
+    private final AtomicLong requestSequence = new AtomicLong();
+    private final AtomicInteger pendingRequests = new AtomicInteger();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private volatile NetconfClientSession currentSession;
 
     private final SettableFuture<NetconfDeviceCapabilities> firstConnectionFuture;
     private Future<?> initFuture;
@@ -77,6 +98,24 @@ public class NetconfDeviceCommunicator
         return closing != 0;
     }
 
+    /**
+     * Return the number of requests which have been sent to the device and are waiting for a reply.
+     *
+     * @return Number of outstanding requests
+     */
+    public int getPendingRequestCount() {
+        return pendingRequests.get();
+    }
+
+    /**
+     * Return the number of requests which have been rejected because the limit of concurrent requests was reached.
+     *
+     * @return Number of rejected requests
+     */
+    public long getRejectedRequestCount() {
+        return rejectedRequests.sum();
+    }
+
     public NetconfDeviceCommunicator(
             final RemoteDeviceId id,
             final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
@@ -183,20 +222,12 @@ public class NetconfDeviceCommunicator
         sessionLock.lock();
         try {
             if (currentSession != null) {
+                // Clear the session first, so that any concurrent sendRequest() notices the session has gone away
+                // and fails the request it is enqueueing if we miss it here.
                 currentSession = null;
-                /*
-                 * Walk all requests, check if they have been executing
-                 * or cancelled and remove them from the queue.
-                 */
-                final Iterator<Request> it = requests.iterator();
-                while (it.hasNext()) {
-                    final Request r = it.next();
-                    if (r.future.isUncancellable()) {
+                for (Request r : requests.values()) {
+                    if (removeRequest(r)) {
                         futuresToCancel.add(r.future);
-                        it.remove();
-                    } else if (r.future.isCancelled()) {
-                        // This just does some house-cleaning
-                        it.remove();
                     }
                 }
 
@@ -271,71 +302,134 @@ public class NetconfDeviceCommunicator
     }
 
     private void processMessage(final NetconfMessage message) {
-        Request request = null;
-        sessionLock.lock();
+        final Request request = takeRequest(message);
+        if (request == null) {
+            LOG.warn("{}: Ignoring unsolicited message {}", id, msgToS(message));
+            return;
+        }
 
-        try {
-            request = requests.peek();
-            if (request != null && request.future.isUncancellable()) {
-                request = requests.poll();
-                // we have just removed one request from the queue
-                // we can also release one permit
-                if (semaphore != null) {
-                    semaphore.release();
-                }
-            } else {
-                request = null;
-                LOG.warn("{}: Ignoring unsolicited message {}", id,
-                        msgToS(message));
-            }
-        } finally {
-            sessionLock.unlock();
+        if (FailedNetconfMessage.class.isInstance(message)) {
+            request.future.set(NetconfMessageTransformUtil.toRpcResult((FailedNetconfMessage) message));
+            return;
         }
 
-        if (request != null) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{}: Message received after {}us, {} requests outstanding: {}", id,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - request.sentNanos), pendingRequests.get(), message);
+        }
 
-            if (FailedNetconfMessage.class.isInstance(message)) {
-                request.future.set(NetconfMessageTransformUtil.toRpcResult((FailedNetconfMessage) message));
-                return;
-            }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{}: Matched request: {} to response: {}", id, msgToS(request.request), msgToS(message));
+        }
 
-            LOG.debug("{}: Message received {}", id, message);
+        try {
+            NetconfMessageTransformUtil.checkValidReply(request.request, message);
+        } catch (final NetconfDocumentedException e) {
+            LOG.warn(
+                    "{}: Invalid request-reply match,"
+                            + "reply message contains different message-id, request: {}, response: {}",
+                    id, msgToS(request.request), msgToS(message), e);
+
+            request.future.set(RpcResultBuilder.<NetconfMessage>failed()
+                    .withRpcError(NetconfMessageTransformUtil.toRpcError(e)).build());
+            return;
+        }
 
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("{}: Matched request: {} to response: {}", id, msgToS(request.request), msgToS(message));
-            }
+        try {
+            NetconfMessageTransformUtil.checkSuccessReply(message);
+        } catch (final NetconfDocumentedException e) {
+            LOG.warn(
+                    "{}: Error reply from remote device, request: {}, response: {}",
+                    id, msgToS(request.request), msgToS(message), e);
+
+            request.future.set(RpcResultBuilder.<NetconfMessage>failed()
+                    .withRpcError(NetconfMessageTransformUtil.toRpcError(e)).build());
+            return;
+        }
 
-            try {
-                NetconfMessageTransformUtil.checkValidReply(request.request, message);
-            } catch (final NetconfDocumentedException e) {
-                LOG.warn(
-                        "{}: Invalid request-reply match,"
-                                + "reply message contains different message-id, request: {}, response: {}",
-                        id, msgToS(request.request), msgToS(message), e);
+        request.future.set(RpcResultBuilder.success(message).build());
+    }
 
-                request.future.set(RpcResultBuilder.<NetconfMessage>failed()
-                        .withRpcError(NetconfMessageTransformUtil.toRpcError(e)).build());
+    /**
+     * Find and remove the request a reply corresponds to. Replies are matched to outstanding requests by their
+     * message-id, so they can arrive in any order. Message-ids are not guaranteed to be unique, hence the oldest
+     * matching request wins. A reply which does not match any request is attributed to the oldest request, so that
+     * it is failed by {@link NetconfMessageTransformUtil#checkValidReply(NetconfMessage, NetconfMessage)}.
+     *
+     * <p>
+     * The common case of a unique message-id is a single lookup. Outstanding requests are only scanned when
+     * message-ids are reused or the reply does not match any request.
+     *
+     * @param message received reply
+     * @return Matching request, or null if there are no outstanding requests
+     */
+    private Request takeRequest(final NetconfMessage message) {
+        final String messageId = getMessageId(message);
+        if (!messageId.isEmpty()) {
+            final Request indexed = requestsByMessageId.get(messageId);
+            if (indexed != null && removeRequest(indexed)) {
+                return indexed;
+            }
 
-                //recursively processing message to eventually find matching request
-                processMessage(message);
+            // Requests reusing a message-id of another outstanding request are not indexed
+            for (Request request : requests.values()) {
+                if (messageId.equals(request.messageId) && removeRequest(request)) {
+                    return request;
+                }
+            }
+        }
 
-                return;
+        for (Request request : requests.values()) {
+            if (removeRequest(request)) {
+                return request;
             }
+        }
+        return null;
+    }
 
-            try {
-                NetconfMessageTransformUtil.checkSuccessReply(message);
-            } catch (final NetconfDocumentedException e) {
-                LOG.warn(
-                        "{}: Error reply from remote device, request: {}, response: {}",
-                        id, msgToS(request.request), msgToS(message), e);
+    /**
+     * Add a request to outstanding requests. The request is indexed before it becomes visible to
+     * {@link #removeRequest(Request)}, so its index entry cannot be left behind.
+     *
+     * @param request request to add
+     */
+    private void addRequest(final Request request) {
+        if (!request.messageId.isEmpty()) {
+            requestsByMessageId.putIfAbsent(request.messageId, request);
+        }
+        pendingRequests.incrementAndGet();
+        requests.put(request.sequence, request);
+    }
 
-                request.future.set(RpcResultBuilder.<NetconfMessage>failed()
-                        .withRpcError(NetconfMessageTransformUtil.toRpcError(e)).build());
-                return;
-            }
+    /**
+     * Remove a request from outstanding requests, releasing its concurrency permit.
+     *
+     * @param request request to remove
+     * @return true if the request was removed by this call, hence the caller is responsible for completing it
+     */
+    private boolean removeRequest(final Request request) {
+        if (!requests.remove(request.sequence, request)) {
+            return false;
+        }
+
+        if (!request.messageId.isEmpty()) {
+            requestsByMessageId.remove(request.messageId, request);
+        }
+        pendingRequests.decrementAndGet();
+        if (semaphore != null) {
+            semaphore.release();
+        }
+        return true;
+    }
 
-            request.future.set(RpcResultBuilder.success(message).build());
+    private static String getMessageId(final NetconfMessage message) {
+        // FailedNetconfMessage does not have a document and some test requests do not have a document element
+        final Document doc = message.getDocument();
+        if (doc == null) {
+            return "";
         }
+        final Element element = doc.getDocumentElement();
+        return element == null ? "" : element.getAttribute(NetconfMessageTransformUtil.MESSAGE_ID_ATTR);
     }
 
     private static String msgToS(final NetconfMessage msg) {
@@ -344,44 +438,49 @@ public class NetconfDeviceCommunicator
 
     @Override
     public ListenableFuture<RpcResult<NetconfMessage>> sendRequest(final NetconfMessage message, final QName rpc) {
-        sessionLock.lock();
-        try {
-            if (semaphore != null && !semaphore.tryAcquire()) {
-                LOG.warn("Limit of concurrent rpc messages was reached (limit: {}). Rpc reply message is needed. "
-                    + "Discarding request of Netconf device with id {}", concurentRpcMsgs, id.getName());
-                return FluentFutures.immediateFailedFluentFuture(new NetconfDocumentedException(
-                        "Limit of rpc messages was reached (Limit :" + concurentRpcMsgs
-                        + ") waiting for emptying the queue of Netconf device with id" + id.getName()));
-            }
-
-            return sendRequestWithLock(message, rpc);
-        } finally {
-            sessionLock.unlock();
+        if (semaphore != null && !semaphore.tryAcquire()) {
+            rejectedRequests.increment();
+            LOG.warn("Limit of concurrent rpc messages was reached (limit: {}). Rpc reply message is needed. "
+                + "Discarding request of Netconf device with id {}", concurentRpcMsgs, id.getName());
+            return FluentFutures.immediateFailedFluentFuture(new NetconfDocumentedException(
+                    "Limit of rpc messages was reached (Limit :" + concurentRpcMsgs
+                    + ") waiting for emptying the queue of Netconf device with id" + id.getName()));
         }
-    }
 
-    private ListenableFuture<RpcResult<NetconfMessage>> sendRequestWithLock(final NetconfMessage message,
-                                                                            final QName rpc) {
         if (LOG.isTraceEnabled()) {
             LOG.trace("{}: Sending message {}", id, msgToS(message));
         }
 
-        if (currentSession == null) {
+        final NetconfClientSession session = currentSession;
+        if (session == null) {
+            if (semaphore != null) {
+                semaphore.release();
+            }
             LOG.warn("{}: Session is disconnected, failing RPC request {}",
                     id, message);
             return FluentFutures.immediateFluentFuture(createSessionDownRpcResult());
         }
 
-        final Request req = new Request(new UncancellableFuture<>(true), message);
-        requests.add(req);
+        final Request req = new Request(requestSequence.getAndIncrement(), new UncancellableFuture<>(true), message);
+        addRequest(req);
+
+        if (currentSession != session) {
+            // The session went down while we were enqueueing the request, tearDown() may have missed it
+            if (removeRequest(req)) {
+                req.future.set(createSessionDownRpcResult());
+            }
+            return req.future;
+        }
 
-        currentSession.sendMessage(req.request).addListener(future -> {
+        session.sendMessage(req.request).addListener(future -> {
             if (!future.isSuccess()) {
                 // We expect that a session down will occur at this point
                 LOG.debug("{}: Failed to send request {}", id,
                         XmlUtil.toString(req.request.getDocument()),
                         future.cause());
 
+                // The request will never be answered, do not let it occupy the queue
+                removeRequest(req);
                 if (future.cause() != null) {
                     req.future.set(createErrorRpcResult(RpcError.ErrorType.TRANSPORT,
                             future.cause().getLocalizedMessage()));
@@ -415,13 +514,19 @@ public class NetconfDeviceCommunicator
     }
 
     private static final class Request {
+        final long sequence;
         final UncancellableFuture<RpcResult<NetconfMessage>> future;
         final NetconfMessage request;
+        final String messageId;
+        final long sentNanos;
 
-        private Request(final UncancellableFuture<RpcResult<NetconfMessage>> future,
+        private Request(final long sequence, final UncancellableFuture<RpcResult<NetconfMessage>> future,
                         final NetconfMessage request) {
+            this.sequence = sequence;
             this.future = future;
             this.request = request;
+            this.messageId = getMessageId(request);
+            this.sentNanos = System.nanoTime();
         }
     }
 
@@ -13,6 +13,8 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_GET_CONFIG_PATH;
 import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_RUNNING_QNAME;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -20,8 +22,10 @@ import com.google.common.util.concurrent.MoreExecutors;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.opendaylight.mdsal.dom.api.DOMActionService;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMRpcAvailabilityListener;
@@ -44,6 +48,11 @@ import org.slf4j.LoggerFactory;
  * SalFacade proxy that invokes keepalive RPCs to prevent session shutdown from remote device
  * and to detect incorrect session drops (netconf session is inactive, but TCP/SSH connection is still present).
  * The keepalive RPC is a get-config with empty filter.
+ *
+ * <p>
+ * Keepalives are only sent when the session has been idle: any RPC response or notification received from the device
+ * proves the session is alive, as does an RPC which is still being processed by the device. Rather than rescheduling
+ * the keepalive on each such event, we record its time and the keepalive task checks it when it fires.
  */
 public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSessionPreferences> {
 
@@ -55,25 +64,42 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
     // 1 minute transaction timeout by default
     private static final long DEFAULT_TRANSACTION_TIMEOUT_MILLI = TimeUnit.MILLISECONDS.toMillis(60000);
 
+    // Initial keepalive is delayed by up to 1/JITTER_DIVISOR of the delay, so that keepalives of devices connected
+    // at the same time do not end up being sent at the same time
+    private static final int JITTER_DIVISOR = 10;
+
     private final RemoteDeviceId id;
     private final RemoteDeviceHandler<NetconfSessionPreferences> salFacade;
     private final ScheduledExecutorService executor;
+    private final Ticker ticker;
     private final long keepaliveDelaySeconds;
+    private final long keepaliveDelayNanos;
     private final ResetKeepalive resetKeepaliveTask;
     private final long defaultRequestTimeoutMillis;
+    private final AtomicInteger pendingRpcs = new AtomicInteger();
 
     private volatile NetconfDeviceCommunicator listener;
-    private volatile ScheduledFuture<?> currentKeepalive;
+    private volatile Keepalive currentKeepalive;
     private volatile DOMRpcService currentDeviceRpc;
+    private volatile long lastActivityNanos;
     private final AtomicBoolean lastKeepAliveSucceeded = new AtomicBoolean(false);
 
     public KeepaliveSalFacade(final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
                               final ScheduledExecutorService executor, final long keepaliveDelaySeconds,
                               final long defaultRequestTimeoutMillis) {
+        this(id, salFacade, executor, keepaliveDelaySeconds, defaultRequestTimeoutMillis, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    KeepaliveSalFacade(final RemoteDeviceId id, final RemoteDeviceHandler<NetconfSessionPreferences> salFacade,
+                       final ScheduledExecutorService executor, final long keepaliveDelaySeconds,
+                       final long defaultRequestTimeoutMillis, final Ticker ticker) {
         this.id = id;
         this.salFacade = salFacade;
         this.executor = executor;
+        this.ticker = ticker;
         this.keepaliveDelaySeconds = keepaliveDelaySeconds;
+        this.keepaliveDelayNanos = TimeUnit.SECONDS.toNanos(keepaliveDelaySeconds);
         this.defaultRequestTimeoutMillis = defaultRequestTimeoutMillis;
         this.resetKeepaliveTask = new ResetKeepalive();
     }
@@ -93,26 +119,21 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
     }
 
     /**
-     * Just cancel current keepalive task.
-     * If its already started, let it finish ... not such a big deal.
-     *
-     * <p>
-     * Then schedule next keepalive.
+     * Record that we have heard from the device, postponing the next keepalive.
      */
     void resetKeepalive() {
         LOG.trace("{}: Resetting netconf keepalive timer", id);
-        if (currentKeepalive != null) {
-            currentKeepalive.cancel(false);
-        }
-        scheduleKeepalives();
+        lastActivityNanos = ticker.read();
     }
 
     /**
      * Cancel current keepalive and also reset current deviceRpc.
      */
     private void stopKeepalives() {
-        if (currentKeepalive != null) {
-            currentKeepalive.cancel(false);
+        final Keepalive keepalive = currentKeepalive;
+        currentKeepalive = null;
+        if (keepalive != null) {
+            keepalive.cancel();
         }
         currentDeviceRpc = null;
     }
@@ -135,9 +156,7 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
             final NetconfSessionPreferences netconfSessionPreferences, final DOMRpcService deviceRpc,
             final DOMActionService deviceAction) {
         this.currentDeviceRpc = deviceRpc;
-        final DOMRpcService deviceRpc1 =
-                new KeepaliveDOMRpcService(deviceRpc, resetKeepaliveTask, defaultRequestTimeoutMillis, executor,
-                        new ResponseWaitingScheduler());
+        final DOMRpcService deviceRpc1 = new KeepaliveDOMRpcService(deviceRpc);
 
         salFacade.onDeviceConnected(remoteSchemaContext, netconfSessionPreferences, deviceRpc1, deviceAction);
 
@@ -147,10 +166,14 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
 
     private void scheduleKeepalives() {
         lastKeepAliveSucceeded.set(true);
+        lastActivityNanos = ticker.read();
         checkState(currentDeviceRpc != null);
         LOG.trace("{}: Scheduling keepalives every  {} {}", id, keepaliveDelaySeconds, TimeUnit.SECONDS);
-        currentKeepalive = executor.scheduleWithFixedDelay(new Keepalive(),
-          keepaliveDelaySeconds, keepaliveDelaySeconds, TimeUnit.SECONDS);
+
+        final Keepalive keepalive = new Keepalive();
+        currentKeepalive = keepalive;
+        keepalive.schedule(keepaliveDelayNanos + ThreadLocalRandom.current().nextLong(
+            keepaliveDelayNanos / JITTER_DIVISOR + 1));
     }
 
     @Override
@@ -183,30 +206,57 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
 
     /**
      * Invoke keepalive RPC and check the response. In case of any received response the keepalive
-     * is considered successful and schedules next keepalive with a fixed delay. If the response is unsuccessful (no
-     * response received, or the rcp could not even be sent) immediate reconnect is triggered as netconf session
-     * is considered inactive/failed.
+     * is considered successful. If the response is unsuccessful (no response received, or the rcp could not even
+     * be sent) immediate reconnect is triggered as netconf session is considered inactive/failed. Each run schedules
+     * the next one, unless this keepalive has been superseded or stopped in the meantime.
      */
     private class Keepalive implements Runnable, FutureCallback<DOMRpcResult> {
+        private volatile ScheduledFuture<?> future;
+
+        void schedule(final long delayNanos) {
+            future = executor.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        void cancel() {
+            final ScheduledFuture<?> local = future;
+            if (local != null) {
+                local.cancel(false);
+            }
+        }
 
         @Override
         public void run() {
-            LOG.trace("{}: Invoking keepalive RPC", id);
+            if (currentKeepalive != this) {
+                LOG.trace("{}: Keepalive superseded, not running it", id);
+                return;
+            }
 
-            try {
-                final boolean lastJobSucceeded = lastKeepAliveSucceeded.getAndSet(false);
-                if (!lastJobSucceeded) {
-                    onFailure(new IllegalStateException("Previous keepalive timed out"));
-                } else {
-                    Futures.addCallback(currentDeviceRpc.invokeRpc(NETCONF_GET_CONFIG_PATH, KEEPALIVE_PAYLOAD), this,
-                        MoreExecutors.directExecutor());
-                }
-            } catch (final NullPointerException e) {
+            final DOMRpcService deviceRpc = currentDeviceRpc;
+            if (deviceRpc == null) {
+                // We hit the reconnect window. Next keepalive will be scheduled after reconnect.
                 LOG.debug("{}: Skipping keepalive while reconnecting", id);
-                // Empty catch block intentional
-                // Do nothing. The currentDeviceRpc was null and it means we hit the reconnect window and
-                // attempted to send keepalive while we were reconnecting. Next keepalive will be scheduled
-                // after reconnect so no action necessary here.
+                return;
+            }
+
+            final long idleNanos = ticker.read() - lastActivityNanos;
+            if (pendingRpcs.get() != 0 || idleNanos < keepaliveDelayNanos) {
+                // The device is either working on our request, or we have recently heard from it: either way there is
+                // no need to check on it.
+                LOG.trace("{}: Device is active, skipping keepalive", id);
+                lastKeepAliveSucceeded.set(true);
+                schedule(pendingRpcs.get() != 0 ? keepaliveDelayNanos : keepaliveDelayNanos - idleNanos);
+                return;
+            }
+
+            LOG.trace("{}: Invoking keepalive RPC", id);
+            schedule(keepaliveDelayNanos);
+
+            final boolean lastJobSucceeded = lastKeepAliveSucceeded.getAndSet(false);
+            if (!lastJobSucceeded) {
+                onFailure(new IllegalStateException("Previous keepalive timed out"));
+            } else {
+                Futures.addCallback(deviceRpc.invokeRpc(NETCONF_GET_CONFIG_PATH, KEEPALIVE_PAYLOAD), this,
+                    MoreExecutors.directExecutor());
             }
         }
 
@@ -248,11 +298,13 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
         public void onSuccess(final DOMRpcResult result) {
             // No matter what response we got,
             // rpc-reply or rpc-error, we got it from device so the netconf session is OK.
+            pendingRpcs.decrementAndGet();
             resetKeepalive();
         }
 
         @Override
         public void onFailure(final Throwable throwable) {
+            pendingRpcs.decrementAndGet();
             // User/Application RPC failed (The RPC did not reach the remote device or ..
             // TODO what other reasons could cause this ?)
             // There is no point in keeping this session. Reconnect.
@@ -261,63 +313,6 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
         }
     }
 
-    private final class ResponseWaitingScheduler {
-
-        private ScheduledFuture<?> schedule;
-
-        public void initScheduler(final Runnable runnable) {
-            if (currentKeepalive != null) {
-                currentKeepalive.cancel(true);
-            } else {
-                LOG.trace("Keepalive does not exist.");
-            }
-            scheduleKeepalives();
-            //Listening on the result should be done before the keepalive rpc will be send
-            final long delay = keepaliveDelaySeconds * 1000 - 500;
-            schedule = executor.schedule(runnable, delay, TimeUnit.MILLISECONDS);
-        }
-
-        public void stopScheduler() {
-            if (schedule != null) {
-                schedule.cancel(true);
-            } else {
-                LOG.trace("Scheduler does not exist.");
-            }
-        }
-    }
-
-    private static final class ResponseWaiting implements Runnable {
-
-        private final ListenableFuture<? extends DOMRpcResult> rpcResultFuture;
-        private final ResponseWaitingScheduler responseWaitingScheduler;
-
-        ResponseWaiting(final ResponseWaitingScheduler responseWaitingScheduler,
-                final ListenableFuture<? extends DOMRpcResult> rpcResultFuture) {
-            this.responseWaitingScheduler = responseWaitingScheduler;
-            this.rpcResultFuture = rpcResultFuture;
-        }
-
-        public void start() {
-            LOG.trace("Start to waiting for result.");
-            responseWaitingScheduler.initScheduler(this);
-        }
-
-        public void stop() {
-            LOG.info("Stop to waiting for result.");
-            responseWaitingScheduler.stopScheduler();
-        }
-
-        @Override
-        public void run() {
-            if (!rpcResultFuture.isCancelled() && !rpcResultFuture.isDone()) {
-                LOG.trace("Waiting for result");
-                responseWaitingScheduler.initScheduler(this);
-            } else {
-                LOG.trace("Result has been cancelled or done.");
-            }
-        }
-    }
-
     /*
      * Request timeout task is called once the defaultRequestTimeoutMillis is
      * reached. At this moment, if the request is not yet finished, we cancel
@@ -325,12 +320,9 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
      */
     private static final class RequestTimeoutTask implements Runnable {
         private final ListenableFuture<? extends DOMRpcResult> rpcResultFuture;
-        private final ResponseWaiting responseWaiting;
 
-        RequestTimeoutTask(final ListenableFuture<? extends DOMRpcResult> rpcResultFuture,
-                final ResponseWaiting responseWaiting) {
+        RequestTimeoutTask(final ListenableFuture<? extends DOMRpcResult> rpcResultFuture) {
             this.rpcResultFuture = rpcResultFuture;
-            this.responseWaiting = responseWaiting;
         }
 
         @Override
@@ -338,9 +330,6 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
             if (!rpcResultFuture.isDone()) {
                 rpcResultFuture.cancel(true);
             }
-            if (responseWaiting != null) {
-                responseWaiting.stop();
-            }
         }
     }
 
@@ -348,21 +337,11 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
      * DOMRpcService proxy that attaches reset-keepalive-task and schedule
      * request-timeout-task to each RPC invocation.
      */
-    public static final class KeepaliveDOMRpcService implements DOMRpcService {
+    public final class KeepaliveDOMRpcService implements DOMRpcService {
         private final DOMRpcService deviceRpc;
-        private final ResetKeepalive resetKeepaliveTask;
-        private final long defaultRequestTimeoutMillis;
-        private final ScheduledExecutorService executor;
-        private final ResponseWaitingScheduler responseWaitingScheduler;
-
-        KeepaliveDOMRpcService(final DOMRpcService deviceRpc, final ResetKeepalive resetKeepaliveTask,
-                final long defaultRequestTimeoutMillis, final ScheduledExecutorService executor,
-                final ResponseWaitingScheduler responseWaitingScheduler) {
+
+        KeepaliveDOMRpcService(final DOMRpcService deviceRpc) {
             this.deviceRpc = deviceRpc;
-            this.resetKeepaliveTask = resetKeepaliveTask;
-            this.defaultRequestTimeoutMillis = defaultRequestTimeoutMillis;
-            this.executor = executor;
-            this.responseWaitingScheduler = responseWaitingScheduler;
         }
 
         public DOMRpcService getDeviceRpc() {
@@ -372,13 +351,26 @@ public final class KeepaliveSalFacade implements RemoteDeviceHandler<NetconfSess
         @Override
         public ListenableFuture<? extends DOMRpcResult> invokeRpc(final SchemaPath type,
                 final NormalizedNode<?, ?> input) {
-            final ListenableFuture<? extends DOMRpcResult> rpcResultFuture = deviceRpc.invokeRpc(type, input);
-            final ResponseWaiting responseWaiting = new ResponseWaiting(responseWaitingScheduler, rpcResultFuture);
-            responseWaiting.start();
+            // Keepalives are suppressed while there are outstanding RPCs, the counter is decremented by
+            // resetKeepaliveTask once the RPC completes
+            pendingRpcs.incrementAndGet();
+            final ListenableFuture<? extends DOMRpcResult> rpcResultFuture;
+            boolean invoked = false;
+            try {
+                rpcResultFuture = deviceRpc.invokeRpc(type, input);
+                invoked = true;
+            } finally {
+                if (!invoked) {
+                    // The RPC failed to even start, hence resetKeepaliveTask will not account for it
+                    pendingRpcs.decrementAndGet();
+                }
+            }
             Futures.addCallback(rpcResultFuture, resetKeepaliveTask, MoreExecutors.directExecutor());
 
-            final RequestTimeoutTask timeoutTask = new RequestTimeoutTask(rpcResultFuture, responseWaiting);
-            executor.schedule(timeoutTask, defaultRequestTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (!rpcResultFuture.isDone()) {
+                executor.schedule(new RequestTimeoutTask(rpcResultFuture), defaultRequestTimeoutMillis,
+                    TimeUnit.MILLISECONDS);
+            }
 
             return rpcResultFuture;
         }
@@ -59,12 +59,19 @@ public final class NetconfRemoteSchemaYangSourceProvider implements SchemaSource
             QName.create(GET_SCHEMA_QNAME, NETCONF_DATA_QNAME.getLocalName()).intern();
     private static final NodeIdentifier NETCONF_DATA_PATHARG = NodeIdentifier.create(NETCONF_DATA);
 
+    private final SchemaFetchCoordinator.DeviceWindow window;
     private final DOMRpcService rpc;
     private final RemoteDeviceId id;
 
     public NetconfRemoteSchemaYangSourceProvider(final RemoteDeviceId id, final DOMRpcService rpc) {
+        this(id, rpc, new SchemaFetchCoordinator());
+    }
+
+    public NetconfRemoteSchemaYangSourceProvider(final RemoteDeviceId id, final DOMRpcService rpc,
+            final SchemaFetchCoordinator coordinator) {
         this.id = id;
         this.rpc = requireNonNull(rpc);
+        this.window = coordinator.newDeviceWindow(id);
     }
 
     public static ContainerNode createGetSchemaRequest(final String moduleName, final Optional<String> revision) {
@@ -99,6 +106,10 @@ public final class NetconfRemoteSchemaYangSourceProvider implements SchemaSource
 
     @Override
     public ListenableFuture<YangTextSchemaSource> getSource(final SourceIdentifier sourceIdentifier) {
+        return window.fetch(sourceIdentifier, () -> fetchSource(sourceIdentifier));
+    }
+
+    private ListenableFuture<YangTextSchemaSource> fetchSource(final SourceIdentifier sourceIdentifier) {
         final String moduleName = sourceIdentifier.getName();
 
         final Optional<String> revision = sourceIdentifier.getRevision().map(Revision::toString);
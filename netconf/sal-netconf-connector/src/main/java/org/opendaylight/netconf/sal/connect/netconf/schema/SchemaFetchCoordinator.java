@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.schema;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coordinates fetching of YANG sources from devices. Concurrent requests for the same {@link SourceIdentifier} are
+ * coalesced, so that when a number of devices with the same models connect at the same time, each source is fetched
+ * only once. Requests towards a single device are limited to a bounded window, so that a device is not flooded with
+ * hundreds of concurrent requests. Counts, sizes and latencies of performed fetches are tracked and reported.
+ *
+ * <p>
+ * An instance is expected to be shared by all devices using the same schema repository, as the repository makes the
+ * same assumption that sources with the same identifier are interchangeable.
+ */
+public final class SchemaFetchCoordinator {
+    /**
+     * The window of fetches issued towards a single device.
+     */
+    public final class DeviceWindow {
+        private final LongAdder deviceFetches = new LongAdder();
+        private final LongAdder deviceBytes = new LongAdder();
+        private final LongAdder deviceShared = new LongAdder();
+        private final RemoteDeviceId id;
+        private final int size;
+
+        @GuardedBy("this")
+        private final Queue<Runnable> queued = new ArrayDeque<>();
+        @GuardedBy("this")
+        private int active;
+        @GuardedBy("this")
+        private long startNanos;
+        @GuardedBy("this")
+        private boolean draining;
+
+        DeviceWindow(final RemoteDeviceId id, final int size) {
+            checkArgument(size > 0, "Window size %s must be positive", size);
+            this.id = requireNonNull(id);
+            this.size = size;
+        }
+
+        /**
+         * Fetch a source, either by joining a fetch already in progress or by invoking specified fetcher within this
+         * window.
+         *
+         * @param sourceId Source to fetch
+         * @param fetcher Function performing the actual fetch
+         * @return Future source
+         */
+        public ListenableFuture<YangTextSchemaSource> fetch(final SourceIdentifier sourceId,
+                final Supplier<ListenableFuture<? extends YangTextSchemaSource>> fetcher) {
+            final SettableFuture<YangTextSchemaSource> created = SettableFuture.create();
+            final ListenableFuture<YangTextSchemaSource> existing = inFlight.putIfAbsent(sourceId, created);
+            if (existing != null) {
+                LOG.debug("{}: joining fetch of {} already in progress", id, sourceId);
+                coalescedFetches.increment();
+                deviceShared.increment();
+                // The other device may have failed to deliver the source, in which case we fetch it ourselves
+                return Futures.catchingAsync(Futures.nonCancellationPropagating(existing), Exception.class,
+                    cause -> submit(sourceId, fetcher), MoreExecutors.directExecutor());
+            }
+
+            Futures.addCallback(submit(sourceId, fetcher), new FutureCallback<YangTextSchemaSource>() {
+                @Override
+                public void onSuccess(final YangTextSchemaSource result) {
+                    inFlight.remove(sourceId, created);
+                    created.set(result);
+                }
+
+                @Override
+                public void onFailure(final Throwable cause) {
+                    inFlight.remove(sourceId, created);
+                    created.setException(cause);
+                }
+            }, MoreExecutors.directExecutor());
+            return Futures.nonCancellationPropagating(created);
+        }
+
+        private ListenableFuture<YangTextSchemaSource> submit(final SourceIdentifier sourceId,
+                final Supplier<ListenableFuture<? extends YangTextSchemaSource>> fetcher) {
+            final SettableFuture<YangTextSchemaSource> future = SettableFuture.create();
+            final Runnable task = () -> {
+                final long start = System.nanoTime();
+                final ListenableFuture<? extends YangTextSchemaSource> result = invoke(fetcher);
+                Futures.addCallback(result, new FutureCallback<YangTextSchemaSource>() {
+                    @Override
+                    public void onSuccess(final YangTextSchemaSource source) {
+                        final long bytes = sizeOf(source);
+                        recordFetch(sourceId, System.nanoTime() - start, bytes);
+                        deviceFetches.increment();
+                        deviceBytes.add(bytes);
+                        release();
+                        future.set(source);
+                    }
+
+                    @Override
+                    public void onFailure(final Throwable cause) {
+                        failedFetches.increment();
+                        release();
+                        future.setException(cause);
+                    }
+                }, MoreExecutors.directExecutor());
+            };
+
+            synchronized (this) {
+                if (active == 0 && queued.isEmpty()) {
+                    startNanos = System.nanoTime();
+                }
+                queued.add(task);
+            }
+
+            drain();
+            return future;
+        }
+
+        private void release() {
+            final long elapsed;
+            synchronized (this) {
+                active--;
+                if (active != 0 || !queued.isEmpty()) {
+                    elapsed = -1;
+                } else {
+                    elapsed = System.nanoTime() - startNanos;
+                }
+            }
+
+            if (elapsed < 0) {
+                drain();
+            } else {
+                reportIdle(elapsed);
+            }
+        }
+
+        /*
+         * Start queued fetches while there is room in the window. Fetches may complete, and hence call release(),
+         * while being started. Only the outermost invocation loops, so that a long queue of fetches failing
+         * immediately does not grow the stack.
+         */
+        private void drain() {
+            while (true) {
+                final Runnable next;
+                synchronized (this) {
+                    if (draining || active >= size) {
+                        return;
+                    }
+                    next = queued.poll();
+                    if (next == null) {
+                        return;
+                    }
+                    active++;
+                    draining = true;
+                }
+
+                try {
+                    next.run();
+                } finally {
+                    synchronized (this) {
+                        draining = false;
+                    }
+                }
+            }
+        }
+
+        // Report what this device has fetched since the window last became busy
+        private void reportIdle(final long elapsedNanos) {
+            final long count = deviceFetches.sumThenReset();
+            final long bytes = deviceBytes.sumThenReset();
+            final long shared = deviceShared.sumThenReset();
+            if (count != 0 || shared != 0) {
+                LOG.info("{}: fetched {} sources ({} bytes) in {}ms, {} shared with other devices; {}", id, count,
+                    bytes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), shared, SchemaFetchCoordinator.this);
+            }
+        }
+    }
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaFetchCoordinator.class);
+    private static final int DEFAULT_WINDOW_SIZE = 4;
+    private static final int MAX_DOWNLOAD_THREADS = 8;
+
+    // Shared pool for sources which need to be downloaded through blocking I/O, such as URL connections
+    private static final ListeningExecutorService DOWNLOAD_EXECUTOR;
+
+    static {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_DOWNLOAD_THREADS, MAX_DOWNLOAD_THREADS,
+            60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                .setNameFormat("netconf-schema-download-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        DOWNLOAD_EXECUTOR = MoreExecutors.listeningDecorator(executor);
+    }
+
+    private final ConcurrentMap<SourceIdentifier, ListenableFuture<YangTextSchemaSource>> inFlight =
+        new ConcurrentHashMap<>();
+    private final LongAdder fetches = new LongAdder();
+    private final LongAdder coalescedFetches = new LongAdder();
+    private final LongAdder failedFetches = new LongAdder();
+    private final LongAdder fetchedBytes = new LongAdder();
+    private final LongAdder fetchNanos = new LongAdder();
+    private final int windowSize;
+
+    public SchemaFetchCoordinator() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public SchemaFetchCoordinator(final int windowSize) {
+        checkArgument(windowSize > 0, "Window size %s must be positive", windowSize);
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Create a new fetch window for a device.
+     *
+     * @param id Device identifier
+     * @return A new window
+     */
+    public DeviceWindow newDeviceWindow(final RemoteDeviceId id) {
+        return new DeviceWindow(id, windowSize);
+    }
+
+    /**
+     * Run a blocking download on a shared, bounded pool of threads.
+     *
+     * @param download Download to run
+     * @return Future result of the download
+     */
+    static ListenableFuture<YangTextSchemaSource> download(final Callable<YangTextSchemaSource> download) {
+        return DOWNLOAD_EXECUTOR.submit(download);
+    }
+
+    @VisibleForTesting
+    long getFetchCount() {
+        return fetches.sum();
+    }
+
+    @VisibleForTesting
+    long getCoalescedCount() {
+        return coalescedFetches.sum();
+    }
+
+    @VisibleForTesting
+    long getFetchedBytes() {
+        return fetchedBytes.sum();
+    }
+
+    @Override
+    public String toString() {
+        final long count = fetches.sum();
+        return "overall " + count + " fetches (" + fetchedBytes.sum() + " bytes, average "
+            + (count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(fetchNanos.sum() / count)) + "ms), "
+            + coalescedFetches.sum() + " coalesced, " + failedFetches.sum() + " failed";
+    }
+
+    private void recordFetch(final SourceIdentifier sourceId, final long nanos, final long bytes) {
+        fetches.increment();
+        fetchNanos.add(nanos);
+        fetchedBytes.add(bytes);
+        LOG.debug("Fetched {} ({} bytes) in {}ms", sourceId, bytes, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static ListenableFuture<? extends YangTextSchemaSource> invoke(
+            final Supplier<ListenableFuture<? extends YangTextSchemaSource>> fetcher) {
+        try {
+            return requireNonNull(fetcher.get());
+        } catch (RuntimeException e) {
+            return Futures.immediateFailedFuture(e);
+        }
+    }
+
+    private static long sizeOf(final YangTextSchemaSource source) {
+        try {
+            return source.size();
+        } catch (IOException e) {
+            LOG.debug("Failed to determine size of {}", source, e);
+            return 0;
+        }
+    }
+}
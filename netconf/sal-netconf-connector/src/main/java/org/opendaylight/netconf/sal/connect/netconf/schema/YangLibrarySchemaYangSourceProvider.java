@@ -12,7 +12,6 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.ByteStreams;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,29 +36,43 @@ public final class YangLibrarySchemaYangSourceProvider implements SchemaSourcePr
     private static final Logger LOG = LoggerFactory.getLogger(YangLibrarySchemaYangSourceProvider.class);
 
     private final Map<SourceIdentifier, URL> availableSources;
+    private final SchemaFetchCoordinator.DeviceWindow window;
     private final RemoteDeviceId id;
 
     public YangLibrarySchemaYangSourceProvider(final RemoteDeviceId id,
             final Map<SourceIdentifier, URL> availableSources) {
+        this(id, availableSources, new SchemaFetchCoordinator());
+    }
+
+    public YangLibrarySchemaYangSourceProvider(final RemoteDeviceId id,
+            final Map<SourceIdentifier, URL> availableSources, final SchemaFetchCoordinator coordinator) {
         this.id = id;
         this.availableSources = ImmutableMap.copyOf(availableSources);
+        this.window = coordinator.newDeviceWindow(id);
     }
 
     @Override
     public ListenableFuture<? extends YangTextSchemaSource> getSource(final SourceIdentifier sourceIdentifier) {
         final URL url = availableSources.get(requireNonNull(sourceIdentifier));
         checkArgument(url != null);
+        // Downloads block, hence they are performed on the coordinator's download threads
+        return window.fetch(sourceIdentifier,
+            () -> SchemaFetchCoordinator.download(() -> download(sourceIdentifier, url)));
+    }
+
+    private YangTextSchemaSource download(final SourceIdentifier sourceIdentifier, final URL url)
+            throws SchemaSourceException {
         try (InputStream in = url.openStream()) {
             // FIXME: defaultCharset() seems to be wrong here
             final String schemaContent = new String(ByteStreams.toByteArray(in), Charset.defaultCharset());
             final NetconfYangTextSchemaSource yangSource = new NetconfYangTextSchemaSource(id, sourceIdentifier,
                 Optional.of(schemaContent));
             LOG.debug("Source {} downloaded from a yang library's url {}", sourceIdentifier, url);
-            return Futures.immediateFuture(yangSource);
+            return yangSource;
         } catch (IOException e) {
             LOG.warn("Unable to download source {} from a yang library's url {}", sourceIdentifier, url, e);
-            return Futures.immediateFailedFuture(new SchemaSourceException(
-                "Unable to download remote schema for " + sourceIdentifier + " from " + url, e));
+            throw new SchemaSourceException(
+                "Unable to download remote schema for " + sourceIdentifier + " from " + url, e);
         }
     }
 }
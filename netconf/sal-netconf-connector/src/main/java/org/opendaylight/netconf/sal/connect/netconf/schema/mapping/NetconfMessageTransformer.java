@@ -15,6 +15,9 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
@@ -85,12 +88,33 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
         IETF_NETCONF_NOTIFICATIONS.getNamespace(),
         CREATE_SUBSCRIPTION_RPC_QNAME.getNamespace());
 
+    /**
+     * Indexes derived from a particular {@link SchemaContext}. These are shared by all transformers operating on the
+     * same context, i.e. all devices which resolved to the same set of modules, and are released once the context
+     * itself becomes unreachable. Values must not refer to the context, as they would keep it reachable: this is why
+     * {@link DataSchemaContextTree} is not part of them and is looked up through its own cache instead.
+     */
+    private static final LoadingCache<SchemaContext, SchemaIndexes> INDEXES = CacheBuilder.newBuilder()
+        .weakKeys().build(CacheLoader.from(SchemaIndexes::new));
+
+    private static final class SchemaIndexes {
+        final ImmutableMap<QName, ? extends RpcDefinition> mappedRpcs;
+        final ImmutableMap<QName, ContainerSchemaNode> mappedNotifications;
+        final ImmutableMap<SchemaPath, ActionDefinition> actions;
+
+        SchemaIndexes(final SchemaContext schemaContext) {
+            mappedRpcs = Maps.uniqueIndex(schemaContext.getOperations(), SchemaNode::getQName);
+            actions = Maps.uniqueIndex(getActions(schemaContext), ActionDefinition::getPath);
+            mappedNotifications = mapNotifications(schemaContext);
+        }
+    }
+
     private final MountPointContext mountContext;
     private final DataSchemaContextTree contextTree;
     private final BaseSchema baseSchema;
     private final MessageCounter counter;
     private final ImmutableMap<QName, ? extends RpcDefinition> mappedRpcs;
-    private final Multimap<QName, ? extends NotificationDefinition> mappedNotifications;
+    private final ImmutableMap<QName, ContainerSchemaNode> mappedNotifications;
     private final boolean strictParsing;
     private final ImmutableMap<SchemaPath, ActionDefinition> actions;
 
@@ -102,14 +126,30 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
         final SchemaContext schemaContext = mountContext.getSchemaContext();
         this.contextTree = DataSchemaContextTree.from(schemaContext);
 
-        this.mappedRpcs = Maps.uniqueIndex(schemaContext.getOperations(), SchemaNode::getQName);
-        this.actions = Maps.uniqueIndex(getActions(schemaContext), ActionDefinition::getPath);
-        this.mappedNotifications = Multimaps.index(schemaContext.getNotifications(),
-            node -> node.getQName().withoutRevision());
+        final SchemaIndexes indexes = INDEXES.getUnchecked(schemaContext);
+        this.mappedRpcs = indexes.mappedRpcs;
+        this.actions = indexes.actions;
+        this.mappedNotifications = indexes.mappedNotifications;
         this.baseSchema = baseSchema;
         this.strictParsing = strictParsing;
     }
 
+    /**
+     * Index notifications by their revision-less QName. Each name is mapped to the schema of the most recent revision
+     * of that notification, so {@link #toNotification(NetconfMessage)} does not need to look it up on each message.
+     */
+    private static ImmutableMap<QName, ContainerSchemaNode> mapNotifications(final SchemaContext schemaContext) {
+        final Multimap<QName, ? extends NotificationDefinition> byName = Multimaps.index(
+            schemaContext.getNotifications(), node -> node.getQName().withoutRevision());
+
+        final ImmutableMap.Builder<QName, ContainerSchemaNode> builder = ImmutableMap.builder();
+        for (QName name : byName.keySet()) {
+            builder.put(name, NetconfMessageTransformUtil.createSchemaForNotification(
+                getMostRecentNotification(byName.get(name))));
+        }
+        return builder.build();
+    }
+
     @VisibleForTesting
     static List<ActionDefinition> getActions(final SchemaContext schemaContext) {
         final List<ActionDefinition> builder = new ArrayList<>();
@@ -135,7 +175,7 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
     }
 
     @Override
-    public synchronized DOMNotification toNotification(final NetconfMessage message) {
+    public DOMNotification toNotification(final NetconfMessage message) {
         final Map.Entry<Instant, XmlElement> stripped = NetconfMessageTransformUtil.stripNotification(message);
         final QName notificationNoRev;
         try {
@@ -145,16 +185,10 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
             throw new IllegalArgumentException(
                     "Unable to parse notification " + message + ", cannot find namespace", e);
         }
-        final Collection<? extends NotificationDefinition> notificationDefinitions =
-                mappedNotifications.get(notificationNoRev);
-        Preconditions.checkArgument(notificationDefinitions.size() > 0,
+        final ContainerSchemaNode notificationAsContainerSchemaNode = mappedNotifications.get(notificationNoRev);
+        Preconditions.checkArgument(notificationAsContainerSchemaNode != null,
                 "Unable to parse notification %s, unknown notification. Available notifications: %s",
-                notificationDefinitions, mappedNotifications.keySet());
-
-        final NotificationDefinition mostRecentNotification = getMostRecentNotification(notificationDefinitions);
-
-        final ContainerSchemaNode notificationAsContainerSchemaNode =
-                NetconfMessageTransformUtil.createSchemaForNotification(mostRecentNotification);
+                notificationNoRev, mappedNotifications.keySet());
 
         final Element element = stripped.getValue().getDomElement();
         final ContainerNode content;
@@ -261,7 +295,7 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
     }
 
     @Override
-    public synchronized DOMRpcResult toRpcResult(final NetconfMessage message, final SchemaPath rpc) {
+    public DOMRpcResult toRpcResult(final NetconfMessage message, final SchemaPath rpc) {
         final NormalizedNode<?, ?> normalizedNode;
         final QName rpcQName = rpc.getLastComponent();
         if (NetconfMessageTransformUtil.isDataRetrievalOperation(rpcQName)) {
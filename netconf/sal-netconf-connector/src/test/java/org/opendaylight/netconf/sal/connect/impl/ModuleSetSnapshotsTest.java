@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.netconf.sal.connect.impl.ModuleSetSnapshots.Snapshot;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+
+public class ModuleSetSnapshotsTest {
+    private static final SourceIdentifier FOO = RevisionSourceIdentifier.create("foo", Revision.of("2020-01-01"));
+    private static final SourceIdentifier BAR = RevisionSourceIdentifier.create("bar");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRecordAndLoad() {
+        final ModuleSetSnapshots snapshots = new ModuleSetSnapshots(folder.getRoot());
+        snapshots.record(ImmutableSet.of(BAR, FOO), 1234);
+        snapshots.record(ImmutableSet.of(BAR), 42);
+
+        final List<Snapshot> loaded = new ModuleSetSnapshots(folder.getRoot()).load();
+        assertEquals(2, loaded.size());
+        for (Snapshot snapshot : loaded) {
+            if (snapshot.getSources().size() == 2) {
+                assertEquals(ImmutableSet.of(BAR, FOO), snapshot.getSources());
+                assertEquals(1234, snapshot.getAssemblyNanos());
+            } else {
+                assertEquals(ImmutableSet.of(BAR), snapshot.getSources());
+                assertEquals(42, snapshot.getAssemblyNanos());
+            }
+        }
+
+        snapshots.remove(ImmutableSet.of(BAR));
+        assertEquals(1, snapshots.load().size());
+    }
+
+    @Test
+    public void testUnreadableSnapshotIsDiscarded() throws IOException {
+        final File file = folder.newFile("garbage.modules");
+        Files.write(file.toPath(), "not a snapshot".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(new ModuleSetSnapshots(folder.getRoot()).load().isEmpty());
+        assertEquals(0, folder.getRoot().listFiles().length);
+    }
+
+    @Test
+    public void testSourceRoundTrip() {
+        assertEquals(FOO, ModuleSetSnapshots.parseSource(FOO.toYangFilename()));
+        assertEquals(BAR, ModuleSetSnapshots.parseSource(BAR.toYangFilename()));
+        assertNotEquals(ModuleSetSnapshots.hash(ImmutableSet.of(BAR)), ModuleSetSnapshots.hash(ImmutableSet.of(FOO)));
+    }
+}
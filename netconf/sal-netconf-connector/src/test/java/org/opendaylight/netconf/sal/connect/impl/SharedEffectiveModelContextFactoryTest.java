@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.api.EffectiveModelContext;
+import org.opendaylight.yangtools.yang.model.repo.api.EffectiveModelContextFactory;
+import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaResolutionException;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+
+public class SharedEffectiveModelContextFactoryTest {
+    private static final SourceIdentifier FOO = RevisionSourceIdentifier.create("foo", Revision.of("2020-01-01"));
+    private static final SourceIdentifier FOO_OLD = RevisionSourceIdentifier.create("foo", Revision.of("2019-01-01"));
+    private static final SourceIdentifier BAR = RevisionSourceIdentifier.create("bar");
+
+    private final EffectiveModelContextFactory delegate = mock(EffectiveModelContextFactory.class);
+    private final SettableFuture<EffectiveModelContext> delegateFuture = SettableFuture.create();
+    private final EffectiveModelContext context = mock(EffectiveModelContext.class);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SharedEffectiveModelContextFactory factory;
+
+    @Before
+    public void before() {
+        doReturn(delegateFuture).when(delegate).createEffectiveModelContext(any(Collection.class));
+        factory = new SharedEffectiveModelContextFactory(delegate);
+    }
+
+    @Test
+    public void testModuleSetKeyIsOrderIndependent() {
+        final List<SourceIdentifier> expected = ImmutableList.of(BAR, FOO_OLD, FOO);
+        assertEquals(expected, SharedEffectiveModelContextFactory.moduleSetKey(ImmutableList.of(FOO, BAR, FOO_OLD))
+            .asList());
+        assertEquals(expected, SharedEffectiveModelContextFactory.moduleSetKey(ImmutableList.of(FOO_OLD, FOO, BAR))
+            .asList());
+    }
+
+    @Test
+    public void testConcurrentRequestsShareAssembly() throws InterruptedException, ExecutionException {
+        final ListenableFuture<EffectiveModelContext> first = factory.createEffectiveModelContext(
+            ImmutableList.of(FOO, BAR));
+        final ListenableFuture<EffectiveModelContext> second = factory.createEffectiveModelContext(
+            ImmutableList.of(BAR, FOO));
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+        verify(delegate).createEffectiveModelContext(ImmutableList.of(BAR, FOO));
+
+        delegateFuture.set(context);
+        assertSame(context, first.get());
+        assertSame(context, second.get());
+
+        // Completed contexts are served without consulting the delegate
+        final ListenableFuture<EffectiveModelContext> third = factory.createEffectiveModelContext(
+            ImmutableList.of(FOO, BAR));
+        assertTrue(third.isDone());
+        assertSame(context, third.get());
+        verify(delegate, times(1)).createEffectiveModelContext(any(Collection.class));
+    }
+
+    @Test
+    public void testFailureIsNotCached() {
+        final ListenableFuture<EffectiveModelContext> first = factory.createEffectiveModelContext(
+            ImmutableList.of(FOO));
+        delegateFuture.setException(new IllegalStateException("failed"));
+        assertTrue(first.isDone());
+
+        factory.createEffectiveModelContext(ImmutableList.of(FOO));
+        verify(delegate, times(2)).createEffectiveModelContext(any(Collection.class));
+    }
+
+    @Test
+    public void testPrewarmFromSnapshots() throws InterruptedException, ExecutionException {
+        final ModuleSetSnapshots snapshots = new ModuleSetSnapshots(folder.getRoot());
+        final ImmutableSet<SourceIdentifier> key = SharedEffectiveModelContextFactory.moduleSetKey(
+            ImmutableList.of(FOO, BAR));
+        snapshots.record(key, 5_000_000L);
+
+        delegateFuture.set(context);
+        final SharedEffectiveModelContextFactory restarted = new SharedEffectiveModelContextFactory(delegate,
+            snapshots, MoreExecutors.directExecutor());
+        restarted.prewarm(MoreExecutors.directExecutor());
+        verify(delegate).createEffectiveModelContext(ImmutableList.of(BAR, FOO));
+
+        // A device mounting now gets the prewarmed context and is accounted as a hit
+        final ListenableFuture<EffectiveModelContext> future = restarted.createEffectiveModelContext(
+            ImmutableList.of(FOO, BAR));
+        assertTrue(future.isDone());
+        assertSame(context, future.get());
+        assertEquals(1, restarted.getPrewarmHits());
+        assertEquals(5_000_000L, restarted.getSavedNanos());
+        verify(delegate, times(1)).createEffectiveModelContext(any(Collection.class));
+    }
+
+    @Test
+    public void testJoinedAssemblyTouchesSnapshot() throws InterruptedException, ExecutionException {
+        final ModuleSetSnapshots snapshots = new ModuleSetSnapshots(folder.getRoot());
+        final ImmutableSet<SourceIdentifier> key = SharedEffectiveModelContextFactory.moduleSetKey(
+            ImmutableList.of(FOO, BAR));
+        snapshots.record(key, 5_000_000L);
+        final File file = snapshotFile(key);
+        final long stale = System.currentTimeMillis() - 86_400_000L;
+        assertTrue(file.setLastModified(stale));
+
+        final SharedEffectiveModelContextFactory restarted = new SharedEffectiveModelContextFactory(delegate,
+            snapshots, MoreExecutors.directExecutor());
+        // Prewarming is not a use of the snapshot, hence it does not touch it
+        final Thread prewarm = new Thread(() -> restarted.prewarm(MoreExecutors.directExecutor()));
+        prewarm.start();
+        verify(delegate, timeout(5000)).createEffectiveModelContext(ImmutableList.of(BAR, FOO));
+        assertEquals(stale, file.lastModified(), 1000);
+
+        // A device joining the assembly in progress does
+        final ListenableFuture<EffectiveModelContext> joined = restarted.createEffectiveModelContext(
+            ImmutableList.of(FOO, BAR));
+        assertTrue(file.lastModified() > stale + 1000);
+
+        delegateFuture.set(context);
+        prewarm.join();
+        assertSame(context, joined.get());
+        verify(delegate, times(1)).createEffectiveModelContext(any(Collection.class));
+    }
+
+    @Test
+    public void testTransientPrewarmFailureKeepsSnapshot() {
+        final ModuleSetSnapshots snapshots = new ModuleSetSnapshots(folder.getRoot());
+        final ImmutableSet<SourceIdentifier> key = SharedEffectiveModelContextFactory.moduleSetKey(
+            ImmutableList.of(FOO));
+        snapshots.record(key, 5_000_000L);
+
+        delegateFuture.setException(new SchemaResolutionException("failed",
+            new MissingSchemaSourceException("missing", FOO)));
+        new SharedEffectiveModelContextFactory(delegate, snapshots, MoreExecutors.directExecutor())
+            .prewarm(MoreExecutors.directExecutor());
+        assertTrue(snapshotFile(key).isFile());
+    }
+
+    @Test
+    public void testPermanentPrewarmFailureDiscardsSnapshot() {
+        final ModuleSetSnapshots snapshots = new ModuleSetSnapshots(folder.getRoot());
+        final ImmutableSet<SourceIdentifier> key = SharedEffectiveModelContextFactory.moduleSetKey(
+            ImmutableList.of(FOO));
+        snapshots.record(key, 5_000_000L);
+
+        delegateFuture.setException(new SchemaResolutionException("failed"));
+        new SharedEffectiveModelContextFactory(delegate, snapshots, MoreExecutors.directExecutor())
+            .prewarm(MoreExecutors.directExecutor());
+        assertFalse(snapshotFile(key).isFile());
+    }
+
+    private File snapshotFile(final ImmutableSet<SourceIdentifier> key) {
+        return new File(folder.getRoot(), ModuleSetSnapshots.hash(key) + ".modules");
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import org.junit.Test;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.common.Revision;
+import org.opendaylight.yangtools.yang.model.repo.api.MissingSchemaSourceException;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SchemaRepository;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+
+public class RequiredSourcesFilterTest {
+    private static final Revision REV = Revision.of("2020-01-01");
+    private static final SourceIdentifier BASE = RevisionSourceIdentifier.create("base", REV);
+    private static final SourceIdentifier BASE_ANY = RevisionSourceIdentifier.create("base");
+    private static final SourceIdentifier TYPES = RevisionSourceIdentifier.create("types", REV);
+    private static final SourceIdentifier TYPES_OLD = RevisionSourceIdentifier.create("types",
+        Revision.of("2019-01-01"));
+    private static final SourceIdentifier MISSING = RevisionSourceIdentifier.create("missing");
+    private static final SourceIdentifier A = RevisionSourceIdentifier.create("a");
+    private static final SourceIdentifier B = RevisionSourceIdentifier.create("b");
+    private static final SourceIdentifier C = RevisionSourceIdentifier.create("c");
+
+    @Test
+    public void testSatisfiedDependencies() {
+        assertTrue(RequiredSourcesFilter.unsatisfiableClosure(ImmutableMap.of(
+            BASE, ImmutableSet.of(),
+            TYPES, ImmutableSet.of(),
+            A, ImmutableSet.of(BASE_ANY, TYPES),
+            B, ImmutableSet.of(A))).isEmpty());
+    }
+
+    @Test
+    public void testTransitiveClosure() {
+        // c -> b -> a -> missing, base is independent
+        final Map<SourceIdentifier, ImmutableSet<SourceIdentifier>> result =
+            RequiredSourcesFilter.unsatisfiableClosure(ImmutableMap.of(
+                BASE, ImmutableSet.of(),
+                A, ImmutableSet.of(MISSING, BASE),
+                B, ImmutableSet.of(A),
+                C, ImmutableSet.of(B, BASE)));
+        assertEquals(ImmutableMap.of(
+            A, ImmutableSet.of(MISSING),
+            B, ImmutableSet.of(A),
+            C, ImmutableSet.of(B)), result);
+    }
+
+    @Test
+    public void testRevisionMismatch() {
+        assertEquals(ImmutableMap.of(A, ImmutableSet.of(TYPES)), RequiredSourcesFilter.unsatisfiableClosure(
+            ImmutableMap.of(TYPES_OLD, ImmutableSet.of(), A, ImmutableSet.of(TYPES))));
+    }
+
+    @Test
+    public void testFilterReportsMissingSources() throws Exception {
+        final SchemaRepository repository = mock(SchemaRepository.class);
+        doReturn(Futures.immediateFuture(mock(YangTextSchemaSource.class))).when(repository)
+            .getSchemaSource(any(SourceIdentifier.class), eq(YangTextSchemaSource.class));
+        doReturn(Futures.immediateFailedFuture(new MissingSchemaSourceException("missing", MISSING)))
+            .when(repository).getSchemaSource(eq(MISSING), eq(YangTextSchemaSource.class));
+
+        final RequiredSourcesFilter.Result result = RequiredSourcesFilter.filter(
+            new RemoteDeviceId("test", InetSocketAddress.createUnresolved("localhost", 22)), repository,
+            ImmutableList.of(A, B, C, BASE, TYPES, MISSING, TYPES_OLD),
+            MoreExecutors.directExecutor()).get();
+
+        assertEquals(ImmutableSet.of(MISSING), result.getMissing());
+        // Dependencies are not known without an AST, hence nothing is excluded
+        assertTrue(result.getUnsatisfied().isEmpty());
+    }
+}
@@ -340,6 +340,45 @@ public class NetconfDeviceCommunicatorTest {
         verifyResponseMessage(resultFuture2.get(), messageID2);
     }
 
+    @Test
+    public void testOnOutOfOrderResponseMessage() throws Exception {
+        setupSession();
+
+        String messageID1 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest(messageID1, true);
+
+        String messageID2 = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest(messageID2, true);
+        assertEquals(2, communicator.getPendingRequestCount());
+
+        communicator.onMessage(mockSession, createSuccessResponseMessage(messageID2));
+        verifyResponseMessage(resultFuture2.get(), messageID2);
+        assertFalse("First request completed", resultFuture1.isDone());
+
+        communicator.onMessage(mockSession, createSuccessResponseMessage(messageID1));
+        verifyResponseMessage(resultFuture1.get(), messageID1);
+        assertEquals(0, communicator.getPendingRequestCount());
+    }
+
+    @Test
+    public void testOnDuplicateMessageIdResponseMessages() throws Exception {
+        setupSession();
+
+        String messageID = UUID.randomUUID().toString();
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest(messageID, true);
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest(messageID, true);
+        assertEquals(2, communicator.getPendingRequestCount());
+
+        // Oldest request with a particular message-id is answered first
+        communicator.onMessage(mockSession, createSuccessResponseMessage(messageID));
+        verifyResponseMessage(resultFuture1.get(), messageID);
+        assertFalse("Second request completed", resultFuture2.isDone());
+
+        communicator.onMessage(mockSession, createSuccessResponseMessage(messageID));
+        verifyResponseMessage(resultFuture2.get(), messageID);
+        assertEquals(0, communicator.getPendingRequestCount());
+    }
+
     @Test
     public void testOnResponseMessageWithError() throws Exception {
         setupSession();
@@ -444,6 +483,7 @@ public class NetconfDeviceCommunicatorTest {
         final String notWorkingMessageID = UUID.randomUUID().toString();
         ListenableFuture<RpcResult<NetconfMessage>> resultFuture = sendRequest(notWorkingMessageID, false);
         assertEquals("ListenableFuture is null", false, resultFuture instanceof UncancellableFuture);
+        assertEquals(1, communicator.getRejectedRequestCount());
 
         communicator.onMessage(mockSession, createSuccessResponseMessage(messageID.get(0)));
 
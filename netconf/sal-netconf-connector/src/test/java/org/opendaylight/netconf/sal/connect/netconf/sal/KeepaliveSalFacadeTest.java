@@ -7,26 +7,40 @@
  */
 package org.opendaylight.netconf.sal.connect.netconf.sal;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.base.Ticker;
 import java.net.InetSocketAddress;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.mdsal.dom.api.DOMRpcService;
 import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
@@ -170,4 +184,88 @@ public class KeepaliveSalFacadeTest {
 
         verify(listener, times(1)).disconnect();
     }
+
+    @Test
+    public void testSynchronousRpcFailureDoesNotSuppressKeepalives() {
+        doAnswer(
+            invocationOnMock -> {
+                proxyRpc = (DOMRpcService) invocationOnMock.getArguments()[2];
+                return null;
+            }).when(underlyingSalFacade).onDeviceConnected(isNull(), isNull(), any(DOMRpcService.class), isNull());
+
+        final DOMRpcResult result = new DefaultDOMRpcResult(Builders.containerBuilder().withNodeIdentifier(
+                new YangInstanceIdentifier.NodeIdentifier(NetconfMessageTransformUtil.NETCONF_RUNNING_QNAME)).build());
+        doThrow(new IllegalStateException("session down"))
+                .doReturn(FluentFutures.immediateFluentFuture(result))
+                .when(deviceRpc).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+
+        keepaliveSalFacade.onDeviceConnected(null, null, deviceRpc);
+
+        try {
+            proxyRpc.invokeRpc(mock(SchemaPath.class), mock(ContainerNode.class));
+            fail("RPC invocation should have failed");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+
+        // The failed invocation must not be considered outstanding, hence keepalives should still be sent
+        verify(deviceRpc, timeout(15000).times(2)).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+    }
+
+    @Test
+    public void testKeepaliveSkippedAfterRecentActivity() throws Exception {
+        final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        final AtomicLong nanos = new AtomicLong();
+        final Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+        keepaliveSalFacade = new KeepaliveSalFacade(REMOTE_DEVICE_ID, underlyingSalFacade, executor, 1L, 1L, ticker);
+        keepaliveSalFacade.setListener(listener);
+        doReturn(FluentFutures.immediateFluentFuture(new DefaultDOMRpcResult(mock(RpcError.class))))
+                .when(deviceRpc).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+
+        keepaliveSalFacade.onDeviceConnected(null, null, deviceRpc);
+        final ArgumentCaptor<Runnable> keepalive = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(keepalive.capture(), anyLong(), eq(TimeUnit.NANOSECONDS));
+
+        // The device has been idle for longer than the keepalive delay, but has just sent a notification
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1100));
+        keepaliveSalFacade.onNotification(mock(DOMNotification.class));
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        keepalive.getValue().run();
+        verify(deviceRpc, never()).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+
+        // The keepalive is postponed until the delay elapses after the activity
+        final ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(executor, times(2)).schedule(any(Runnable.class), delay.capture(), eq(TimeUnit.NANOSECONDS));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(900), delay.getValue().longValue());
+
+        // Without further activity the next run sends a keepalive
+        nanos.addAndGet(delay.getValue());
+        keepalive.getValue().run();
+        verify(deviceRpc).invokeRpc(any(SchemaPath.class), any(ContainerNode.class));
+    }
+
+    @Test
+    public void testFirstKeepaliveJitter() {
+        final long delayNanos = TimeUnit.SECONDS.toNanos(100);
+        final Set<Long> delays = new HashSet<>();
+        for (int i = 0; i < 20; ++i) {
+            final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+            new KeepaliveSalFacade(REMOTE_DEVICE_ID, underlyingSalFacade, executor, 100L, 1L)
+                .onDeviceConnected(null, null, deviceRpc);
+
+            final ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+            verify(executor).schedule(any(Runnable.class), delay.capture(), eq(TimeUnit.NANOSECONDS));
+            assertTrue(delay.getValue() >= delayNanos);
+            assertTrue(delay.getValue() <= delayNanos + delayNanos / 10);
+            delays.add(delay.getValue());
+        }
+
+        // Devices connected at the same time do not send their keepalives at the same time
+        assertTrue(delays.size() > 1);
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.schema;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.opendaylight.netconf.sal.connect.netconf.schema.NetconfRemoteSchemaYangSourceProvider.NetconfYangTextSchemaSource;
+import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yangtools.yang.model.repo.api.RevisionSourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.SourceIdentifier;
+import org.opendaylight.yangtools.yang.model.repo.api.YangTextSchemaSource;
+
+public class SchemaFetchCoordinatorTest {
+    private static final RemoteDeviceId DEVICE1 = new RemoteDeviceId("device1",
+        InetSocketAddress.createUnresolved("localhost", 830));
+    private static final RemoteDeviceId DEVICE2 = new RemoteDeviceId("device2",
+        InetSocketAddress.createUnresolved("localhost", 831));
+    private static final SourceIdentifier FOO = RevisionSourceIdentifier.create("foo");
+
+    private final SchemaFetchCoordinator coordinator = new SchemaFetchCoordinator(2);
+
+    @Test
+    public void testCoalescingAcrossDevices() throws InterruptedException, ExecutionException {
+        final SettableFuture<YangTextSchemaSource> remote = SettableFuture.create();
+        final ListenableFuture<YangTextSchemaSource> first = coordinator.newDeviceWindow(DEVICE1)
+            .fetch(FOO, () -> remote);
+        final ListenableFuture<YangTextSchemaSource> second = coordinator.newDeviceWindow(DEVICE2)
+            .fetch(FOO, () -> {
+                throw new AssertionError("Should have been coalesced");
+            });
+
+        final YangTextSchemaSource source = source(FOO, "module foo {}");
+        remote.set(source);
+        assertSame(source, first.get());
+        assertSame(source, second.get());
+        assertEquals(1, coordinator.getFetchCount());
+        assertEquals(1, coordinator.getCoalescedCount());
+        assertEquals(13, coordinator.getFetchedBytes());
+    }
+
+    @Test
+    public void testFallbackWhenOtherDeviceFails() throws InterruptedException, ExecutionException {
+        final SettableFuture<YangTextSchemaSource> remote = SettableFuture.create();
+        final ListenableFuture<YangTextSchemaSource> first = coordinator.newDeviceWindow(DEVICE1)
+            .fetch(FOO, () -> remote);
+        final YangTextSchemaSource source = source(FOO, "module foo {}");
+        final SettableFuture<YangTextSchemaSource> fallback = SettableFuture.create();
+        final ListenableFuture<YangTextSchemaSource> second = coordinator.newDeviceWindow(DEVICE2)
+            .fetch(FOO, () -> fallback);
+
+        remote.setException(new IllegalStateException("not available"));
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+
+        fallback.set(source);
+        assertSame(source, second.get());
+    }
+
+    @Test
+    public void testWindowIsBounded() {
+        final SchemaFetchCoordinator.DeviceWindow window = coordinator.newDeviceWindow(DEVICE1);
+        final List<SettableFuture<YangTextSchemaSource>> issued = new ArrayList<>();
+        final List<ListenableFuture<YangTextSchemaSource>> results = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            final SourceIdentifier sourceId = RevisionSourceIdentifier.create("module" + i);
+            results.add(window.fetch(sourceId, () -> {
+                final SettableFuture<YangTextSchemaSource> future = SettableFuture.create();
+                issued.add(future);
+                return future;
+            }));
+        }
+        assertEquals(2, issued.size());
+
+        // Each completion makes room for the next request
+        issued.get(0).set(source(RevisionSourceIdentifier.create("module0"), ""));
+        assertEquals(3, issued.size());
+        issued.get(1).setException(new IllegalStateException("failed"));
+        assertEquals(4, issued.size());
+        issued.get(2).set(source(RevisionSourceIdentifier.create("module2"), ""));
+        issued.get(3).set(source(RevisionSourceIdentifier.create("module3"), ""));
+        assertEquals(5, issued.size());
+        issued.get(4).set(source(RevisionSourceIdentifier.create("module4"), ""));
+
+        for (ListenableFuture<YangTextSchemaSource> result : results) {
+            assertTrue(result.isDone());
+        }
+        assertEquals(4, coordinator.getFetchCount());
+    }
+
+    @Test
+    public void testImmediateFailuresDoNotRecurse() {
+        final SchemaFetchCoordinator.DeviceWindow window = new SchemaFetchCoordinator(1).newDeviceWindow(DEVICE1);
+        final SettableFuture<YangTextSchemaSource> first = SettableFuture.create();
+        final ListenableFuture<YangTextSchemaSource> firstResult = window.fetch(FOO, () -> first);
+
+        // Queue up enough fetches failing immediately to overflow the stack if they were started recursively
+        final List<ListenableFuture<YangTextSchemaSource>> results = new ArrayList<>();
+        for (int i = 0; i < 50000; ++i) {
+            results.add(window.fetch(RevisionSourceIdentifier.create("module" + i),
+                () -> Futures.immediateFailedFuture(new IllegalStateException("session down"))));
+        }
+
+        first.setException(new IllegalStateException("session down"));
+        assertTrue(firstResult.isDone());
+        for (ListenableFuture<YangTextSchemaSource> result : results) {
+            assertTrue(result.isDone());
+        }
+    }
+
+    private static YangTextSchemaSource source(final SourceIdentifier sourceId, final String text) {
+        return new NetconfYangTextSchemaSource(DEVICE1, sourceId, Optional.of(text));
+    }
+}
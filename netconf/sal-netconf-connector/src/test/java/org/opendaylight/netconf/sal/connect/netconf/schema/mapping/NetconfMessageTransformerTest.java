@@ -32,6 +32,7 @@ import static org.opendaylight.netconf.util.NetconfUtil.NETCONF_DATA_QNAME;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -478,6 +479,23 @@ public class NetconfMessageTransformerTest extends AbstractBaseSchemasTest {
                 + "</rpc>");
     }
 
+    @Test
+    public void testSharedIndexesDoNotRetainContext() throws InterruptedException {
+        final WeakReference<EffectiveModelContext> ref = createTransformerForTransientContext();
+        for (int i = 0; i < 100 && ref.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+    }
+
+    private static WeakReference<EffectiveModelContext> createTransformerForTransientContext() {
+        final EffectiveModelContext context = YangParserTestUtils.parseYangResource(
+            "/schemas/user-notification.yang");
+        assertNotNull(getTransformer(context));
+        return new WeakReference<>(context);
+    }
+
     private static NetconfMessageTransformer getTransformer(final EffectiveModelContext schema) {
         return new NetconfMessageTransformer(new EmptyMountPointContext(schema), true, BASE_SCHEMAS.getBaseSchema());
     }
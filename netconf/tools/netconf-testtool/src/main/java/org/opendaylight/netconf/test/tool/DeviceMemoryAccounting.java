@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Approximate accounting of heap used by simulated devices and their sessions. All samples are taken after requesting
+ * a full garbage collection, hence they are only meaningful if explicit GC is not disabled. Since forcing a collection
+ * every minute disturbs the simulation, accounting is only enabled on request.
+ *
+ * <p>
+ * The cost of devices is measured as the difference in heap usage before and after they have been started and is
+ * reported per server, as multiplexed devices share a single server and cost next to nothing individually. The cost
+ * of sessions is estimated from the heap used above that, both on average over all open sessions and as the marginal
+ * cost of sessions opened or closed since the previous report.
+ */
+final class DeviceMemoryAccounting {
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceMemoryAccounting.class);
+    private static final long KIB = 1024;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final AtomicInteger openSessions = new AtomicInteger();
+
+    private volatile long baselineBytes;
+    private volatile long devicesBytes;
+    private volatile int deviceCount;
+
+    // Accessed only from report(), which is not invoked concurrently
+    private long lastSessionsBytes;
+    private int lastSessions;
+
+    void markBaseline() {
+        baselineBytes = usedHeapAfterGc();
+    }
+
+    void devicesStarted(final int count, final int servers) {
+        deviceCount = count;
+        devicesBytes = Math.max(0, usedHeapAfterGc() - baselineBytes);
+        LOG.info("{} simulated devices served by {} servers use {} KiB of heap, {} KiB per server", count, servers,
+            devicesBytes / KIB, servers == 0 ? 0 : devicesBytes / servers / KIB);
+    }
+
+    void sessionOpened() {
+        openSessions.incrementAndGet();
+    }
+
+    void sessionClosed() {
+        openSessions.decrementAndGet();
+    }
+
+    void report() {
+        final long used = usedHeapAfterGc();
+        final int sessions = openSessions.get();
+        final long sessionsBytes = Math.max(0, used - baselineBytes - devicesBytes);
+        LOG.info("Heap used {} MiB by {} simulated devices with {} open sessions, approximately {} KiB per session",
+            used / KIB / KIB, deviceCount, sessions, sessions == 0 ? 0 : sessionsBytes / sessions / KIB);
+
+        final int sessionDelta = sessions - lastSessions;
+        if (sessionDelta != 0) {
+            LOG.info("{} sessions {} since last report, marginal cost approximately {} KiB per session",
+                Math.abs(sessionDelta), sessionDelta > 0 ? "opened" : "closed",
+                (sessionsBytes - lastSessionsBytes) / sessionDelta / KIB);
+        }
+        lastSessions = sessions;
+        lastSessionsBytes = sessionsBytes;
+    }
+
+    private long usedHeapAfterGc() {
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.netconf.test.tool;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects.ToStringHelper;
 import com.google.common.collect.Collections2;
 import com.google.common.util.concurrent.Futures;
@@ -17,6 +18,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.local.LocalAddress;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
+import io.netty.util.concurrent.Promise;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
@@ -26,6 +28,7 @@ import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.nio.channels.AsynchronousChannelGroup;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -34,16 +37,20 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.netconf.api.capability.BasicCapability;
 import org.opendaylight.netconf.api.capability.Capability;
 import org.opendaylight.netconf.api.capability.YangModuleCapability;
 import org.opendaylight.netconf.api.monitoring.NetconfMonitoringService;
+import org.opendaylight.netconf.auth.AuthProvider;
 import org.opendaylight.netconf.impl.NetconfServerDispatcherImpl;
+import org.opendaylight.netconf.impl.NetconfServerSession;
 import org.opendaylight.netconf.impl.NetconfServerSessionNegotiatorFactory;
 import org.opendaylight.netconf.impl.ServerChannelInitializer;
 import org.opendaylight.netconf.impl.SessionIdProvider;
 import org.opendaylight.netconf.impl.osgi.AggregatedNetconfOperationServiceFactory;
 import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactory;
+import org.opendaylight.netconf.nettyutil.AbstractChannelInitializer;
 import org.opendaylight.netconf.shaded.sshd.common.keyprovider.KeyPairProvider;
 import org.opendaylight.netconf.shaded.sshd.common.util.threads.ThreadUtils;
 import org.opendaylight.netconf.ssh.SshProxyServer;
@@ -55,6 +62,7 @@ import org.opendaylight.netconf.test.tool.monitoring.NetconfMonitoringOperationS
 import org.opendaylight.netconf.test.tool.monitoring.NetconfMonitoringOperationServiceFactory;
 import org.opendaylight.netconf.test.tool.operations.DefaultOperationsCreator;
 import org.opendaylight.netconf.test.tool.operations.OperationsProvider;
+import org.opendaylight.netconf.test.tool.rpc.PreEncodedMessageHandler;
 import org.opendaylight.netconf.test.tool.rpchandler.SettableOperationRpcProvider;
 import org.opendaylight.netconf.test.tool.schemacache.SchemaSourceCache;
 import org.opendaylight.yangtools.yang.common.Revision;
@@ -85,6 +93,8 @@ public class NetconfDeviceSimulator implements Closeable {
     private final ScheduledExecutorService minaTimerExecutor;
     private final ExecutorService nioExecutor;
     private final Configuration configuration;
+    // Only present if requested, as it forces garbage collections
+    private final DeviceMemoryAccounting memoryAccounting;
     private EffectiveModelContext schemaContext;
 
     private boolean sendFakeSchema = false;
@@ -97,6 +107,7 @@ public class NetconfDeviceSimulator implements Closeable {
                 new ThreadFactoryBuilder().setNameFormat("netconf-ssh-server-mina-timers-%d").build());
         this.nioExecutor = ThreadUtils
                 .newFixedThreadPool("netconf-ssh-server-nio-group", configuration.getThreadPoolSize());
+        this.memoryAccounting = configuration.isMemoryAccounting() ? new DeviceMemoryAccounting() : null;
     }
 
     private NetconfServerDispatcherImpl createDispatcher(final Set<Capability> capabilities,
@@ -125,7 +136,19 @@ public class NetconfDeviceSimulator implements Closeable {
                 monitoringService1, serverCapabilities);
 
         final ServerChannelInitializer serverChannelInitializer =
-            new ServerChannelInitializer(serverNegotiatorFactory);
+            new ServerChannelInitializer(serverNegotiatorFactory) {
+                @Override
+                public void initialize(final Channel ch, final Promise<NetconfServerSession> promise) {
+                    super.initialize(ch, promise);
+                    if (memoryAccounting != null) {
+                        memoryAccounting.sessionOpened();
+                        ch.closeFuture().addListener(future -> memoryAccounting.sessionClosed());
+                    }
+                    // Allow pre-encoded notifications to bypass the message encoder
+                    ch.pipeline().addAfter(AbstractChannelInitializer.NETCONF_MESSAGE_ENCODER,
+                        PreEncodedMessageHandler.HANDLER_NAME, PreEncodedMessageHandler.INSTANCE);
+                }
+            };
         return new NetconfServerDispatcherImpl(serverChannelInitializer, nettyThreadgroup, nettyThreadgroup);
     }
 
@@ -195,6 +218,15 @@ public class NetconfDeviceSimulator implements Closeable {
             throw new IllegalStateException("Failed to create group", e);
         }
 
+        if (memoryAccounting != null) {
+            memoryAccounting.markBaseline();
+        }
+        if (configuration.isSsh() && configuration.isMultiplexDevices()) {
+            final List<Integer> multiplexedDevices = startMultiplexed(dispatcher, keyPairProvider, group);
+            devicesStarted(multiplexedDevices.size(), multiplexedDevices.isEmpty() ? 0 : 1);
+            return multiplexedDevices;
+        }
+
         for (int i = 0; i < configuration.getDeviceCount(); i++) {
             if (currentPort > 65535) {
                 LOG.warn("Port cannot be greater than 65535, stopping further attempts.");
@@ -268,9 +300,87 @@ public class NetconfDeviceSimulator implements Closeable {
             LOG.warn("Not all simulated devices started successfully. Started devices ar on ports {}", openDevices);
         }
 
+        devicesStarted(openDevices.size(), openDevices.size());
         return openDevices;
     }
 
+    private void devicesStarted(final int count, final int servers) {
+        if (memoryAccounting != null) {
+            memoryAccounting.devicesStarted(count, servers);
+            minaTimerExecutor.scheduleWithFixedDelay(memoryAccounting::report, 1, 1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Start all devices behind a single SSH listener on the starting port. Since all devices share the same schemas
+     * and operation services, they are also served by a single local NETCONF server. The SSH user name selects the
+     * device, so that sessions for unknown devices are refused.
+     *
+     * @return The starting port, repeated for each simulated device, or an empty list if the devices failed to start
+     */
+    private List<Integer> startMultiplexed(final NetconfServerDispatcherImpl dispatcher,
+            final KeyPairProvider keyPairProvider, final AsynchronousChannelGroup group) {
+        final int port = configuration.getStartingPort();
+        final int deviceCount = configuration.getDeviceCount();
+        final InetSocketAddress address = getAddress(configuration.getIp(), port);
+        final LocalAddress tcpLocalAddress = new LocalAddress(address.toString());
+
+        final ChannelFuture server = dispatcher.createLocalServer(tcpLocalAddress);
+        try {
+            server.get();
+        } catch (final InterruptedException e) {
+            throw new RuntimeException(e);
+        } catch (final ExecutionException e) {
+            LOG.warn("Cannot start multiplexed simulated devices on {}", address, e);
+            return Collections.emptyList();
+        }
+        devicesChannels.add(server.channel());
+
+        final AuthProvider authProvider = configuration.getAuthProvider();
+        final SshProxyServer sshServer = new SshProxyServer(minaTimerExecutor, nettyThreadgroup, group);
+        try {
+            sshServer.bind(new SshProxyServerConfigurationBuilder()
+                .setBindingAddress(InetSocketAddress.createUnresolved("0.0.0.0", port))
+                .setLocalAddressSelector(username -> {
+                    final int device = deviceIndex(username);
+                    return device >= 0 && device < deviceCount ? tcpLocalAddress : null;
+                })
+                .setAuthenticator((username, password) -> authProvider.authenticated(userName(username), password))
+                .setPublickeyAuthenticator(configuration.getPublickeyAuthenticator())
+                .setKeyPairProvider(keyPairProvider)
+                .setIdleTimeout(Integer.MAX_VALUE)
+                .createSshProxyServerConfiguration());
+        } catch (final IOException e) {
+            LOG.warn("Cannot start multiplexed simulated devices on {}", address, e);
+            server.channel().close();
+            return Collections.emptyList();
+        }
+        sshWrappers.add(sshServer);
+
+        LOG.info("All {} simulated devices started successfully on port {}, select them with user name suffix "
+            + "@0 to @{}", deviceCount, port, deviceCount - 1);
+        return Collections.nCopies(deviceCount, port);
+    }
+
+    @VisibleForTesting
+    static int deviceIndex(final String username) {
+        final int separator = username.lastIndexOf('@');
+        if (separator == -1) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(username.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @VisibleForTesting
+    static String userName(final String username) {
+        final int separator = username.lastIndexOf('@');
+        return separator == -1 ? username : username.substring(0, separator);
+    }
+
     private SshProxyServerConfiguration getSshConfiguration(final InetSocketAddress bindingAddress,
             final LocalAddress tcpLocalAddress, final KeyPairProvider keyPairProvider) {
         return new SshProxyServerConfigurationBuilder()
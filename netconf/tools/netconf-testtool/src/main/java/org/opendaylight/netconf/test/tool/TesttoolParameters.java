@@ -79,6 +79,10 @@ public class TesttoolParameters {
     public int generateConfigBatchSize;
     @Arg(dest = "ssh")
     public boolean ssh;
+    @Arg(dest = "multiplex-devices")
+    public boolean multiplexDevices;
+    @Arg(dest = "memory-accounting")
+    public boolean memoryAccounting;
     @Arg(dest = "exi")
     public boolean exi = true;
     @Arg(dest = "debug")
@@ -202,6 +206,21 @@ public class TesttoolParameters {
                 .help("Whether to use ssh for transport or just pure tcp")
                 .dest("ssh");
 
+        parser.addArgument("--multiplex-devices")
+                .type(Boolean.class)
+                .setDefault(Boolean.FALSE)
+                .help("Serve all simulated devices through a single SSH listener on the starting port, instead of "
+                        + "one listener per device. Each device is selected by an SSH user name ending with "
+                        + "@<device index>, for example admin@42. Requires ssh.")
+                .dest("multiplex-devices");
+
+        parser.addArgument("--memory-accounting")
+                .type(Boolean.class)
+                .setDefault(Boolean.FALSE)
+                .help("Periodically log heap used by simulated devices and their sessions. Each sample forces "
+                        + "a full garbage collection.")
+                .dest("memory-accounting");
+
         parser.addArgument("--exi")
                 .type(Boolean.class)
                 .setDefault(Boolean.TRUE)
@@ -299,6 +318,11 @@ public class TesttoolParameters {
         checkArgument(deviceCount > 0, "Device count has to be > 0");
         checkArgument(startingPort > 1023, "Starting port has to be > 1023");
         checkArgument(devicesPerPort > 0, "Atleast one device per port needed");
+        if (multiplexDevices) {
+            checkArgument(ssh, "Multiplexing devices requires ssh");
+            checkArgument(controllerDestination == null,
+                "Multiplexed devices cannot be configured via controller destination");
+        }
 
         if (schemasDir != null) {
             checkArgument(schemasDir.exists(), "Schemas dir has to exist");
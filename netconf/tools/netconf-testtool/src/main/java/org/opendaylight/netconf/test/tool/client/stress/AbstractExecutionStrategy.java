@@ -7,24 +7,30 @@
  */
 package org.opendaylight.netconf.test.tool.client.stress;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
+import org.opendaylight.yangtools.yang.common.RpcResult;
 
 abstract class AbstractExecutionStrategy implements ExecutionStrategy {
     private final Parameters params;
     private final List<NetconfMessage> preparedMessages;
     private final NetconfDeviceCommunicator sessionListener;
+    private final LatencyRecorder latencyRecorder;
     private final List<Integer> editBatches;
     private final int editAmount;
 
     AbstractExecutionStrategy(final Parameters params, final List<NetconfMessage> editConfigMsgs,
-                              final NetconfDeviceCommunicator sessionListener) {
+                              final NetconfDeviceCommunicator sessionListener, final LatencyRecorder latencyRecorder) {
         editAmount = editConfigMsgs.size();
         this.params = params;
         this.preparedMessages = editConfigMsgs;
         this.sessionListener = sessionListener;
+        this.latencyRecorder = latencyRecorder;
         this.editBatches = countEditBatchSizes(params, editConfigMsgs.size());
     }
 
@@ -65,4 +71,37 @@ abstract class AbstractExecutionStrategy implements ExecutionStrategy {
     protected int getEditAmount() {
         return editAmount;
     }
+
+    /**
+     * Send a request and record its latency once it completes.
+     *
+     * @param type operation type
+     * @param msg request message
+     * @param startNanos {@link System#nanoTime()} at which the request is considered to have started
+     * @return Future response
+     */
+    protected ListenableFuture<RpcResult<NetconfMessage>> sendRequest(final OperationType type,
+            final NetconfMessage msg, final long startNanos) {
+        final ListenableFuture<RpcResult<NetconfMessage>> future = sessionListener.sendRequest(msg, type.getQName());
+        future.addListener(() -> recordCompletion(type, startNanos, future), MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private void recordCompletion(final OperationType type, final long startNanos,
+            final ListenableFuture<RpcResult<NetconfMessage>> future) {
+        final long latency = System.nanoTime() - startNanos;
+        final RpcResult<NetconfMessage> result;
+        try {
+            result = future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            latencyRecorder.recordFailure(type);
+            return;
+        }
+
+        if (result.isSuccessful()) {
+            latencyRecorder.recordSuccess(type, latency);
+        } else {
+            latencyRecorder.recordFailure(type);
+        }
+    }
 }
@@ -26,8 +26,8 @@ class AsyncExecutionStrategy extends AbstractExecutionStrategy {
     private static final Logger LOG = LoggerFactory.getLogger(AsyncExecutionStrategy.class);
 
     AsyncExecutionStrategy(final Parameters params, final List<NetconfMessage> editConfigMsgs,
-                           final NetconfDeviceCommunicator sessionListener) {
-        super(params, editConfigMsgs, sessionListener);
+                           final NetconfDeviceCommunicator sessionListener, final LatencyRecorder latencyRecorder) {
+        super(params, editConfigMsgs, sessionListener, latencyRecorder);
     }
 
     @Override
@@ -45,13 +45,13 @@ class AsyncExecutionStrategy extends AbstractExecutionStrategy {
                     LOG.debug("Sending message {}", XmlUtil.toString(msg.getDocument()));
                 }
                 final ListenableFuture<RpcResult<NetconfMessage>> netconfMessageFuture =
-                        getSessionListener().sendRequest(msg, StressClient.EDIT_QNAME);
+                        sendRequest(OperationType.EDIT_CONFIG, msg, System.nanoTime());
                 futures.add(netconfMessageFuture);
             }
             batchI++;
             LOG.info("Batch {} with size {} sent. Committing", batchI, editBatch);
             if (getParams().candidateDatastore) {
-                futures.add(getSessionListener().sendRequest(StressClient.COMMIT_MSG, StressClient.COMMIT_QNAME));
+                futures.add(sendRequest(OperationType.COMMIT, StressClient.COMMIT_MSG, System.nanoTime()));
             }
         }
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records per-operation latencies of all stress client threads. Besides the overall histograms, which are reported
+ * once the test finishes, it can periodically report a time series of per-interval latencies and throughput.
+ */
+final class LatencyRecorder implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(LatencyRecorder.class);
+
+    private final Map<OperationType, LatencyHistogram> totals = new EnumMap<>(OperationType.class);
+    private final Map<OperationType, AtomicReference<LatencyHistogram>> intervals =
+        new EnumMap<>(OperationType.class);
+    private final Map<OperationType, LongAdder> failures = new EnumMap<>(OperationType.class);
+    private final long startNanos = System.nanoTime();
+
+    private ScheduledExecutorService reporter;
+    private long lastReportNanos = startNanos;
+
+    LatencyRecorder() {
+        for (OperationType type : OperationType.values()) {
+            totals.put(type, new LatencyHistogram());
+            intervals.put(type, new AtomicReference<>(new LatencyHistogram()));
+            failures.put(type, new LongAdder());
+        }
+    }
+
+    /**
+     * Start periodic reporting of per-interval statistics.
+     *
+     * @param intervalSeconds reporting interval, non-positive values disable reporting
+     */
+    synchronized void startReporting(final long intervalSeconds) {
+        if (intervalSeconds > 0 && reporter == null) {
+            reporter = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("stress-client-reporter").setDaemon(true).build());
+            LOG.info("Interval report: elapsed-ms,operation,count,total-failures,rate,p50-us,p99-us,p999-us,max-us");
+            reporter.scheduleAtFixedRate(this::reportInterval, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    void recordSuccess(final OperationType type, final long latencyNanos) {
+        final long value = Math.max(0, latencyNanos);
+        totals.get(type).recordValue(value);
+        intervals.get(type).get().recordValue(value);
+    }
+
+    void recordFailure(final OperationType type) {
+        failures.get(type).increment();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (reporter != null) {
+            reporter.shutdown();
+            reporter = null;
+            reportInterval();
+        }
+    }
+
+    /**
+     * Log overall latency statistics for each operation type which has been exercised.
+     */
+    void reportSummary() {
+        final long elapsed = System.nanoTime() - startNanos;
+        for (OperationType type : OperationType.values()) {
+            final LatencyHistogram histogram = totals.get(type);
+            final long count = histogram.getTotalCount();
+            final long failed = failures.get(type).sum();
+            if (count != 0 || failed != 0) {
+                LOG.info("{}: {} responses, {} failures, {} req/s, latency mean {} us, p50 {} us, p90 {} us, "
+                    + "p99 {} us, p99.9 {} us, max {} us", type.getOperationName(), count, failed, rate(count, elapsed),
+                    micros(histogram.getMeanValue()), micros(histogram.getValueAtPercentile(50)),
+                    micros(histogram.getValueAtPercentile(90)), micros(histogram.getValueAtPercentile(99)),
+                    micros(histogram.getValueAtPercentile(99.9)), micros(histogram.getMaxValue()));
+            }
+        }
+    }
+
+    private synchronized void reportInterval() {
+        final long now = System.nanoTime();
+        final long elapsed = now - lastReportNanos;
+        lastReportNanos = now;
+
+        for (OperationType type : OperationType.values()) {
+            final LatencyHistogram histogram = intervals.get(type).getAndSet(new LatencyHistogram());
+            final long count = histogram.getTotalCount();
+            if (count != 0) {
+                LOG.info("Interval report: {},{},{},{},{},{},{},{},{}", TimeUnit.NANOSECONDS.toMillis(now - startNanos),
+                    type.getOperationName(), count, failures.get(type).sum(), rate(count, elapsed),
+                    micros(histogram.getValueAtPercentile(50)), micros(histogram.getValueAtPercentile(99)),
+                    micros(histogram.getValueAtPercentile(99.9)), micros(histogram.getMaxValue()));
+            }
+        }
+    }
+
+    private static long rate(final long count, final long elapsedNanos) {
+        return elapsedNanos <= 0 ? count : count * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    private static long micros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.sal.connect.netconf.listener.NetconfDeviceCommunicator;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Open-loop execution strategy. Requests are issued on a fixed schedule derived from the target rate, regardless of
+ * whether previous requests have completed. Latency of each request is measured from the time it was scheduled to be
+ * sent, not from the time it was actually sent, so that a stalled server or client is accounted for in the reported
+ * latencies instead of silently reducing the offered load (coordinated omission).
+ */
+class OpenLoopExecutionStrategy extends AbstractExecutionStrategy {
+    private static final Logger LOG = LoggerFactory.getLogger(OpenLoopExecutionStrategy.class);
+
+    private final OperationMix operationMix;
+    private final long periodNanos;
+
+    OpenLoopExecutionStrategy(final Parameters params, final List<NetconfMessage> editConfigMsgs,
+                              final NetconfDeviceCommunicator sessionListener, final LatencyRecorder latencyRecorder) {
+        super(params, editConfigMsgs, sessionListener, latencyRecorder);
+        operationMix = OperationMix.parse(params.operationMix);
+        // The target rate is shared among all threads
+        periodNanos = Math.max(1, TimeUnit.SECONDS.toNanos(params.threadAmount) / params.rate);
+    }
+
+    @Override
+    public void invoke() {
+        final List<NetconfMessage> editMessages = getPreparedMessages();
+        final int requestCount = getEditAmount();
+        final List<ListenableFuture<RpcResult<NetconfMessage>>> futures = new ArrayList<>(requestCount);
+
+        LOG.info("Sending {} requests, one every {} us", requestCount, TimeUnit.NANOSECONDS.toMicros(periodNanos));
+        final long startNanos = System.nanoTime();
+        int editIndex = 0;
+        long behind = 0;
+        for (int i = 0; i < requestCount; i++) {
+            final long intendedNanos = startNanos + i * periodNanos;
+            long wait = intendedNanos - System.nanoTime();
+            if (wait < 0) {
+                behind++;
+            }
+            while (wait > 0) {
+                LockSupport.parkNanos(wait);
+                wait = intendedNanos - System.nanoTime();
+            }
+
+            final OperationType type = operationMix.next();
+            final NetconfMessage msg;
+            switch (type) {
+                case EDIT_CONFIG:
+                    msg = editMessages.get(editIndex++ % editMessages.size());
+                    break;
+                case GET:
+                    msg = StressClient.GET_MSG;
+                    break;
+                case GET_CONFIG:
+                    msg = getParams().candidateDatastore ? StressClient.GET_CONFIG_CANDIDATE_MSG
+                        : StressClient.GET_CONFIG_RUNNING_MSG;
+                    break;
+                case COMMIT:
+                    msg = StressClient.COMMIT_MSG;
+                    break;
+                default:
+                    throw new IllegalStateException("Unhandled operation " + type);
+            }
+            futures.add(sendRequest(type, msg, intendedNanos));
+        }
+
+        LOG.info("All requests sent, {} of them behind schedule. Waiting for responses", behind);
+        int responseCounter = 0;
+        for (final ListenableFuture<RpcResult<NetconfMessage>> future : futures) {
+            try {
+                if (future.get(getParams().msgTimeout, TimeUnit.SECONDS).isSuccessful()) {
+                    responseCounter++;
+                }
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            } catch (final ExecutionException | TimeoutException e) {
+                LOG.debug("Request failed", e);
+            }
+        }
+
+        if (responseCounter != requestCount) {
+            LOG.warn("Only {} of {} requests were successful", responseCounter, requestCount);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Splitter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A weighted mix of operations, parsed from a specification such as {@code edit-config=70,get=20,commit=10}. Operations
+ * are handed out by {@link #next()} in a deterministic, smoothly interleaved order, so that any window of requests
+ * follows the configured proportions closely. Instances are not thread-safe.
+ */
+final class OperationMix {
+    private static final Splitter ENTRY_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+    private static final Splitter WEIGHT_SPLITTER = Splitter.on('=').trimResults();
+
+    private final OperationType[] types;
+    private final int[] weights;
+    private final int[] current;
+    private final int totalWeight;
+
+    private OperationMix(final List<OperationType> types, final List<Integer> weights) {
+        this.types = types.toArray(new OperationType[0]);
+        this.weights = weights.stream().mapToInt(Integer::intValue).toArray();
+        this.current = new int[this.weights.length];
+        this.totalWeight = weights.stream().mapToInt(Integer::intValue).sum();
+        checkArgument(totalWeight > 0, "Operation mix needs at least one operation with positive weight");
+    }
+
+    static OperationMix parse(final String spec) {
+        final List<OperationType> types = new ArrayList<>();
+        final List<Integer> weights = new ArrayList<>();
+        for (String entry : ENTRY_SPLITTER.split(spec)) {
+            final List<String> parts = WEIGHT_SPLITTER.splitToList(entry);
+            checkArgument(parts.size() <= 2, "Invalid operation mix entry %s", entry);
+            final OperationType type = OperationType.forOperationName(parts.get(0));
+            checkArgument(!types.contains(type), "Duplicate operation %s", entry);
+
+            final int weight;
+            try {
+                weight = parts.size() == 1 ? 1 : Integer.parseInt(parts.get(1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in operation mix entry " + entry, e);
+            }
+            checkArgument(weight >= 0, "Negative weight in operation mix entry %s", entry);
+
+            types.add(type);
+            weights.add(weight);
+        }
+        return new OperationMix(types, weights);
+    }
+
+    boolean contains(final OperationType type) {
+        for (int i = 0; i < types.length; ++i) {
+            if (types[i] == type && weights[i] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    OperationType next() {
+        // Smooth weighted round-robin: every operation gains its weight, the one with the most credit is chosen and
+        // pays back the total weight
+        int selected = 0;
+        for (int i = 0; i < current.length; ++i) {
+            current[i] += weights[i];
+            if (current[i] > current[selected]) {
+                selected = i;
+            }
+        }
+        current[selected] -= totalWeight;
+        return types[selected];
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import static java.util.Objects.requireNonNull;
+
+import org.opendaylight.yangtools.yang.common.QName;
+
+/**
+ * Types of operations issued by the stress client.
+ */
+enum OperationType {
+    EDIT_CONFIG("edit-config", StressClient.EDIT_QNAME),
+    GET("get", StressClient.GET_QNAME),
+    GET_CONFIG("get-config", StressClient.GET_CONFIG_QNAME),
+    COMMIT("commit", StressClient.COMMIT_QNAME);
+
+    private final String operationName;
+    private final QName qname;
+
+    OperationType(final String operationName, final QName qname) {
+        this.operationName = requireNonNull(operationName);
+        this.qname = requireNonNull(qname);
+    }
+
+    String getOperationName() {
+        return operationName;
+    }
+
+    QName getQName() {
+        return qname;
+    }
+
+    static OperationType forOperationName(final String operationName) {
+        for (OperationType type : values()) {
+            if (type.operationName.equals(operationName)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation " + operationName);
+    }
+}
@@ -70,6 +70,15 @@ public class Parameters {
     @Arg(dest = "concurrent-message-limit")
     public int concurrentMessageLimit;
 
+    @Arg(dest = "rate")
+    public int rate;
+
+    @Arg(dest = "operation-mix")
+    public String operationMix;
+
+    @Arg(dest = "report-interval")
+    public int reportInterval;
+
     static ArgumentParser getParser() {
         final ArgumentParser parser = ArgumentParsers.newArgumentParser("netconf stress client");
 
@@ -172,6 +181,29 @@ public class Parameters {
                 .help("Number of rpc messages that can be sent before receiving reply to them.")
                 .dest("concurrent-message-limit");
 
+        parser.addArgument("--rate")
+                .type(Integer.class)
+                .setDefault(0)
+                .help("Target rate of requests per second, shared by all threads. If set, requests are sent on a fixed "
+                    + "schedule regardless of responses (open-loop) and latencies are measured from the scheduled send "
+                    + "time. Otherwise each thread sends edit-config batches as fast as responses allow.")
+                .dest("rate");
+
+        parser.addArgument("--operation-mix")
+                .type(String.class)
+                .setDefault("edit-config")
+                .help("Weighted mix of operations to send in open-loop mode, for example "
+                    + "edit-config=70,get=10,get-config=10,commit=10. Supported operations are edit-config, get, "
+                    + "get-config and commit.")
+                .dest("operation-mix");
+
+        parser.addArgument("--report-interval")
+                .type(Integer.class)
+                .setDefault(10)
+                .help("Interval in seconds at which per-operation throughput and latency percentiles are reported. "
+                    + "Zero disables periodic reporting.")
+                .dest("report-interval");
+
         return parser;
     }
 
@@ -189,6 +221,9 @@ public class Parameters {
         Preconditions.checkArgument(editContent.canRead(), "Edit content file is unreadable");
         Preconditions.checkArgument(threadAmount > 0, "Parameter thread-amount must be greater than 0");
         Preconditions.checkArgument(msgTimeout >= 0, "Parameter msg-timeout must be greater than 0");
+        Preconditions.checkArgument(rate >= 0, "Parameter rate must not be negative");
+        Preconditions.checkArgument(reportInterval >= 0, "Parameter report-interval must not be negative");
+        OperationMix.parse(operationMix);
     }
 
     public InetSocketAddress getInetAddress() {
@@ -51,7 +51,12 @@ public final class StressClient {
     private static final Logger LOG = LoggerFactory.getLogger(StressClient.class);
 
     static final QName COMMIT_QNAME = QName.create(CommitInput.QNAME, "commit");
+    static final QName GET_QNAME = QName.create(CommitInput.QNAME, "get");
+    static final QName GET_CONFIG_QNAME = QName.create(CommitInput.QNAME, "get-config");
     public static final NetconfMessage COMMIT_MSG;
+    static final NetconfMessage GET_MSG;
+    static final NetconfMessage GET_CONFIG_CANDIDATE_MSG;
+    static final NetconfMessage GET_CONFIG_RUNNING_MSG;
 
     static {
         try {
@@ -59,6 +64,26 @@ public final class StressClient {
                 "<rpc message-id=\"commit-batch\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n"
                     + "    <commit/>\n"
                     + "</rpc>"));
+            GET_MSG = new NetconfMessage(XmlUtil.readXmlToDocument(
+                "<rpc message-id=\"get\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n"
+                    + "    <get/>\n"
+                    + "</rpc>"));
+            GET_CONFIG_CANDIDATE_MSG = new NetconfMessage(XmlUtil.readXmlToDocument(
+                "<rpc message-id=\"get-config\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n"
+                    + "    <get-config>\n"
+                    + "        <source>\n"
+                    + "            <candidate/>\n"
+                    + "        </source>\n"
+                    + "    </get-config>\n"
+                    + "</rpc>"));
+            GET_CONFIG_RUNNING_MSG = new NetconfMessage(XmlUtil.readXmlToDocument(
+                "<rpc message-id=\"get-config\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n"
+                    + "    <get-config>\n"
+                    + "        <source>\n"
+                    + "            <running/>\n"
+                    + "        </source>\n"
+                    + "    </get-config>\n"
+                    + "</rpc>"));
         } catch (final SAXException | IOException e) {
             throw new ExceptionInInitializerError(e);
         }
@@ -159,14 +184,16 @@ public final class StressClient {
 
         final NetconfClientDispatcherImpl netconfClientDispatcher = configureClientDispatcher(nioGroup, timer);
 
+        final LatencyRecorder latencyRecorder = new LatencyRecorder();
         final List<StressClientCallable> callables = new ArrayList<>(threadAmount);
         for (final List<NetconfMessage> messages : allPreparedMessages) {
-            callables.add(new StressClientCallable(params, netconfClientDispatcher, messages));
+            callables.add(new StressClientCallable(params, netconfClientDispatcher, messages, latencyRecorder));
         }
 
         final ExecutorService executorService = Executors.newFixedThreadPool(threadAmount);
 
         LOG.info("Starting stress test");
+        latencyRecorder.startReporting(params.reportInterval);
         final Stopwatch started = Stopwatch.createStarted();
         try {
             final List<Future<Boolean>> futures = executorService.invokeAll(callables);
@@ -182,9 +209,11 @@ public final class StressClient {
             throw new RuntimeException("Unable to execute requests", e);
         }
         started.stop();
+        latencyRecorder.close();
 
         LOG.info("FINISHED. Execution time: {}", started);
         LOG.info("Requests per second: {}", params.editCount * 1000.0 / started.elapsed(TimeUnit.MILLISECONDS));
+        latencyRecorder.reportSummary();
 
         // Cleanup
         timer.stop();
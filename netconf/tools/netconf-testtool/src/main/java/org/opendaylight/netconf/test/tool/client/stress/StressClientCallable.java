@@ -41,7 +41,8 @@ public class StressClientCallable implements Callable<Boolean> {
 
     public StressClientCallable(final Parameters params,
                                 final NetconfClientDispatcherImpl netconfClientDispatcher,
-                                final List<NetconfMessage> preparedMessages) {
+                                final List<NetconfMessage> preparedMessages,
+                                final LatencyRecorder latencyRecorder) {
         this.params = params;
         this.sessionListener = getSessionListener(params.getInetAddress(), params.concurrentMessageLimit);
         this.netconfClientDispatcher = netconfClientDispatcher;
@@ -55,7 +56,7 @@ public class StressClientCallable implements Callable<Boolean> {
         } catch (final ExecutionException e) {
             throw new RuntimeException("Unable to connect", e);
         }
-        executionStrategy = getExecutionStrategy(params, preparedMessages, sessionListener);
+        executionStrategy = getExecutionStrategy(params, preparedMessages, sessionListener, latencyRecorder);
     }
 
     @Override
@@ -66,11 +67,14 @@ public class StressClientCallable implements Callable<Boolean> {
     }
 
     private static ExecutionStrategy getExecutionStrategy(final Parameters params,
-            final List<NetconfMessage> preparedMessages, final NetconfDeviceCommunicator sessionListener) {
-        if (params.async) {
-            return new AsyncExecutionStrategy(params, preparedMessages, sessionListener);
+            final List<NetconfMessage> preparedMessages, final NetconfDeviceCommunicator sessionListener,
+            final LatencyRecorder latencyRecorder) {
+        if (params.rate > 0) {
+            return new OpenLoopExecutionStrategy(params, preparedMessages, sessionListener, latencyRecorder);
+        } else if (params.async) {
+            return new AsyncExecutionStrategy(params, preparedMessages, sessionListener, latencyRecorder);
         } else {
-            return new SyncExecutionStrategy(params, preparedMessages, sessionListener);
+            return new SyncExecutionStrategy(params, preparedMessages, sessionListener, latencyRecorder);
         }
     }
 
@@ -26,8 +26,8 @@ class SyncExecutionStrategy extends AbstractExecutionStrategy {
     private static final Logger LOG = LoggerFactory.getLogger(SyncExecutionStrategy.class);
 
     SyncExecutionStrategy(final Parameters params, final List<NetconfMessage> preparedMessages,
-                          final NetconfDeviceCommunicator sessionListener) {
-        super(params, preparedMessages, sessionListener);
+                          final NetconfDeviceCommunicator sessionListener, final LatencyRecorder latencyRecorder) {
+        super(params, preparedMessages, sessionListener, latencyRecorder);
     }
 
     @Override
@@ -44,7 +44,7 @@ class SyncExecutionStrategy extends AbstractExecutionStrategy {
                     LOG.debug("Sending message {}", XmlUtil.toString(msg.getDocument()));
                 }
                 final ListenableFuture<RpcResult<NetconfMessage>> netconfMessageFuture =
-                        getSessionListener().sendRequest(msg, StressClient.EDIT_QNAME);
+                        sendRequest(OperationType.EDIT_CONFIG, msg, System.nanoTime());
                 // Wait for response
                 waitForResponse(responseCounter, netconfMessageFuture);
 
@@ -55,7 +55,7 @@ class SyncExecutionStrategy extends AbstractExecutionStrategy {
             // Commit batch sync
             if (getParams().candidateDatastore) {
                 waitForResponse(responseCounter,
-                        getSessionListener().sendRequest(StressClient.COMMIT_MSG, StressClient.COMMIT_QNAME));
+                        sendRequest(OperationType.COMMIT, StressClient.COMMIT_MSG, System.nanoTime()));
             }
         }
 
@@ -62,6 +62,8 @@ public class Configuration {
     private int startingPort = 17830;
     private int deviceCount = 1;
     private boolean ssh = true;
+    private boolean multiplexDevices = false;
+    private boolean memoryAccounting = false;
     private String ip = "0.0.0.0";
     private Set<YangResource> defaultYangResources = DEFAULT_YANG_RESOURCES;
 
@@ -154,6 +156,34 @@ public class Configuration {
         this.ssh = ssh;
     }
 
+    /**
+     * Return whether all simulated devices are served through a single SSH listener on the starting port. Devices are
+     * then told apart by the SSH user name, which has to end with {@code @<device index>}.
+     *
+     * @return True if devices are multiplexed over a single port
+     */
+    public boolean isMultiplexDevices() {
+        return multiplexDevices;
+    }
+
+    public void setMultiplexDevices(final boolean multiplexDevices) {
+        this.multiplexDevices = multiplexDevices;
+    }
+
+    /**
+     * Return whether heap used by simulated devices and their sessions is periodically logged. Each sample forces
+     * a full garbage collection.
+     *
+     * @return True if memory accounting is enabled
+     */
+    public boolean isMemoryAccounting() {
+        return memoryAccounting;
+    }
+
+    public void setMemoryAccounting(final boolean memoryAccounting) {
+        this.memoryAccounting = memoryAccounting;
+    }
+
     public String getIp() {
         return ip;
     }
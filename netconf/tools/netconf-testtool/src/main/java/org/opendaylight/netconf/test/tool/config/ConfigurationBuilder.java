@@ -74,6 +74,16 @@ public class ConfigurationBuilder {
         return this;
     }
 
+    public ConfigurationBuilder setMultiplexDevices(final boolean multiplexDevices) {
+        this.configuration.setMultiplexDevices(multiplexDevices);
+        return this;
+    }
+
+    public ConfigurationBuilder setMemoryAccounting(final boolean memoryAccounting) {
+        this.configuration.setMemoryAccounting(memoryAccounting);
+        return this;
+    }
+
     public ConfigurationBuilder setIp(final String ip) {
         this.configuration.setIp(ip);
         return this;
@@ -121,6 +131,8 @@ public class ConfigurationBuilder {
         this.configuration.setStartingPort(template.getStartingPort());
         this.configuration.setDeviceCount(template.getDeviceCount());
         this.configuration.setSsh(template.isSsh());
+        this.configuration.setMultiplexDevices(template.isMultiplexDevices());
+        this.configuration.setMemoryAccounting(template.isMemoryAccounting());
         this.configuration.setIp(template.getIp());
         this.configuration.setRpcHandler(template.getRpcHandler());
         this.configuration.setOperationsCreator(template.getOperationsCreator());
@@ -140,6 +152,8 @@ public class ConfigurationBuilder {
         this.configuration.setStartingPort(testtoolParameters.startingPort);
         this.configuration.setDeviceCount(testtoolParameters.deviceCount);
         this.configuration.setSsh(testtoolParameters.ssh);
+        this.configuration.setMultiplexDevices(testtoolParameters.multiplexDevices);
+        this.configuration.setMemoryAccounting(testtoolParameters.memoryAccounting);
         this.configuration.setIp(testtoolParameters.ip);
         this.configuration.setMdSal(testtoolParameters.mdSal);
         this.configuration.setRpcConfigFile(testtoolParameters.rpcConfig);
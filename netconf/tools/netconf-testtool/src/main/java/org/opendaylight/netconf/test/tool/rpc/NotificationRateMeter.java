@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.rpc;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aggregate meter of rate-driven notifications sent by all simulated devices in this JVM. While at least one
+ * notification stream is active, it periodically logs the achieved aggregate rate.
+ */
+final class NotificationRateMeter {
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationRateMeter.class);
+    private static final long REPORT_INTERVAL_SECONDS = 5;
+
+    static final NotificationRateMeter INSTANCE = new NotificationRateMeter();
+
+    private final LongAdder sent = new LongAdder();
+
+    // All fields below are guarded by this
+    private ScheduledExecutorService reporter;
+    private int activeStreams;
+    private long lastCount;
+    private long lastNanos;
+
+    private NotificationRateMeter() {
+        // Hidden on purpose
+    }
+
+    void recordSent(final int count) {
+        sent.add(count);
+    }
+
+    synchronized void streamStarted() {
+        if (activeStreams++ == 0) {
+            lastCount = sent.sum();
+            lastNanos = System.nanoTime();
+            reporter = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("notification-rate-meter").setDaemon(true).build());
+            reporter.scheduleAtFixedRate(this::report, REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+        }
+    }
+
+    synchronized void streamFinished() {
+        if (--activeStreams == 0) {
+            reporter.shutdown();
+            reporter = null;
+            report();
+        }
+    }
+
+    private synchronized void report() {
+        final long now = System.nanoTime();
+        final long count = sent.sum();
+        final long elapsed = now - lastNanos;
+        if (elapsed > 0) {
+            LOG.info("Sent {} notifications in last {} ms, aggregate rate {} msg/s across {} active streams",
+                count - lastCount, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                (count - lastCount) * TimeUnit.SECONDS.toNanos(1) / elapsed, activeStreams);
+        }
+        lastCount = count;
+        lastNanos = now;
+    }
+}
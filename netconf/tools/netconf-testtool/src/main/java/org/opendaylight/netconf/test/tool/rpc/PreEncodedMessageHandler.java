@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.rpc;
+
+import io.netty.channel.ChannelHandler.Sharable;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import org.opendaylight.netconf.nettyutil.AbstractChannelInitializer;
+import org.opendaylight.netconf.nettyutil.handler.NetconfMessageToXMLEncoder;
+
+/**
+ * Outbound handler which short-circuits message encoding for {@link PreEncodedNotification}s. It needs to be placed
+ * after {@link AbstractChannelInitializer#NETCONF_MESSAGE_ENCODER} in the pipeline, so it sees messages before they
+ * are encoded. The bytes are handed directly to the framing encoder, as long as the session uses plain XML encoding.
+ * Otherwise each message is passed on to the message encoder as usual.
+ */
+@Sharable
+public final class PreEncodedMessageHandler extends ChannelOutboundHandlerAdapter {
+    public static final String HANDLER_NAME = "preEncodedMessageHandler";
+    public static final PreEncodedMessageHandler INSTANCE = new PreEncodedMessageHandler();
+
+    private PreEncodedMessageHandler() {
+        // Hidden on purpose
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+        if (!(msg instanceof PreEncodedNotification)) {
+            ctx.write(msg, promise);
+            return;
+        }
+
+        final PreEncodedNotification notification = (PreEncodedNotification) msg;
+        final boolean plainXml = ctx.pipeline().get(AbstractChannelInitializer.NETCONF_MESSAGE_ENCODER)
+            instanceof NetconfMessageToXMLEncoder;
+        final int last = notification.count() - 1;
+        for (int i = 0; i < last; ++i) {
+            ctx.write(plainXml ? notification.encoded() : notification, ctx.voidPromise());
+        }
+        ctx.write(plainXml ? notification.encoded() : notification, promise);
+    }
+}
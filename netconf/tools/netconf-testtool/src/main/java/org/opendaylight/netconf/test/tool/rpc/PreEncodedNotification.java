@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.rpc;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import javax.xml.transform.TransformerException;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.nettyutil.handler.NetconfMessageToXMLEncoder;
+
+/**
+ * A notification which has been serialized to its XML wire form once, so that it can be sent repeatedly without
+ * running it through the message encoder again. A single instance may also stand for a burst of identical messages,
+ * which {@link PreEncodedMessageHandler} writes out back-to-back and flushes together.
+ *
+ * <p>
+ * The original DOM document is retained, so that the message can still be sent by the regular encoder when the session
+ * is not using plain XML encoding, for example after EXI has been negotiated.
+ */
+public final class PreEncodedNotification extends NetconfMessage {
+    private final ByteBuf encoded;
+    private final int count;
+
+    private PreEncodedNotification(final NetconfMessage message, final ByteBuf encoded, final int count) {
+        super(message.getDocument());
+        this.encoded = requireNonNull(encoded);
+        this.count = count;
+    }
+
+    /**
+     * Encode a message into its XML wire form.
+     *
+     * @param message message to encode
+     * @return A pre-encoded notification representing a single message
+     * @throws IllegalArgumentException if the message cannot be encoded
+     */
+    public static PreEncodedNotification of(final NetconfMessage message) {
+        final ByteBuf buf = Unpooled.buffer();
+        try {
+            new NetconfMessageToXMLEncoder().encode(null, message, buf);
+        } catch (IOException | TransformerException e) {
+            throw new IllegalArgumentException("Failed to encode " + message, e);
+        }
+        return new PreEncodedNotification(message, Unpooled.unreleasableBuffer(buf.asReadOnly()), 1);
+    }
+
+    /**
+     * Return a pre-encoded notification which represents a burst of this message repeated specified number of times.
+     *
+     * @param burstSize number of messages in the burst
+     * @return A pre-encoded notification
+     * @throws IllegalArgumentException if {@code burstSize} is not positive
+     */
+    public PreEncodedNotification withCount(final int burstSize) {
+        checkArgument(burstSize > 0, "Invalid burst size %s", burstSize);
+        return burstSize == count ? this : new PreEncodedNotification(this, encoded, burstSize);
+    }
+
+    /**
+     * Return a new view of the encoded message bytes. The returned buffer shares content with this message and is not
+     * subject to reference counting.
+     *
+     * @return Encoded message bytes
+     */
+    ByteBuf encoded() {
+        return encoded.duplicate();
+    }
+
+    int encodedLength() {
+        return encoded.readableBytes();
+    }
+
+    int count() {
+        return count;
+    }
+}
@@ -9,6 +9,8 @@ package org.opendaylight.netconf.test.tool.rpc;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.channel.ChannelFuture;
 import java.io.File;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
@@ -18,9 +20,12 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
@@ -32,39 +37,43 @@ import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.impl.NetconfServerSession;
 import org.opendaylight.netconf.impl.mapping.operations.DefaultNetconfOperation;
 import org.opendaylight.netconf.util.mapping.AbstractLastNetconfOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.xml.sax.SAXException;
 
 public class SimulatedCreateSubscription extends AbstractLastNetconfOperation implements DefaultNetconfOperation {
+    private static final Logger LOG = LoggerFactory.getLogger(SimulatedCreateSubscription.class);
 
-    private final Map<Notification, NetconfMessage> notifications;
+    // Shared by all simulated sessions, so that neither threads nor parsed notifications are multiplied by the number
+    // of simulated devices
+    private static final ScheduledExecutorService SCHEDULED_EXECUTOR = Executors.newScheduledThreadPool(
+        Runtime.getRuntime().availableProcessors(),
+        new ThreadFactoryBuilder().setNameFormat("simulated-notifications-%d").setDaemon(true).build());
+    private static final ConcurrentMap<File, Map<Notification, PreEncodedNotification>> PREPARED_NOTIFICATIONS =
+        new ConcurrentHashMap<>();
+
+    private final Map<Notification, PreEncodedNotification> notifications;
     private NetconfServerSession session;
-    private ScheduledExecutorService scheduledExecutorService;
 
     public SimulatedCreateSubscription(final String id, final Optional<File> notificationsFile) {
         super(id);
+        this.notifications = notificationsFile.isPresent()
+            ? PREPARED_NOTIFICATIONS.computeIfAbsent(notificationsFile.get(),
+                SimulatedCreateSubscription::prepareNotifications)
+            : Collections.emptyMap();
+    }
 
-        final Optional<Notifications> notifs;
-
-        if (notificationsFile.isPresent()) {
-            notifs = Optional.of(loadNotifications(notificationsFile.get()));
-            scheduledExecutorService = Executors.newScheduledThreadPool(1);
-        } else {
-            notifs = Optional.empty();
-        }
-
-        if (notifs.isPresent()) {
-            final Collection<Notification> toCopy = notifs.get().getNotificationList();
-            final Map<Notification, NetconfMessage> preparedMessages = Maps.newHashMapWithExpectedSize(toCopy.size());
-            for (final Notification notification : toCopy) {
-                final NetconfMessage parsedNotification = parseNetconfNotification(notification.getContent());
-                preparedMessages.put(notification, parsedNotification);
-            }
-            this.notifications = preparedMessages;
-        } else {
-            this.notifications = Collections.emptyMap();
+    private static Map<Notification, PreEncodedNotification> prepareNotifications(final File file) {
+        final Collection<Notification> toCopy = loadNotifications(file).getNotificationList();
+        final Map<Notification, PreEncodedNotification> preparedMessages =
+                Maps.newHashMapWithExpectedSize(toCopy.size());
+        for (final Notification notification : toCopy) {
+            final NetconfMessage parsedNotification = parseNetconfNotification(notification.getContent());
+            preparedMessages.put(notification, PreEncodedNotification.of(parsedNotification));
         }
+        return Collections.unmodifiableMap(preparedMessages);
     }
 
     private static Notifications loadNotifications(final File file) {
@@ -91,12 +100,18 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
     protected Element handleWithNoSubsequentOperations(final Document document, final XmlElement operationElement) {
         long delayAggregator = 0;
 
-        for (final Map.Entry<Notification, NetconfMessage> notification : notifications.entrySet()) {
+        for (final Map.Entry<Notification, PreEncodedNotification> notification : notifications.entrySet()) {
+            if (notification.getKey().getRate() > 0) {
+                delayAggregator += notification.getKey().getDelayInSeconds();
+                new NotificationStream(notification.getKey(), notification.getValue()).start(delayAggregator);
+                continue;
+            }
+
             for (int i = 0; i <= notification.getKey().getTimes(); i++) {
 
                 delayAggregator += notification.getKey().getDelayInSeconds();
 
-                scheduledExecutorService.schedule(() -> {
+                SCHEDULED_EXECUTOR.schedule(() -> {
                     Preconditions.checkState(session != null, "Session is not set, cannot process notifications");
                     session.sendMessage(notification.getValue());
                 }, delayAggregator, TimeUnit.SECONDS);
@@ -125,6 +140,90 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
         this.session = newSession;
     }
 
+    /**
+     * A rate-driven stream of a single notification. It sends the notification in bursts of configured size, spaced
+     * so that the configured rate is achieved, and reports the achieved rate once done. A burst is not sent until the
+     * previous one has been written out, so a session which cannot keep up delays the stream rather than accumulating
+     * an unbounded backlog.
+     */
+    private final class NotificationStream implements Runnable {
+        private final AtomicLong sent = new AtomicLong();
+        private final PreEncodedNotification burst;
+        private final int burstSize;
+        private final long rate;
+        private final long periodNanos;
+
+        private long remaining;
+        private long startNanos;
+        private long ticks;
+        private long stalled;
+        private ChannelFuture inFlight;
+
+        NotificationStream(final Notification notification, final PreEncodedNotification message) {
+            this.rate = notification.getRate();
+            this.burstSize = notification.getBurstSize();
+            this.burst = message.withCount(burstSize);
+            // Same number of messages as a delay-driven notification would send
+            this.remaining = notification.getTimes() + 1;
+            this.periodNanos = Math.max(1, TimeUnit.SECONDS.toNanos(burstSize) / rate);
+        }
+
+        void start(final long delayInSeconds) {
+            SCHEDULED_EXECUTOR.schedule(() -> {
+                startNanos = System.nanoTime();
+                NotificationRateMeter.INSTANCE.streamStarted();
+                run();
+            }, delayInSeconds, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void run() {
+            Preconditions.checkState(session != null, "Session is not set, cannot process notifications");
+            if (!session.isUp()) {
+                LOG.info("Session {} is down, stopping notification stream with {} messages remaining", session,
+                    remaining);
+                finish();
+                return;
+            }
+
+            ticks++;
+            if (inFlight == null || inFlight.isDone()) {
+                final int count = (int) Math.min(burstSize, remaining);
+                remaining -= count;
+
+                final ChannelFuture future = session.sendMessage(count == burstSize ? burst : burst.withCount(count));
+                future.addListener(sendFuture -> {
+                    if (sendFuture.isSuccess()) {
+                        sent.addAndGet(count);
+                        NotificationRateMeter.INSTANCE.recordSent(count);
+                    } else {
+                        LOG.debug("Failed to send notification burst on session {}", session, sendFuture.cause());
+                    }
+                });
+                inFlight = future;
+
+                if (remaining == 0) {
+                    future.addListener(sendFuture -> finish());
+                    return;
+                }
+            } else {
+                stalled++;
+            }
+
+            final long delay = startNanos + ticks * periodNanos - System.nanoTime();
+            SCHEDULED_EXECUTOR.schedule(this, Math.max(0, delay), TimeUnit.NANOSECONDS);
+        }
+
+        private void finish() {
+            final long elapsed = System.nanoTime() - startNanos;
+            final long count = sent.get();
+            LOG.info("Session {} sent {} notifications in {} ms, achieved {} msg/s with target {} msg/s in bursts of {}"
+                + " ({} bursts delayed by slow writes)", session, count, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                elapsed > 0 ? count * TimeUnit.SECONDS.toNanos(1) / elapsed : count, rate, burstSize, stalled);
+            NotificationRateMeter.INSTANCE.streamFinished();
+        }
+    }
+
     @XmlRootElement(name = "notifications")
     public static final class Notifications {
 
@@ -152,6 +251,12 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
         @javax.xml.bind.annotation.XmlElement(nillable = false, name = "times")
         private long times;
 
+        @javax.xml.bind.annotation.XmlElement(nillable = false, name = "rate")
+        private long rate;
+
+        @javax.xml.bind.annotation.XmlElement(nillable = false, name = "burst")
+        private int burstSize;
+
         @javax.xml.bind.annotation.XmlElement(nillable = false, name = "content", required = true)
         private String content;
 
@@ -163,6 +268,27 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
             return times;
         }
 
+        /**
+         * Return the target rate of this notification, in messages per second and per simulated device. When
+         * non-zero, the notification is sent as a rate-driven stream instead of each repetition being spaced by the
+         * delay. The delay is then only applied once, before the stream starts.
+         *
+         * @return Target rate, or zero if this notification is delay-driven
+         */
+        public long getRate() {
+            return rate;
+        }
+
+        /**
+         * Return the number of messages sent back-to-back in each burst of a rate-driven notification. A burst size
+         * of one results in a smooth stream, larger bursts result in spikes with idle time in between.
+         *
+         * @return Burst size, at least one
+         */
+        public int getBurstSize() {
+            return Math.max(1, burstSize);
+        }
+
         public String getContent() {
             return content;
         }
@@ -172,6 +298,8 @@ public class SimulatedCreateSubscription extends AbstractLastNetconfOperation im
             final StringBuilder sb = new StringBuilder("Notification{");
             sb.append("delayInSeconds=").append(delayInSeconds);
             sb.append(", times=").append(times);
+            sb.append(", rate=").append(rate);
+            sb.append(", burstSize=").append(burstSize);
             sb.append(", content='").append(content).append('\'');
             sb.append('}');
             return sb.toString();
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class NetconfDeviceSimulatorTest {
+    @Test
+    public void testMultiplexedUserName() {
+        assertEquals(42, NetconfDeviceSimulator.deviceIndex("admin@42"));
+        assertEquals("admin", NetconfDeviceSimulator.userName("admin@42"));
+        assertEquals(0, NetconfDeviceSimulator.deviceIndex("user@example.com@0"));
+        assertEquals("user@example.com", NetconfDeviceSimulator.userName("user@example.com@0"));
+    }
+
+    @Test
+    public void testInvalidMultiplexedUserName() {
+        assertEquals(-1, NetconfDeviceSimulator.deviceIndex("admin"));
+        assertEquals("admin", NetconfDeviceSimulator.userName("admin"));
+        assertEquals(-1, NetconfDeviceSimulator.deviceIndex("admin@device"));
+        assertEquals(-1, NetconfDeviceSimulator.deviceIndex("admin@"));
+    }
+}
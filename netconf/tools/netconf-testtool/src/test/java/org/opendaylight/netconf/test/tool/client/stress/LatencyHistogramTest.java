@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testEmpty() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0, histogram.getMeanValue());
+    }
+
+    @Test
+    public void testBucketBoundaries() {
+        long previous = -1;
+        for (long value : new long[] { 0, 1, 127, 128, 129, 130, 255, 256, 1_000_000, Long.MAX_VALUE }) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            final long highest = LatencyHistogram.highestEquivalentValue(index);
+            assertTrue(value + " above " + highest, value <= highest);
+            assertTrue(value + " too far from " + highest, highest - value <= value / 64);
+            assertTrue(highest >= previous);
+            previous = highest;
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; ++i) {
+            histogram.recordValue(i * 1000);
+        }
+
+        assertEquals(10_000, histogram.getTotalCount());
+        assertEquals(10_000_000, histogram.getMaxValue());
+        assertEquals(5_000_500, histogram.getMeanValue());
+        assertWithinPrecision(5_000_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(9_900_000, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(9_990_000, histogram.getValueAtPercentile(99.9));
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    private static void assertWithinPrecision(final long expected, final long actual) {
+        assertTrue("Expected " + expected + " actual " + actual,
+            actual >= expected && actual - expected <= expected / 64);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.client.stress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class OperationMixTest {
+    @Test
+    public void testWeightedMix() {
+        final OperationMix mix = OperationMix.parse("edit-config=6, get=2,get-config=1,commit=1");
+        assertTrue(mix.contains(OperationType.COMMIT));
+
+        final Map<OperationType, Integer> counts = new EnumMap<>(OperationType.class);
+        for (int i = 0; i < 100; ++i) {
+            counts.merge(mix.next(), 1, Integer::sum);
+        }
+        assertEquals(Integer.valueOf(60), counts.get(OperationType.EDIT_CONFIG));
+        assertEquals(Integer.valueOf(20), counts.get(OperationType.GET));
+        assertEquals(Integer.valueOf(10), counts.get(OperationType.GET_CONFIG));
+        assertEquals(Integer.valueOf(10), counts.get(OperationType.COMMIT));
+    }
+
+    @Test
+    public void testDefaultWeight() {
+        final OperationMix mix = OperationMix.parse("edit-config");
+        assertFalse(mix.contains(OperationType.GET));
+        assertEquals(OperationType.EDIT_CONFIG, mix.next());
+        assertEquals(OperationType.EDIT_CONFIG, mix.next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownOperation() {
+        OperationMix.parse("edit-config=1,delete-config=1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroWeights() {
+        OperationMix.parse("get=0");
+    }
+}
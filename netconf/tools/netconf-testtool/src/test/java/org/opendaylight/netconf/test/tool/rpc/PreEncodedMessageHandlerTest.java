@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.test.tool.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.MessageToByteEncoder;
+import java.nio.charset.StandardCharsets;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.nettyutil.AbstractChannelInitializer;
+import org.opendaylight.netconf.nettyutil.handler.EOMFramingMechanismEncoder;
+import org.opendaylight.netconf.nettyutil.handler.NetconfMessageToXMLEncoder;
+
+public class PreEncodedMessageHandlerTest {
+    private static final String NOTIFICATION = "<notification xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\">"
+        + "<eventTime>2020-01-01T00:00:00Z</eventTime><event xmlns=\"urn:test\"><value>1</value></event>"
+        + "</notification>";
+
+    private NetconfMessage message;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() throws Exception {
+        message = new NetconfMessage(XmlUtil.readXmlToDocument(NOTIFICATION));
+        channel = new EmbeddedChannel();
+        channel.pipeline().addLast(AbstractChannelInitializer.NETCONF_MESSAGE_FRAME_ENCODER,
+            new EOMFramingMechanismEncoder());
+        channel.pipeline().addLast(AbstractChannelInitializer.NETCONF_MESSAGE_ENCODER,
+            new NetconfMessageToXMLEncoder());
+        channel.pipeline().addLast(PreEncodedMessageHandler.HANDLER_NAME, PreEncodedMessageHandler.INSTANCE);
+    }
+
+    @Test
+    public void testPreEncodedBurst() {
+        channel.writeAndFlush(message);
+        final String expected = readOutbound();
+
+        final PreEncodedNotification burst = PreEncodedNotification.of(message).withCount(3);
+        channel.writeAndFlush(burst);
+        channel.writeAndFlush(burst);
+        for (int i = 0; i < 6; ++i) {
+            assertEquals(expected, readOutbound());
+        }
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    public void testFallbackToMessageEncoder() {
+        final CountingEncoder encoder = new CountingEncoder();
+        channel.pipeline().replace(AbstractChannelInitializer.NETCONF_MESSAGE_ENCODER,
+            AbstractChannelInitializer.NETCONF_MESSAGE_ENCODER, encoder);
+
+        final PreEncodedNotification burst = PreEncodedNotification.of(message).withCount(2);
+        channel.writeAndFlush(burst);
+        assertEquals(2, encoder.encoded);
+        assertSame(message.getDocument(), encoder.last.getDocument());
+    }
+
+    private String readOutbound() {
+        final ByteBuf buf = channel.readOutbound();
+        try {
+            return buf.toString(StandardCharsets.UTF_8);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static final class CountingEncoder extends MessageToByteEncoder<NetconfMessage> {
+        int encoded;
+        NetconfMessage last;
+
+        @Override
+        protected void encode(final ChannelHandlerContext ctx, final NetconfMessage msg, final ByteBuf out) {
+            encoded++;
+            last = msg;
+            out.writeByte('x');
+        }
+    }
+}
@@ -15,12 +15,17 @@ import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsCo
 import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsConstants.STREAM_LOCATION_PATH_PART;
 import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsConstants.STREAM_PATH;
 
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import javax.ws.rs.Path;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
@@ -129,6 +134,26 @@ public class RestconfDataServiceImpl implements RestconfDataService {
 
     @Override
     public Response readData(final String identifier, final UriInfo uriInfo) {
+        try {
+            return readDataAsync(identifier, uriInfo).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestconfDocumentedException("Read of " + identifier + " was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RestconfDocumentedException("Read of " + identifier + " failed", e);
+        }
+    }
+
+    /**
+     * Get target data resource without waiting for the underlying reads to complete. All reads required by the
+     * request are issued before this method returns, so that a slow datastore or device does not hold up the caller.
+     *
+     * @param identifier path to target
+     * @param uriInfo URI info
+     * @return Future response
+     */
+    public ListenableFuture<Response> readDataAsync(final String identifier, final UriInfo uriInfo) {
         final SchemaContextRef schemaContextRef = new SchemaContextRef(this.schemaContextHandler.get());
         final InstanceIdentifierContext<?> instanceIdentifier = ParserIdentifier.toInstanceIdentifier(
                 identifier, schemaContextRef.get(), Optional.of(this.mountPointServiceHandler.get()));
@@ -137,8 +162,15 @@ public class RestconfDataServiceImpl implements RestconfDataService {
         final DOMMountPoint mountPoint = instanceIdentifier.getMountPoint();
         final TransactionVarsWrapper transactionNode = new TransactionVarsWrapper(
                 instanceIdentifier, mountPoint, getTransactionChainHandler(mountPoint));
-        final NormalizedNode<?, ?> node = ReadDataTransactionUtil.readData(identifier, parameters.getContent(),
-                transactionNode, parameters.getWithDefault(), schemaContextRef, uriInfo);
+        return Futures.transform(ReadDataTransactionUtil.readDataAsync(identifier, parameters.getContent(),
+                transactionNode, parameters.getWithDefault(), schemaContextRef, uriInfo),
+            node -> toResponse(identifier, uriInfo, instanceIdentifier, parameters, node),
+            MoreExecutors.directExecutor());
+    }
+
+    private Response toResponse(final String identifier, final UriInfo uriInfo,
+            final InstanceIdentifierContext<?> instanceIdentifier, final WriterParameters parameters,
+            final @Nullable NormalizedNode<?, ?> node) {
         if (identifier != null && identifier.contains(STREAM_PATH) && identifier.contains(STREAM_ACCESS_PATH_PART)
                 && identifier.contains(STREAM_LOCATION_PATH_PART)) {
             final String value = (String) node.getValue();
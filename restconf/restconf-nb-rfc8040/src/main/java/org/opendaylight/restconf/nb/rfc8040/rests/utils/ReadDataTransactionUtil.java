@@ -10,14 +10,20 @@ package org.opendaylight.restconf.nb.rfc8040.rests.utils;
 import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsConstants.STREAMS_PATH;
 import static org.opendaylight.restconf.nb.rfc8040.rests.utils.RestconfStreamsConstants.STREAM_PATH_PART;
 
+import com.google.common.base.Throwables;
 import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.ws.rs.core.UriInfo;
@@ -220,18 +226,33 @@ public final class ReadDataTransactionUtil {
      */
     public static @Nullable NormalizedNode<?, ?> readData(final @NonNull String valueOfContent,
             final @NonNull TransactionVarsWrapper transactionNode, final String withDefa, final SchemaContext ctx) {
+        return waitForData(readDataAsync(valueOfContent, transactionNode, withDefa, ctx));
+    }
+
+    /**
+     * Read specific type of data from data store via transaction, without waiting for the read to complete. All
+     * required reads are issued before this method returns. Close {@link DOMTransactionChain} inside of object
+     * {@link TransactionVarsWrapper} provided as a parameter once they complete.
+     *
+     * @param valueOfContent
+     *            type of data to read (config, state, all)
+     * @param transactionNode
+     *            {@link TransactionVarsWrapper} - wrapper for variables
+     * @param withDefa
+     *            vaule of with-defaults parameter
+     * @param ctx
+     *            schema context
+     * @return Future {@link NormalizedNode}, completing with null if there is no data
+     */
+    public static @NonNull ListenableFuture<NormalizedNode<?, ?>> readDataAsync(final @NonNull String valueOfContent,
+            final @NonNull TransactionVarsWrapper transactionNode, final String withDefa, final SchemaContext ctx) {
         switch (valueOfContent) {
             case RestconfDataServiceConstant.ReadData.CONFIG:
                 transactionNode.setLogicalDatastoreType(LogicalDatastoreType.CONFIGURATION);
-                if (withDefa == null) {
-                    return readDataViaTransaction(transactionNode);
-                } else {
-                    return prepareDataByParamWithDef(readDataViaTransaction(transactionNode),
-                            transactionNode.getInstanceIdentifier().getInstanceIdentifier(), withDefa, ctx);
-                }
+                return readDataViaTransaction(transactionNode, withDefa, ctx);
             case RestconfDataServiceConstant.ReadData.NONCONFIG:
                 transactionNode.setLogicalDatastoreType(LogicalDatastoreType.OPERATIONAL);
-                return readDataViaTransaction(transactionNode);
+                return readDataViaTransaction(transactionNode, null, ctx);
 
             case RestconfDataServiceConstant.ReadData.ALL:
                 return readAllData(transactionNode, withDefa, ctx);
@@ -266,11 +287,35 @@ public final class ReadDataTransactionUtil {
     public static NormalizedNode<?, ?> readData(final String identifier, final String content,
                                                 final TransactionVarsWrapper transactionNode, final String withDefa,
                                                 final SchemaContextRef schemaContextRef, final UriInfo uriInfo) {
+        return waitForData(readDataAsync(identifier, content, transactionNode, withDefa, schemaContextRef, uriInfo));
+    }
+
+    /**
+     * Asynchronous variant of {@link #readData(String, String, TransactionVarsWrapper, String, SchemaContextRef,
+     * UriInfo)}.
+     *
+     * @param identifier
+     *             identifier of data to read
+     * @param content
+     *             type of data to read (config, state, all)
+     * @param transactionNode
+     *             {@link TransactionVarsWrapper} - wrapper for variables
+     * @param withDefa
+     *             vaule of with-defaults parameter
+     * @param schemaContextRef
+     *             schema context
+     * @param uriInfo
+     *             uri info
+     * @return Future {@link NormalizedNode}, completing with null if there is no data
+     */
+    public static @NonNull ListenableFuture<NormalizedNode<?, ?>> readDataAsync(final String identifier,
+            final String content, final TransactionVarsWrapper transactionNode, final String withDefa,
+            final SchemaContextRef schemaContextRef, final UriInfo uriInfo) {
         final SchemaContext schemaContext = schemaContextRef.get();
         if (identifier != null && identifier.contains(STREAMS_PATH) && !identifier.contains(STREAM_PATH_PART)) {
             createAllYangNotificationStreams(transactionNode, schemaContextRef, uriInfo);
         }
-        return readData(content, transactionNode, withDefa, schemaContext);
+        return readDataAsync(content, transactionNode, withDefa, schemaContext);
     }
 
     private static void createAllYangNotificationStreams(final TransactionVarsWrapper transactionNode,
@@ -427,55 +472,35 @@ public final class ReadDataTransactionUtil {
     }
 
     /**
-     * If is set specific {@link LogicalDatastoreType} in
-     * {@link TransactionVarsWrapper}, then read this type of data from DS. If
-     * don't, we have to read all data from DS (state + config).
-     * This method will close {@link org.opendaylight.mdsal.dom.api.DOMTransactionChain} inside of
-     * {@link TransactionVarsWrapper}.
-     *
-     * @param transactionNode
-     *             {@link TransactionVarsWrapper} - wrapper for variables
-     * @return {@link NormalizedNode}
-     */
-    private static @Nullable NormalizedNode<?, ?> readDataViaTransaction(
-            final @NonNull TransactionVarsWrapper transactionNode) {
-        return readDataViaTransaction(transactionNode, true);
-    }
-
-
-    /**
-     * If is set specific {@link LogicalDatastoreType} in
-     * {@link TransactionVarsWrapper}, then read this type of data from DS. If
-     * don't, we have to read all data from DS (state + config)
+     * Read data of the {@link LogicalDatastoreType} set in {@link TransactionVarsWrapper} from DS. This method will
+     * close {@link org.opendaylight.mdsal.dom.api.DOMTransactionChain} inside of {@link TransactionVarsWrapper} once
+     * the read completes.
      *
      * @param transactionNode
      *             {@link TransactionVarsWrapper} - wrapper for variables
-     * @param closeTransactionChain
-     *             If is set to true, after transaction it will close transactionChain in {@link TransactionVarsWrapper}
-     * @return {@link NormalizedNode}
+     * @param withDefa
+     *             with-defaults parameter, or null
+     * @param ctx
+     *             schema context
+     * @return Future {@link NormalizedNode}
      */
-    private static @Nullable NormalizedNode<?, ?> readDataViaTransaction(
-            final @NonNull TransactionVarsWrapper transactionNode, final boolean closeTransactionChain) {
-        final NormalizedNodeFactory dataFactory = new NormalizedNodeFactory();
-        try (DOMDataTreeReadTransaction tx = transactionNode.getTransactionChain().newReadOnlyTransaction()) {
-            final FluentFuture<Optional<NormalizedNode<?, ?>>> listenableFuture = tx.read(
-                transactionNode.getLogicalDatastoreType(),
-                transactionNode.getInstanceIdentifier().getInstanceIdentifier());
-            if (closeTransactionChain) {
-                //Method close transactionChain inside of TransactionVarsWrapper, if is provide as a parameter.
-                FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
-                        dataFactory, transactionNode.getTransactionChain());
-            } else {
-                FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
-                        dataFactory);
-            }
-        }
-        return dataFactory.build();
+    private static ListenableFuture<NormalizedNode<?, ?>> readDataViaTransaction(
+            final @NonNull TransactionVarsWrapper transactionNode, final String withDefa, final SchemaContext ctx) {
+        final YangInstanceIdentifier path = transactionNode.getInstanceIdentifier().getInstanceIdentifier();
+        final DOMDataTreeReadTransaction tx = transactionNode.getTransactionChain().newReadOnlyTransaction();
+        final FluentFuture<Optional<NormalizedNode<?, ?>>> future =
+            tx.read(transactionNode.getLogicalDatastoreType(), path);
+
+        return whenAllComplete(transactionNode, tx, () -> {
+            final NormalizedNode<?, ?> data = buildData(future);
+            return withDefa == null ? data : prepareDataByParamWithDef(data, path, withDefa, ctx);
+        }, future);
     }
 
     /**
-     * Read config and state data, then map them. Close {@link DOMTransactionChain} inside of object
-     * {@link TransactionVarsWrapper} provided as a parameter.
+     * Read config and state data, then map them. Both reads are issued before waiting for either of them, so that
+     * they proceed concurrently. Close {@link DOMTransactionChain} inside of object {@link TransactionVarsWrapper}
+     * provided as a parameter once they complete.
      *
      * @param transactionNode
      *            {@link TransactionVarsWrapper} - wrapper for variables
@@ -483,25 +508,27 @@ public final class ReadDataTransactionUtil {
      *            with-defaults parameter
      * @param ctx
      *            schema context
-     * @return {@link NormalizedNode}
+     * @return Future {@link NormalizedNode}
      */
-    private static @Nullable NormalizedNode<?, ?> readAllData(final @NonNull TransactionVarsWrapper transactionNode,
-            final String withDefa, final SchemaContext ctx) {
-        // PREPARE STATE DATA NODE
-        transactionNode.setLogicalDatastoreType(LogicalDatastoreType.OPERATIONAL);
-        final NormalizedNode<?, ?> stateDataNode = readDataViaTransaction(transactionNode, false);
-
-        // PREPARE CONFIG DATA NODE
-        transactionNode.setLogicalDatastoreType(LogicalDatastoreType.CONFIGURATION);
-        final NormalizedNode<?, ?> configDataNode;
-        //Here will be closed transactionChain
-        if (withDefa == null) {
-            configDataNode = readDataViaTransaction(transactionNode);
-        } else {
-            configDataNode = prepareDataByParamWithDef(readDataViaTransaction(transactionNode),
-                    transactionNode.getInstanceIdentifier().getInstanceIdentifier(), withDefa, ctx);
-        }
+    private static ListenableFuture<NormalizedNode<?, ?>> readAllData(
+            final @NonNull TransactionVarsWrapper transactionNode, final String withDefa, final SchemaContext ctx) {
+        final YangInstanceIdentifier path = transactionNode.getInstanceIdentifier().getInstanceIdentifier();
+        final DOMDataTreeReadTransaction tx = transactionNode.getTransactionChain().newReadOnlyTransaction();
+        final FluentFuture<Optional<NormalizedNode<?, ?>>> stateFuture =
+            tx.read(LogicalDatastoreType.OPERATIONAL, path);
+        final FluentFuture<Optional<NormalizedNode<?, ?>>> configFuture =
+            tx.read(LogicalDatastoreType.CONFIGURATION, path);
+
+        return whenAllComplete(transactionNode, tx, () -> {
+            final NormalizedNode<?, ?> stateDataNode = buildData(stateFuture);
+            final NormalizedNode<?, ?> configDataNode = withDefa == null ? buildData(configFuture)
+                : prepareDataByParamWithDef(buildData(configFuture), path, withDefa, ctx);
+            return mergeReadData(stateDataNode, configDataNode);
+        }, stateFuture, configFuture);
+    }
 
+    private static @Nullable NormalizedNode<?, ?> mergeReadData(final @Nullable NormalizedNode<?, ?> stateDataNode,
+            final @Nullable NormalizedNode<?, ?> configDataNode) {
         // if no data exists
         if (stateDataNode == null && configDataNode == null) {
             return null;
@@ -521,6 +548,43 @@ public final class ReadDataTransactionUtil {
         return mergeStateAndConfigData(stateDataNode, configDataNode);
     }
 
+    /**
+     * Invoke specified function once all specified futures complete, then close the read-only transaction and
+     * {@link DOMTransactionChain} inside of {@link TransactionVarsWrapper}.
+     */
+    private static ListenableFuture<NormalizedNode<?, ?>> whenAllComplete(
+            final @NonNull TransactionVarsWrapper transactionNode, final DOMDataTreeReadTransaction tx,
+            final Callable<NormalizedNode<?, ?>> function, final ListenableFuture<?>... futures) {
+        return Futures.whenAllComplete(futures).call(() -> {
+            try {
+                return function.call();
+            } finally {
+                tx.close();
+                transactionNode.getTransactionChain().close();
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private static @Nullable NormalizedNode<?, ?> buildData(
+            final ListenableFuture<Optional<NormalizedNode<?, ?>>> future) {
+        final NormalizedNodeFactory dataFactory = new NormalizedNodeFactory();
+        // The future has already completed, hence this does not block
+        FutureCallbackTx.addCallback(future, RestconfDataServiceConstant.ReadData.READ_TYPE_TX, dataFactory);
+        return dataFactory.build();
+    }
+
+    private static @Nullable NormalizedNode<?, ?> waitForData(final ListenableFuture<NormalizedNode<?, ?>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RestconfDocumentedException("Transaction failed", e);
+        } catch (ExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new RestconfDocumentedException("Transaction failed", e);
+        }
+    }
+
     /**
      * Merge state and config data into a single NormalizedNode.
      *
@@ -14,10 +14,14 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opendaylight.yangtools.util.concurrent.FluentFutures.immediateFluentFuture;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.Collections;
 import java.util.Optional;
 import javax.ws.rs.core.MultivaluedHashMap;
@@ -102,6 +106,24 @@ public class ReadDataTransactionUtilTest {
         assertEquals(DATA.data3, normalizedNode);
     }
 
+    @Test
+    public void readDataInterruptedTest() {
+        final FluentFuture<Optional<NormalizedNode<?, ?>>> pending = FluentFuture.from(SettableFuture.create());
+        doReturn(pending).when(read).read(LogicalDatastoreType.CONFIGURATION, DATA.path);
+        doReturn(DATA.path).when(context).getInstanceIdentifier();
+
+        Thread.currentThread().interrupt();
+        try {
+            ReadDataTransactionUtil.readData(RestconfDataServiceConstant.ReadData.CONFIG, wrapper, schemaContext);
+            fail("Expected RestconfDocumentedException");
+        } catch (RestconfDocumentedException e) {
+            assertTrue(e.getCause() instanceof InterruptedException);
+        } finally {
+            // Also clears the flag for subsequent tests
+            assertTrue("Interrupt flag was not restored", Thread.interrupted());
+        }
+    }
+
     @Test
     public void readAllHavingOnlyConfigTest() {
         doReturn(immediateFluentFuture(Optional.of(DATA.data3))).when(read)
@@ -176,6 +198,33 @@ public class ReadDataTransactionUtilTest {
         assertEquals(checkingData, normalizedNode);
     }
 
+    @Test
+    public void readAllIssuesReadsConcurrentlyTest() throws Exception {
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> state = SettableFuture.create();
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> config = SettableFuture.create();
+        doReturn(FluentFuture.from(state)).when(read).read(LogicalDatastoreType.OPERATIONAL, DATA.path);
+        doReturn(FluentFuture.from(config)).when(read).read(LogicalDatastoreType.CONFIGURATION, DATA.path);
+        doReturn(DATA.path).when(context).getInstanceIdentifier();
+
+        final ListenableFuture<NormalizedNode<?, ?>> future = ReadDataTransactionUtil.readDataAsync(
+                RestconfDataServiceConstant.ReadData.ALL, wrapper, null, schemaContext);
+        // Both reads have been issued, none of them has completed yet
+        verify(read).read(LogicalDatastoreType.OPERATIONAL, DATA.path);
+        verify(read).read(LogicalDatastoreType.CONFIGURATION, DATA.path);
+        assertFalse(future.isDone());
+
+        config.set(Optional.of(DATA.data3));
+        assertFalse(future.isDone());
+        state.set(Optional.of(DATA.data4));
+        assertEquals(Builders.containerBuilder()
+                .withNodeIdentifier(NODE_IDENTIFIER)
+                .withChild(DATA.contentLeaf)
+                .withChild(DATA.contentLeaf2)
+                .build(), future.get());
+        verify(read).close();
+        verify(transactionChain).close();
+    }
+
     @Test
     public void readListDataAllTest() {
         doReturn(immediateFluentFuture(Optional.of(DATA.listData))).when(read)